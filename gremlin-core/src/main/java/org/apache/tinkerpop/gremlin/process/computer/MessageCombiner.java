@@ -39,4 +39,32 @@ public interface MessageCombiner<M> extends Serializable {
      * @return the combination of the two messages
      */
     public M combine(final M messageA, final M messageB);
+
+    /**
+     * A MessageCombiner for messages that are doubles.
+     * A {@link GraphComputer} can use the primitive combine to store and combine messages without boxing them.
+     */
+    public interface DoubleCombiner extends MessageCombiner<Double> {
+
+        public double combine(final double messageA, final double messageB);
+
+        @Override
+        public default Double combine(final Double messageA, final Double messageB) {
+            return this.combine(messageA.doubleValue(), messageB.doubleValue());
+        }
+    }
+
+    /**
+     * A MessageCombiner for messages that are longs.
+     * A {@link GraphComputer} can use the primitive combine to store and combine messages without boxing them.
+     */
+    public interface LongCombiner extends MessageCombiner<Long> {
+
+        public long combine(final long messageA, final long messageB);
+
+        @Override
+        public default Long combine(final Long messageA, final Long messageB) {
+            return this.combine(messageA.longValue(), messageB.longValue());
+        }
+    }
 }
@@ -122,14 +122,14 @@ public abstract class MessageScope {
 
         @Override
         public int hashCode() {
-            return this.edgeFunction.hashCode() + this.incidentTraversal.get().toString().hashCode();
+            return this.edgeFunction.hashCode() + this.toStringOfTraversal.hashCode();
         }
 
         @Override
         public boolean equals(final Object other) {
             return other instanceof Local &&
                     ((Local<?>) other).toStringOfTraversal.equals(this.toStringOfTraversal) &&
-                    ((Local<?>) other).edgeFunction == this.edgeFunction;
+                    ((Local<?>) other).edgeFunction.equals(this.edgeFunction);
         }
 
         /**
@@ -36,9 +36,12 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.MapReducer;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectCapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalClassFunction;
@@ -57,10 +60,13 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -73,6 +79,13 @@ import java.util.function.Supplier;
  * then the vertex continues to compute the next traverser. If the traverser references another location in the graph,
  * then the traverser is sent to that location in the graph via a message. The messages of TraversalVertexProgram are traversers.
  * This continues until all traversers in the computation have halted.
+ * <p/>
+ * Traversers located at a simple adjacent step (e.g. {@code out('knows')} or {@code in()}) are not processed at their vertex.
+ * Instead, they are sent via a {@link MessageScope.Local} along the incident edges of the step and the receiving vertices
+ * are their results. Thus, a {@link GraphComputer} that optimizes local message scopes can route those traversers
+ * along the adjacency of the vertex. All other remote traversers are sent via {@link MessageScope.Global}.
+ * Local message scopes are only used if {@link Builder#localMessageScopes(boolean)} is set (i.e. the graph computer
+ * supports them). Otherwise, all remote traversers are sent via {@link MessageScope.Global}.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
@@ -81,15 +94,17 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
     public static final String HALTED_TRAVERSERS = "gremlin.traversalVertexProgram.haltedTraversers";
     private static final String VOTE_TO_HALT = "gremlin.traversalVertexProgram.voteToHalt";
     public static final String TRAVERSAL_SUPPLIER = "gremlin.traversalVertexProgram.traversalSupplier";
+    public static final String LOCAL_MESSAGE_SCOPES = "gremlin.traversalVertexProgram.localMessageScopes";
 
-    // TODO: if not an adjacent traversal, use Local message scope -- a dual messaging system.
-    private static final Set<MessageScope> MESSAGE_SCOPES = new HashSet<>(Collections.singletonList(MessageScope.Global.instance()));
     private static final Set<String> ELEMENT_COMPUTE_KEYS = new HashSet<>(Arrays.asList(HALTED_TRAVERSERS, TraversalSideEffects.SIDE_EFFECTS));
     private static final Set<String> MEMORY_COMPUTE_KEYS = new HashSet<>(Collections.singletonList(VOTE_TO_HALT));
 
     private ConfigurationTraversal<?, ?> configurationTraversal;
     private Traversal.Admin<?, ?> traversal;
     private TraversalMatrix<?, ?> traversalMatrix;
+    private boolean useLocalMessageScopes;
+    private Map<String, MessageScope.Local<TraverserSet<?>>> localMessageScopes;
+    private Set<MessageScope> messageScopes;
 
     private final Set<MapReduce> mapReducers = new HashSet<>();
 
@@ -125,12 +140,33 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
         }
         if (!(this.traversal.getEndStep().getPreviousStep() instanceof SideEffectCapStep) && !(this.traversal.getEndStep().getPreviousStep() instanceof ReducingBarrierStep))
             this.mapReducers.add(new TraverserMapReduce(this.traversal));
+        this.useLocalMessageScopes = configuration.getBoolean(LOCAL_MESSAGE_SCOPES, false);
+        this.loadMessageScopes();
     }
 
     @Override
     public void storeState(final Configuration configuration) {
         VertexProgram.super.storeState(configuration);
         this.configurationTraversal.storeState(configuration);
+        configuration.setProperty(LOCAL_MESSAGE_SCOPES, this.useLocalMessageScopes);
+    }
+
+    /**
+     * The local message scopes reference the steps of the traversal and thus, they are created for each traversal
+     * (i.e. for each clone of the program).
+     */
+    private void loadMessageScopes() {
+        this.localMessageScopes = new HashMap<>();
+        this.messageScopes = new HashSet<>(Collections.singletonList(MessageScope.Global.instance()));
+        if (!this.useLocalMessageScopes)
+            return;
+        for (final VertexStep<?> vertexStep : TraversalHelper.getStepsOfClass(VertexStep.class, this.traversal)) {
+            if (vertexStep.returnsVertex() && Direction.BOTH != vertexStep.getDirection() && !(vertexStep.getNextStep() instanceof EmptyStep)) {
+                final MessageScope.Local<TraverserSet<?>> localMessageScope = TraversalVertexProgram.createLocalMessageScope((VertexStep<Vertex>) vertexStep);
+                this.localMessageScopes.put(vertexStep.getId(), localMessageScope);
+                this.messageScopes.add(localMessageScope);
+            }
+        }
     }
 
     @Override
@@ -140,7 +176,7 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
 
     @Override
     public Set<MessageScope> getMessageScopes(final Memory memory) {
-        return MESSAGE_SCOPES;
+        return this.messageScopes;
     }
 
     @Override
@@ -164,7 +200,7 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
                     if (traverser.isHalted())
                         haltedTraversers.add((Traverser.Admin) traverser);
                     else
-                        memory.and(VOTE_TO_HALT, TraverserExecutor.execute(vertex, new SingleMessenger<>(messenger, new TraverserSet<>(traverser)), this.traversalMatrix));
+                        memory.and(VOTE_TO_HALT, TraverserExecutor.execute(vertex, new SingleMessenger<>(messenger, new TraverserSet<>(traverser)), this.traversalMatrix, this.localMessageScopes));
                 }
             } else {  // EDGES (process the first step via a message pass)
                 boolean voteToHalt = true;
@@ -186,7 +222,7 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
                 memory.and(VOTE_TO_HALT, voteToHalt);
             }
         } else {  // ITERATION 1+
-            memory.and(VOTE_TO_HALT, TraverserExecutor.execute(vertex, messenger, this.traversalMatrix));
+            memory.and(VOTE_TO_HALT, TraverserExecutor.execute(vertex, messenger, this.traversalMatrix, this.localMessageScopes));
         }
     }
 
@@ -227,6 +263,7 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
             final TraversalVertexProgram clone = (TraversalVertexProgram) super.clone();
             clone.traversal = this.traversal.clone();
             clone.traversalMatrix = new TraversalMatrix<>(clone.traversal);
+            clone.loadMessageScopes();
             return clone;
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
@@ -257,6 +294,11 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
                 return true;
             }
 
+            @Override
+            public boolean requiresLocalMessageScopes() {
+                return !localMessageScopes.isEmpty();
+            }
+
             @Override
             public boolean requiresVertexPropertyAddition() {
                 return true;
@@ -272,6 +314,64 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
 
     //////////////
 
+    private static MessageScope.Local<TraverserSet<?>> createLocalMessageScope(final VertexStep<Vertex> vertexStep) {
+        final Direction direction = vertexStep.getDirection();
+        final String[] edgeLabels = vertexStep.getEdgeLabels();
+        return MessageScope.Local.of(() -> Direction.OUT == direction ? __.<Vertex>outE(edgeLabels) : __.<Vertex>inE(edgeLabels), new AdjacentStepFunction(vertexStep));
+    }
+
+    /**
+     * Moves the traversers of a local message from the sending vertex to the adjacent vertex of the edge.
+     * This is the processing of the {@link VertexStep} that the traversers were located at when they were sent.
+     * The message may be shared by all the receiving vertices and thus, it is never mutated. Functions are equal if
+     * they are for the same step so that the local message scopes of the clones of the program (one per worker) are
+     * equal and share a message store.
+     */
+    private static final class AdjacentStepFunction implements BiFunction<TraverserSet<?>, Edge, TraverserSet<?>> {
+
+        private final VertexStep<Vertex> vertexStep;
+        private final Direction adjacentDirection;
+        private final String nextStepId;
+
+        private AdjacentStepFunction(final VertexStep<Vertex> vertexStep) {
+            this.vertexStep = vertexStep;
+            this.adjacentDirection = vertexStep.getDirection().opposite();
+            this.nextStepId = vertexStep.getNextStep().getId();
+        }
+
+        @Override
+        public TraverserSet<?> apply(final TraverserSet<?> message, final Edge edge) {
+            final Vertex adjacentVertex = edge.vertices(this.adjacentDirection).next();
+            final TraverserSet<Vertex> traverserSet = new TraverserSet<>();
+            for (final Traverser.Admin<?> traverser : message) {
+                final Traverser.Admin<Vertex> split = ((Traverser.Admin<Vertex>) traverser).split(adjacentVertex, this.vertexStep);
+                split.setStepId(this.nextStepId);
+                split.addLabels(this.vertexStep.getLabels());
+                split.detach();
+                traverserSet.add(split);
+            }
+            return traverserSet;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.vertexStep.getId().hashCode() ^ this.adjacentDirection.hashCode() ^ Arrays.hashCode(this.vertexStep.getEdgeLabels());
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof AdjacentStepFunction))
+                return false;
+            final AdjacentStepFunction otherFunction = (AdjacentStepFunction) other;
+            return this.vertexStep.getId().equals(otherFunction.vertexStep.getId()) &&
+                    this.adjacentDirection == otherFunction.adjacentDirection &&
+                    this.nextStepId.equals(otherFunction.nextStepId) &&
+                    Arrays.equals(this.vertexStep.getEdgeLabels(), otherFunction.vertexStep.getEdgeLabels());
+        }
+    }
+
+    //////////////
+
     public static Builder build() {
         return new Builder();
     }
@@ -297,6 +397,15 @@ public final class TraversalVertexProgram implements VertexProgram<TraverserSet<
             return this;
         }
 
+        /**
+         * Whether traversers at simple adjacent steps are sent via {@link MessageScope.Local}. This should only be
+         * set if the {@link GraphComputer} that executes the program supports local message scopes.
+         */
+        public Builder localMessageScopes(final boolean localMessageScopes) {
+            this.configuration.setProperty(LOCAL_MESSAGE_SCOPES, localMessageScopes);
+            return this;
+        }
+
         // TODO Builder resolveElements(boolean) to be fed to ComputerResultStep
     }
 
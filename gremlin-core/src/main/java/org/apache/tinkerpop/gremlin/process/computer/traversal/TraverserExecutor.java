@@ -31,6 +31,9 @@ import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -39,6 +42,16 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public final class TraverserExecutor {
 
     public static boolean execute(final Vertex vertex, final Messenger<TraverserSet<?>> messenger, final TraversalMatrix<?, ?> traversalMatrix) {
+        return TraverserExecutor.execute(vertex, messenger, traversalMatrix, Collections.emptyMap());
+    }
+
+    /**
+     * Process the traversers at the vertex. A traverser that is located at a step with a {@link MessageScope.Local}
+     * is not processed. Instead, all such traversers are sent as a single message per scope and the step is processed
+     * by the edge function of the scope.
+     */
+    public static boolean execute(final Vertex vertex, final Messenger<TraverserSet<?>> messenger, final TraversalMatrix<?, ?> traversalMatrix,
+                                  final Map<String, ? extends MessageScope.Local<TraverserSet<?>>> localMessageScopes) {
 
         final TraverserSet<Object> haltedTraversers = vertex.value(TraversalVertexProgram.HALTED_TRAVERSERS);
         final AtomicBoolean voteToHalt = new AtomicBoolean(true);
@@ -56,6 +69,7 @@ public final class TraverserExecutor {
 
         // while there are still local traversers, process them until they leave the vertex or halt (i.e. isHalted()).
         final TraverserSet<Object> toProcessTraversers = new TraverserSet<>();
+        final Map<String, TraverserSet<Object>> localMessages = new HashMap<>();
         while (!aliveTraversers.isEmpty()) {
             // process all the local objects and send messages or store locally again
             aliveTraversers.forEach(traverser -> {
@@ -78,6 +92,11 @@ public final class TraverserExecutor {
             // process local traversers and if alive, repeat, else halt.
             aliveTraversers.clear();
             toProcessTraversers.forEach(start -> {
+                if (localMessageScopes.containsKey(start.getStepId())) {
+                    start.detach();
+                    localMessages.computeIfAbsent(start.getStepId(), stepId -> new TraverserSet<>()).add(start);
+                    return;
+                }
                 final Step<?, ?> step = traversalMatrix.getStepById(start.getStepId());
                 step.addStart((Traverser.Admin) start);
                 step.forEachRemaining(end -> {
@@ -91,6 +110,10 @@ public final class TraverserExecutor {
 
             toProcessTraversers.clear();
         }
+        if (!localMessages.isEmpty()) {
+            voteToHalt.set(false);
+            localMessages.forEach((stepId, traverserSet) -> messenger.sendMessage(localMessageScopes.get(stepId), traverserSet));
+        }
         return voteToHalt.get();
     }
 
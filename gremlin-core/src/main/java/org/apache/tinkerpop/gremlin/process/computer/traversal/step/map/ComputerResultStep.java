@@ -77,7 +77,7 @@ public final class ComputerResultStep<S> extends AbstractStep<S, S> implements B
         if (this.byPass) return this.starts.next();
         if (this.first && null == this.computerResult) {
             try {
-                populateTraversers(this.graphComputer.program(TraversalVertexProgram.build().traversal(this.getTraversal()).create(this.graph)).submit().get());
+                populateTraversers(this.graphComputer.program(TraversalVertexProgram.build().traversal(this.getTraversal()).localMessageScopes(this.graphComputer.features().supportsLocalMessageScopes()).create(this.graph)).submit().get());
             } catch (final Exception e) {
                 throw new IllegalStateException(e.getMessage(), e);
             }
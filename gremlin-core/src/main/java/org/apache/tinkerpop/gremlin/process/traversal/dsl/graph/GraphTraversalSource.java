@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.engine.ComputerTraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.engine.ParallelTraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
@@ -39,6 +40,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
@@ -59,6 +61,14 @@ public class GraphTraversalSource implements TraversalSource {
         return GraphTraversalSource.build().engine(ComputerTraversalEngine.build().computer(graphComputerClass));
     }
 
+    public static Builder parallel() {
+        return GraphTraversalSource.build().engine(ParallelTraversalEngine.build());
+    }
+
+    public static Builder parallel(final ForkJoinPool pool) {
+        return GraphTraversalSource.build().engine(ParallelTraversalEngine.build().pool(pool));
+    }
+
     ////
 
     private final transient Graph graph;
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.engine;
+
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Ranging;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TimeLimitStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FlatMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.BatchingStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.EngineDependentStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.LazyBarrierStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@code ParallelTraversalEngine} is a standard (OLTP) engine that evaluates the leading, stateless portion of a
+ * traversal in parallel on a {@link ForkJoinPool}. The elements of the {@link GraphStep} are split into partitions and
+ * each partition is processed by its own clone of the traversal. If that portion ends with a {@link ReducingBarrierStep},
+ * the partial results are merged with the step's {@link org.apache.tinkerpop.gremlin.process.computer.MapReduce}
+ * (see {@link ParallelStep}). The remainder of the traversal is evaluated serially. Lambdas used in the parallel portion
+ * must be thread-safe.
+ * <p/>
+ * <pre>
+ * g = GraphTraversalSource.parallel().create(graph)
+ * g.V().out().groupCount().by('name')
+ * </pre>
+ */
+public final class ParallelTraversalEngine implements TraversalEngine {
+
+    private final transient ForkJoinPool pool;
+
+    private ParallelTraversalEngine(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.STANDARD;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalEngineString(this);
+    }
+
+    @Override
+    public Optional<GraphComputer> getGraphComputer() {
+        return Optional.empty();
+    }
+
+    public ForkJoinPool getPool() {
+        return null == this.pool ? ForkJoinPool.commonPool() : this.pool;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder implements TraversalEngine.Builder {
+
+        private transient ForkJoinPool pool;
+        private static final List<TraversalStrategy> WITH_STRATEGIES = Collections.singletonList(ParallelStrategy.instance());
+
+        @Override
+        public List<TraversalStrategy> getWithStrategies() {
+            return WITH_STRATEGIES;
+        }
+
+        public Builder pool(final ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        @Override
+        public ParallelTraversalEngine create(final Graph graph) {
+            return new ParallelTraversalEngine(this.pool);
+        }
+    }
+
+    ////
+
+    public static class ParallelStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+        private static final ParallelStrategy INSTANCE = new ParallelStrategy();
+        private static final Set<Class<? extends FinalizationStrategy>> PRIORS = new HashSet<>();
+
+        static {
+            PRIORS.add(ProfileStrategy.class);
+            PRIORS.add(EngineDependentStrategy.class);
+            PRIORS.add(LazyBarrierStrategy.class);
+            PRIORS.add(BatchingStrategy.class);
+            PRIORS.add(MatchAlgorithmStrategy.class);
+        }
+
+        private ParallelStrategy() {
+
+        }
+
+        @Override
+        public void apply(final Traversal.Admin<?, ?> traversal) {
+            if (!(traversal.getParent() instanceof EmptyStep) || !(traversal.getEngine() instanceof ParallelTraversalEngine))
+                return;
+            if (!(traversal.getStartStep() instanceof GraphStep) || TraversalHelper.hasStepOfClass(ProfileStep.class, traversal))
+                return;
+
+            Step<?, ?> end = EmptyStep.instance();
+            for (final Step<?, ?> step : traversal.getSteps().subList(1, traversal.getSteps().size())) {
+                if (step instanceof ReducingBarrierStep) {
+                    end = step;
+                    break;
+                } else if (isParallelizable(step))
+                    end = step;
+                else
+                    break;
+            }
+            if (end instanceof EmptyStep)
+                return;
+            TraversalHelper.insertAfterStep(new ParallelStep(traversal, ((ParallelTraversalEngine) traversal.getEngine()).getPool()), (Step) end, traversal);
+        }
+
+        private static boolean isParallelizable(final Step<?, ?> step) {
+            if (step instanceof Mutating || step instanceof SideEffectCapable || step instanceof Ranging)
+                return false;
+            if (step instanceof DedupGlobalStep || step instanceof TimeLimitStep)
+                return false;
+            return step instanceof FilterStep || step instanceof MapStep || step instanceof FlatMapStep ||
+                    step instanceof IdentityStep || step instanceof NoOpBarrierStep;
+        }
+
+        @Override
+        public Set<Class<? extends FinalizationStrategy>> applyPrior() {
+            return PRIORS;
+        }
+
+        public static ParallelStrategy instance() {
+            return INSTANCE;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+
+import java.util.List;
+
+/**
+ * A step that can process its starts a batch at a time. When the batch size of the step is set (see
+ * {@link AbstractStep#setBatchSize(int)}), the step pulls up to that many traversers from the previous step at once
+ * and processes them in a single call. The ends of the batch are handed to the next step either one at a time or,
+ * if the next step also pulls batches, as a block. Note that a batching step computes its ends ahead of the steps
+ * that follow it and thus, it is less lazy than its one-at-a-time counterpart.
+ */
+public interface Batching<S, E> {
+
+    /**
+     * Process the starts of the batch and add the resultant traversers to the ends. The step id and labels of the
+     * ends are set by the caller.
+     *
+     * @param starts the traversers to process
+     * @param ends   the list to add the processed traversers to
+     */
+    public void processNextBatch(final List<Traverser.Admin<S>> starts, final List<Traverser.Admin<E>> ends);
+
+}
@@ -20,8 +20,11 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 
+import java.util.List;
+
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
@@ -41,4 +44,15 @@ public abstract class FilterStep<S> extends AbstractStep<S, S> {
     }
 
     protected abstract boolean filter(final Traverser.Admin<S> traverser);
+
+    /**
+     * Filters a batch of starts for the subclasses that are {@link Batching}.
+     */
+    public void processNextBatch(final List<Traverser.Admin<S>> starts, final List<Traverser.Admin<S>> ends) {
+        for (int i = 0; i < starts.size(); i++) {
+            final Traverser.Admin<S> start = starts.get(i);
+            if (this.filter(start))
+                ends.add(start);
+        }
+    }
 }
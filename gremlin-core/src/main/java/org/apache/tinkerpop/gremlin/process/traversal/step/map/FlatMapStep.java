@@ -20,10 +20,12 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -51,6 +53,20 @@ public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
 
     protected abstract Iterator<E> flatMap(final Traverser.Admin<S> traverser);
 
+    /**
+     * Flat maps a batch of starts for the subclasses that are {@link Batching}. All the ends of a start are added to
+     * the batch and thus, the size of the ends is not bounded by the batch size.
+     */
+    public void processNextBatch(final List<Traverser.Admin<S>> starts, final List<Traverser.Admin<E>> ends) {
+        for (int i = 0; i < starts.size(); i++) {
+            final Traverser.Admin<S> start = starts.get(i);
+            final Iterator<E> iterator = this.flatMap(start);
+            while (iterator.hasNext()) {
+                ends.add(start.split(iterator.next(), this));
+            }
+        }
+    }
+
     @Override
     public void reset() {
         super.reset();
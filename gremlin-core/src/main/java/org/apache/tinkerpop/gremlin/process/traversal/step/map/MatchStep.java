@@ -26,10 +26,12 @@ import org.apache.tinkerpop.gremlin.process.traversal.Pop;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.AndStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.ConjunctionStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.NotStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WherePredicateStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversalStep;
@@ -37,12 +39,19 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSte
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConjunctionStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.Serializable;
@@ -58,6 +67,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -622,10 +632,14 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
         public void recordEnd(final Traverser.Admin<Object> traverser, final Traversal.Admin<Object, Object> traversal) {
             this.getBundle(traversal).incrementEndCount();
             if (this.counter < 200 || this.counter % 250 == 0) // aggressively sort for the first 200 results -- after that, sort every 250
-                Collections.sort(this.bundles, Comparator.<Bundle>comparingInt(b -> b.traversalType.ordinal()).thenComparingDouble(b -> b.multiplicity));
+                this.sortBundles();
             this.counter++;
         }
 
+        protected void sortBundles() {
+            Collections.sort(this.bundles, Comparator.<Bundle>comparingInt(b -> b.traversalType.ordinal()).thenComparingDouble(b -> b.multiplicity));
+        }
+
         protected Bundle getBundle(final Traversal.Admin<Object, Object> traversal) {
             for (final Bundle bundle : this.bundles) {
                 if (bundle.traversal == traversal)
@@ -642,6 +656,8 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
             public long startsCount;
             public long endsCount;
             public double multiplicity;
+            public double priorMultiplicity;
+            public long priorWeight;
 
             public Bundle(final Traversal.Admin<Object, Object> traversal) {
                 this.traversal = traversal;
@@ -649,10 +665,149 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
                 this.startsCount = 0l;
                 this.endsCount = 0l;
                 this.multiplicity = 0.0d;
+                this.priorMultiplicity = 0.0d;
+                this.priorWeight = 0l;
             }
 
             public final void incrementEndCount() {
-                this.multiplicity = (double) ++this.endsCount / (double) this.startsCount;
+                ++this.endsCount;
+                this.updateMultiplicity();
+            }
+
+            /**
+             * The multiplicity is the observed ends per start. A prior multiplicity counts as {@code priorWeight}
+             * starts that produced {@code priorMultiplicity} ends each, so it dominates until enough starts are observed.
+             */
+            public final void updateMultiplicity() {
+                this.multiplicity = (this.priorMultiplicity * this.priorWeight + this.endsCount) / (double) (this.priorWeight + this.startsCount);
+            }
+        }
+    }
+
+    /**
+     * A {@link CountMatchAlgorithm} that plans the pattern order before the first traverser arrives. The graph is
+     * sampled for the selectivity of {@link HasContainer}s (which covers vertex label counts) and the average degree
+     * per edge label and direction, and each pattern gets an estimated multiplicity. The estimate seeds the counts of
+     * the {@link CountMatchAlgorithm} and the observed counts take over as the patterns execute. Statistics are cached
+     * per graph for a minute. Without a graph (e.g. in OLAP) the algorithm behaves as the {@link CountMatchAlgorithm}.
+     */
+    public static class CostMatchAlgorithm extends CountMatchAlgorithm {
+
+        public static final int SAMPLE_SIZE = 1000;
+        protected static final long PRIOR_WEIGHT = 100l;
+        private static final long STATISTICS_TIME_TO_LIVE = 60000l;
+        private static final double UNKNOWN_FILTER_SELECTIVITY = 0.5d;
+        private static final Map<Graph, Statistics> STATISTICS = Collections.synchronizedMap(new WeakHashMap<>());
+
+        @Override
+        public void initialize(final List<Traversal.Admin<Object, Object>> traversals) {
+            super.initialize(traversals);
+            if (traversals.isEmpty())
+                return;
+            final Traversal.Admin<?, ?> rootTraversal = TraversalHelper.getRootTraversal(traversals.get(0));
+            if (rootTraversal.getEngine().isComputer() || !rootTraversal.getGraph().isPresent())
+                return;
+            final Statistics statistics = CostMatchAlgorithm.getStatistics(rootTraversal.getGraph().get());
+            for (final Bundle bundle : this.bundles) {
+                bundle.priorMultiplicity = statistics.estimateMultiplicity(bundle.traversal);
+                bundle.priorWeight = PRIOR_WEIGHT;
+                bundle.updateMultiplicity();
+            }
+            this.sortBundles();
+        }
+
+        @Override
+        public void recordStart(final Traverser.Admin<Object> traverser, final Traversal.Admin<Object, Object> traversal) {
+            super.recordStart(traverser, traversal);
+            this.getBundle(traversal).updateMultiplicity();
+        }
+
+        private static Statistics getStatistics(final Graph graph) {
+            Statistics statistics = STATISTICS.get(graph);
+            if (null == statistics || System.currentTimeMillis() - statistics.timestamp > STATISTICS_TIME_TO_LIVE) {
+                statistics = new Statistics(graph);
+                STATISTICS.put(graph, statistics);
+            }
+            return statistics;
+        }
+
+        /**
+         * Cardinality statistics sampled from the first {@link #SAMPLE_SIZE} vertices of a graph and their outgoing edges.
+         * The sampled elements are detached so that the statistics do not hold on to the graph.
+         */
+        public static final class Statistics {
+
+            private final long timestamp = System.currentTimeMillis();
+            private final List<Vertex> vertices = new ArrayList<>();
+            private final List<Edge> edges = new ArrayList<>();
+            private final Map<String, Long> outDegrees = new HashMap<>();
+            private final Map<String, Long> inDegrees = new HashMap<>();
+
+            public Statistics(final Graph graph) {
+                final Iterator<Vertex> iterator = graph.vertices();
+                while (iterator.hasNext() && this.vertices.size() < SAMPLE_SIZE) {
+                    final Vertex vertex = iterator.next();
+                    this.vertices.add(DetachedFactory.detach(vertex, true));
+                    vertex.edges(Direction.OUT).forEachRemaining(edge -> {
+                        this.outDegrees.merge(edge.label(), 1l, Long::sum);
+                        if (this.edges.size() < SAMPLE_SIZE)
+                            this.edges.add(DetachedFactory.detach(edge, true));
+                    });
+                    vertex.edges(Direction.IN).forEachRemaining(edge -> this.inDegrees.merge(edge.label(), 1l, Long::sum));
+                }
+            }
+
+            public double averageDegree(final Direction direction, final String... edgeLabels) {
+                if (Direction.BOTH == direction)
+                    return this.averageDegree(Direction.OUT, edgeLabels) + this.averageDegree(Direction.IN, edgeLabels);
+                if (this.vertices.isEmpty())
+                    return 1.0d;
+                final Map<String, Long> degrees = Direction.OUT == direction ? this.outDegrees : this.inDegrees;
+                long total = 0l;
+                if (0 == edgeLabels.length) {
+                    for (final Long degree : degrees.values()) {
+                        total = total + degree;
+                    }
+                } else {
+                    for (final String edgeLabel : edgeLabels) {
+                        total = total + degrees.getOrDefault(edgeLabel, 0l);
+                    }
+                }
+                return (double) total / (double) this.vertices.size();
+            }
+
+            public double selectivity(final List<HasContainer> hasContainers, final boolean edges) {
+                final List<? extends Element> sample = edges ? this.edges : this.vertices;
+                if (sample.isEmpty())
+                    return UNKNOWN_FILTER_SELECTIVITY;
+                int passed = 0;
+                for (final Element element : sample) {
+                    if (HasContainer.testAll(element, hasContainers))
+                        passed++;
+                }
+                return (double) passed / (double) sample.size();
+            }
+
+            public double estimateMultiplicity(final Traversal.Admin<?, ?> traversal) {
+                double multiplicity = 1.0d;
+                boolean edges = false;
+                for (final Step<?, ?> step : traversal.getSteps()) {
+                    if (step instanceof VertexStep) {
+                        multiplicity = multiplicity * this.averageDegree(((VertexStep<?>) step).getDirection(), ((VertexStep<?>) step).getEdgeLabels());
+                        edges = ((VertexStep<?>) step).returnsEdge();
+                    } else if (step instanceof EdgeVertexStep) {
+                        if (Direction.BOTH == ((EdgeVertexStep) step).getDirection())
+                            multiplicity = multiplicity * 2.0d;
+                        edges = false;
+                    } else if (step instanceof EdgeOtherVertexStep) {
+                        edges = false;
+                    } else if (step instanceof HasContainerHolder) {
+                        multiplicity = multiplicity * this.selectivity(((HasContainerHolder) step).getHasContainers(), edges);
+                    } else if (step instanceof FilterStep) {
+                        multiplicity = multiplicity * UNKNOWN_FILTER_SELECTIVITY;
+                    }
+                }
+                return multiplicity;
             }
         }
     }
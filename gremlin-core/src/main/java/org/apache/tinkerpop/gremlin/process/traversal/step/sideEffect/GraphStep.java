@@ -28,6 +28,8 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -42,15 +44,35 @@ public class GraphStep<S extends Element> extends StartStep<S> implements Engine
     protected final Class<S> returnClass;
     protected Object[] ids;
     protected transient Supplier<Iterator<S>> iteratorSupplier;
+    private transient boolean elementsSupplier;
 
     public GraphStep(final Traversal.Admin traversal, final Class<S> returnClass, final Object... ids) {
         super(traversal);
         this.returnClass = returnClass;
         this.ids = ids;
 
-        this.iteratorSupplier = () -> (Iterator<S>) (Vertex.class.isAssignableFrom(this.returnClass) ?
-                    this.getTraversal().getGraph().get().vertices(this.ids) :
-                    this.getTraversal().getGraph().get().edges(this.ids));
+        this.iteratorSupplier = this::elements;
+        this.elementsSupplier = true;
+    }
+
+    /**
+     * The elements that the step iterates unless another supplier is set with
+     * {@link #setIteratorSupplier(Supplier)}. Providers override this method to look up the elements themselves.
+     */
+    protected Iterator<S> elements() {
+        return (Iterator<S>) (Vertex.class.isAssignableFrom(this.returnClass) ?
+                this.getTraversal().getGraph().get().vertices(this.ids) :
+                this.getTraversal().getGraph().get().edges(this.ids));
+    }
+
+    /**
+     * The supplier is not serializable, so a step that is deserialized (e.g. as part of a traversal sent to Gremlin
+     * Server) gets the default supplier back rather than being left to iterate nothing.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.iteratorSupplier = this::elements;
+        this.elementsSupplier = true;
     }
 
     public String toString() {
@@ -71,6 +93,11 @@ public class GraphStep<S extends Element> extends StartStep<S> implements Engine
 
     public void setIteratorSupplier(final Supplier<Iterator<S>> iteratorSupplier) {
         this.iteratorSupplier = iteratorSupplier;
+        this.elementsSupplier = false;
+    }
+
+    public Supplier<Iterator<S>> getIteratorSupplier() {
+        return this.iteratorSupplier;
     }
 
     public Object[] getIds() {
@@ -84,10 +111,19 @@ public class GraphStep<S extends Element> extends StartStep<S> implements Engine
     @Override
     public void onEngine(final TraversalEngine traversalEngine) {
         if (traversalEngine.isComputer()) {
-            this.iteratorSupplier = Collections::emptyIterator;
+            this.setIteratorSupplier(Collections::emptyIterator);
         }
     }
 
+    @Override
+    public GraphStep<S> clone() {
+        final GraphStep<S> clone = (GraphStep<S>) super.clone();
+        // the default supplier is bound to this step and thus, to its traversal and graph
+        if (this.elementsSupplier)
+            clone.iteratorSupplier = clone::elements;
+        return clone;
+    }
+
     @Override
     protected Traverser<S> processNextStart() {
         if (this.first)
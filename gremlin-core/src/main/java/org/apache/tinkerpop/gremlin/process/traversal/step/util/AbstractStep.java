@@ -21,12 +21,16 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.util.EmptyTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
@@ -42,6 +46,11 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     protected ExpandableStepIterator<S> starts;
     protected Traverser.Admin<E> nextEnd = null;
     protected boolean traverserStepIdAndLabelsSetByChild = false;
+    protected int batchSize = 0;
+
+    private List<Traverser.Admin<S>> startBatch = null;
+    private List<Traverser.Admin<E>> endBatch = null;
+    private int endBatchIndex = 0;
 
     protected Step<?, S> previousStep = EmptyStep.instance();
     protected Step<E, ?> nextStep = EmptyStep.instance();
@@ -77,10 +86,63 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
         return Collections.unmodifiableSet(this.labels);
     }
 
+    /**
+     * Set the maximum number of traversers this step pulls from the previous step at once. If the batch size is
+     * greater than 0 and the step is {@link Batching}, its ends are also computed a batch at a time. Other steps
+     * may use the batch size to consume their starts (e.g. {@link ReducingBarrierStep}).
+     *
+     * @param batchSize the batch size where 0 (the default) is one traverser at a time
+     */
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+        if (batchSize > 0 && this instanceof Batching) {
+            this.startBatch = new ArrayList<>(batchSize);
+            this.endBatch = new ArrayList<>(batchSize);
+        } else {
+            this.startBatch = null;
+            this.endBatch = null;
+        }
+        this.endBatchIndex = 0;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Add the next traversers of this step to the batch until the batch is full or the step has no more traversers.
+     * If the step processes batches, the traversers are moved as a block. Otherwise, they are pulled one at a time.
+     *
+     * @param batch   the list to add the traversers to
+     * @param maxSize the maximum size of the batch
+     */
+    public void fillBatch(final List<Traverser.Admin<E>> batch, final int maxSize) {
+        if (null != this.endBatch) {
+            if (null != this.nextEnd && batch.size() < maxSize) {
+                batch.add(this.prepareTraversalForNextStep(this.nextEnd));
+                this.nextEnd = null;
+            }
+            while (batch.size() < maxSize && (this.endBatchIndex < this.endBatch.size() || this.processNextBatch())) {
+                final int size = Math.min(maxSize - batch.size(), this.endBatch.size() - this.endBatchIndex);
+                batch.addAll(this.endBatch.subList(this.endBatchIndex, this.endBatchIndex + size));
+                this.endBatchIndex = this.endBatchIndex + size;
+            }
+        } else {
+            while (batch.size() < maxSize && this.hasNext()) {
+                batch.add((Traverser.Admin<E>) this.next());
+            }
+        }
+    }
+
     @Override
     public void reset() {
         this.starts.clear();
         this.nextEnd = null;
+        if (null != this.endBatch) {
+            this.startBatch.clear();
+            this.endBatch.clear();
+            this.endBatchIndex = 0;
+        }
     }
 
     @Override
@@ -115,6 +177,11 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     @Override
     public Traverser<E> next() {
+        if (null != this.endBatch && null == this.nextEnd) {
+            if (this.endBatchIndex < this.endBatch.size() || this.processNextBatch())
+                return this.endBatch.get(this.endBatchIndex++);
+            throw FastNoSuchElementException.instance();
+        }
         if (null != this.nextEnd) {
             try {
                 return this.prepareTraversalForNextStep(this.nextEnd);
@@ -134,6 +201,8 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     public boolean hasNext() {
         if (null != this.nextEnd)
             return true;
+        else if (null != this.endBatch)
+            return this.endBatchIndex < this.endBatch.size() || this.processNextBatch();
         else {
             try {
                 while (true) {
@@ -161,6 +230,31 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     protected abstract Traverser<E> processNextStart() throws NoSuchElementException;
 
+    /**
+     * Refill the batch of ends from the next batch of starts. The ends with no object or no bulk are dropped and the
+     * remaining ends are prepared for the next step. Returns false if there are no more starts to process.
+     */
+    private boolean processNextBatch() {
+        this.endBatch.clear();
+        this.endBatchIndex = 0;
+        while (true) {
+            this.startBatch.clear();
+            this.starts.nextBatch(this.startBatch, this.batchSize);
+            if (this.startBatch.isEmpty())
+                return false;
+            ((Batching<S, E>) this).processNextBatch(this.startBatch, this.endBatch);
+            int size = 0;
+            for (int i = 0; i < this.endBatch.size(); i++) {
+                final Traverser.Admin<E> end = this.endBatch.get(i);
+                if (null != end.get() && 0 != end.bulk())
+                    this.endBatch.set(size++, this.prepareTraversalForNextStep(end));
+            }
+            this.endBatch.subList(size, this.endBatch.size()).clear();
+            if (size > 0)
+                return true;
+        }
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this);
@@ -175,6 +269,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
             clone.previousStep = EmptyStep.instance();
             clone.nextStep = EmptyStep.instance();
             clone.nextEnd = null;
+            clone.setBatchSize(this.batchSize);
             clone.traversal = EmptyTraversal.instance();
             clone.reset();
             return clone;
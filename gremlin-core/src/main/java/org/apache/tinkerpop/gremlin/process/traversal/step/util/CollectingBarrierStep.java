@@ -46,6 +46,26 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> {
 
     public abstract void barrierConsumer(final TraverserSet<S> traverserSet);
 
+    public int getMaxBarrierSize() {
+        return this.maxBarrierSize;
+    }
+
+    /**
+     * The number of distinct traversers to collect before the barrier is released. Only consulted when the barrier
+     * is bounded by a maximum size.
+     */
+    protected int getBarrierSize() {
+        return this.maxBarrierSize;
+    }
+
+    /**
+     * Called after a bounded barrier has been filled with the number of traversers pulled from the previous step and
+     * the number of distinct traversers they were bulked into.
+     */
+    protected void barrierFilled(final long pulled, final int size) {
+
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return Collections.singleton(TraverserRequirement.BULK);
@@ -60,9 +80,13 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> {
                 this.starts.forEachRemaining(this.traverserSet::add);
                 this.barrierConsumer(this.traverserSet);
             } else {
-                while (this.starts.hasNext() && this.traverserSet.size() < this.maxBarrierSize) {
+                final int barrierSize = this.getBarrierSize();
+                long pulled = 0l;
+                while (this.starts.hasNext() && this.traverserSet.size() < barrierSize) {
                     this.traverserSet.add(this.starts.next());
+                    pulled++;
                 }
+                this.barrierFilled(pulled, this.traverserSet.size());
                 this.barrierConsumer(this.traverserSet);
             }
         }
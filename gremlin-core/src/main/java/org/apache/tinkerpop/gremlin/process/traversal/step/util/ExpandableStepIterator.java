@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSe
 
 import java.io.Serializable;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -57,6 +58,29 @@ public final class ExpandableStepIterator<S> implements Iterator<Traverser.Admin
         return this.traverserSet.remove();
     }
 
+    /**
+     * Add the next traversers to the batch until the batch is full or there are no more traversers. The traversers
+     * are taken in the same order as {@link #next()} takes them.
+     */
+    public void nextBatch(final List<Traverser.Admin<S>> batch, final int maxSize) {
+        while (batch.size() < maxSize && !this.traverserSet.isEmpty()) {
+            batch.add(this.traverserSet.remove());
+        }
+        while (batch.size() < maxSize && this.traverserIterators.hasNext()) {
+            batch.add(this.traverserIterators.next());
+        }
+        if (batch.size() < maxSize) {
+            final Step<?, S> previousStep = this.hostStep.getPreviousStep();
+            if (previousStep instanceof AbstractStep)
+                ((AbstractStep<?, S>) previousStep).fillBatch(batch, maxSize);
+            else {
+                while (batch.size() < maxSize && previousStep.hasNext()) {
+                    batch.add((Traverser.Admin<S>) previousStep.next());
+                }
+            }
+        }
+    }
+
     public void add(final Iterator<Traverser.Admin<S>> iterator) {
         this.traverserIterators.addIterator(iterator);
     }
@@ -24,19 +24,30 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
+ * An immutable {@link Path} that shares its prefix with the path it was extended from. Each node caches the size of
+ * the path, links to the closest previous node that has labels and shares a label-to-index map of the first
+ * occurrence of each label with its previous node until a new label is introduced. The labels handed to
+ * {@link #extend(Object, Set)} are usually the mutable label set of a step, so each node keeps an immutable copy.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Cloneable {
 
     private ImmutablePathImpl previousPath = TailPath.instance();
+    private ImmutablePathImpl previousLabeledPath = TailPath.instance();
     private Object currentObject;
-    private Set<String> currentLabels = new LinkedHashSet<>();
+    private Set<String> currentLabels = Collections.emptySet();
+    private Map<String, Integer> labelIndex = Collections.emptyMap();
+    private int size;
 
     protected ImmutablePath() {
 
@@ -55,12 +66,28 @@ public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Clo
     private ImmutablePath(final ImmutablePathImpl previousPath, final Object currentObject, final Set<String> currentLabels) {
         this.previousPath = previousPath;
         this.currentObject = currentObject;
-        this.currentLabels.addAll(currentLabels);
+        this.currentLabels = ImmutablePath.immutableLabels(currentLabels);
+        this.size = previousPath.size() + 1;
+        if (previousPath instanceof ImmutablePath) {
+            final ImmutablePath previous = (ImmutablePath) previousPath;
+            this.previousLabeledPath = previous.currentLabels.isEmpty() ? previous.previousLabeledPath : previous;
+            this.labelIndex = previous.labelIndex;
+        }
+        boolean copied = false;
+        for (final String label : this.currentLabels) {
+            if (!this.labelIndex.containsKey(label)) {
+                if (!copied) {
+                    this.labelIndex = new HashMap<>(this.labelIndex);
+                    copied = true;
+                }
+                this.labelIndex.put(label, this.size - 1);
+            }
+        }
     }
 
     @Override
     public int size() {
-        return this.previousPath.size() + 1;
+        return this.size;
     }
 
     @Override
@@ -70,54 +97,81 @@ public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Clo
 
     @Override
     public Path extend(final Set<String> labels) {
+        if (this.currentLabels.containsAll(labels))
+            return this;
         final Set<String> temp = new LinkedHashSet<>();
         temp.addAll(this.currentLabels);
         temp.addAll(labels);
         return new ImmutablePath(this.previousPath, this.currentObject, temp);
     }
 
+    private static Set<String> immutableLabels(final Set<String> labels) {
+        switch (labels.size()) {
+            case 0:
+                return Collections.emptySet();
+            case 1:
+                return Collections.singleton(labels.iterator().next());
+            default:
+                return Collections.unmodifiableSet(new LinkedHashSet<>(labels));
+        }
+    }
+
     @Override
     public <A> A get(final int index) {
-        return (this.size() - 1) == index ? (A) this.currentObject : this.previousPath.get(index);
+        ImmutablePathImpl path = this;
+        while (path instanceof ImmutablePath && index < path.size() - 1) {
+            path = ((ImmutablePath) path).previousPath;
+        }
+        return path instanceof ImmutablePath && index == path.size() - 1 ?
+                (A) ((ImmutablePath) path).currentObject :
+                (A) Collections.emptyList().get(index);
     }
 
     @Override
     public <A> A getSingleHead(final String label) {
-        // Recursively search for the single value to avoid building throwaway collections, and to stop looking when we
-        // find it.
-        A single;
-        // See if we have a value.
-        if (this.currentLabels.contains(label)) {
-            single = (A) this.currentObject;
-        } else {
-            // Look for a previous value.
-            single = this.previousPath.getSingleHead(label);
+        // Walk the labeled nodes from the head of the path and stop at the first one with the label.
+        if (!this.labelIndex.containsKey(label))
+            return null;
+        ImmutablePathImpl path = this.currentLabels.isEmpty() ? this.previousLabeledPath : this;
+        while (path instanceof ImmutablePath) {
+            final ImmutablePath immutablePath = (ImmutablePath) path;
+            if (immutablePath.currentLabels.contains(label))
+                return (A) immutablePath.currentObject;
+            path = immutablePath.previousLabeledPath;
         }
-        return single;
+        return null;
     }
 
     @Override
     public <A> A getSingleTail(final String label) {
-        // Recursively search for the single value to avoid building throwaway collections, and to stop looking when we
-        // find it.
-        A single = this.previousPath.getSingleTail(label);
-        if (null == single) {
-            // See if we have a value.
-            if (this.currentLabels.contains(label)) {
-                single = (A) this.currentObject;
-            }
+        // The index of the first occurrence of the label is known, so only the labeled nodes above it are walked.
+        final Integer index = this.labelIndex.get(label);
+        if (null == index)
+            return null;
+        ImmutablePathImpl path = this.currentLabels.isEmpty() ? this.previousLabeledPath : this;
+        while (path instanceof ImmutablePath) {
+            final ImmutablePath immutablePath = (ImmutablePath) path;
+            if (immutablePath.size - 1 == index)
+                return (A) immutablePath.currentObject;
+            path = immutablePath.previousLabeledPath;
         }
-        return single;
+        return null;
     }
 
     @Override
     public <A> A get(final Pop pop, final String label) {
         if (Pop.all == pop) {
-            // Recursively build the list to avoid building objects/labels collections.
-            final List<A> list = this.previousPath.get(Pop.all, label);
-            // Add our object, if our step labels match.
-            if (this.currentLabels.contains(label))
-                list.add((A) currentObject);
+            final List<A> list = new ArrayList<>();
+            if (this.labelIndex.containsKey(label)) {
+                ImmutablePathImpl path = this.currentLabels.isEmpty() ? this.previousLabeledPath : this;
+                while (path instanceof ImmutablePath) {
+                    final ImmutablePath immutablePath = (ImmutablePath) path;
+                    if (immutablePath.currentLabels.contains(label))
+                        list.add((A) immutablePath.currentObject);
+                    path = immutablePath.previousLabeledPath;
+                }
+                Collections.reverse(list);
+            }
             return (A) list;
         } else {
             // Delegate to the non-throwing, optimized head/tail calculations.
@@ -131,23 +185,31 @@ public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Clo
 
     @Override
     public boolean hasLabel(final String label) {
-        return this.currentLabels.contains(label) || this.previousPath.hasLabel(label);
+        return this.labelIndex.containsKey(label);
     }
 
     @Override
     public List<Object> objects() {
-        final List<Object> objectPath = new ArrayList<>();    // TODO: optimize
-        objectPath.addAll(this.previousPath.objects());
-        objectPath.add(this.currentObject);
-        return Collections.unmodifiableList(objectPath);
+        final Object[] objectPath = new Object[this.size];
+        ImmutablePathImpl path = this;
+        while (path instanceof ImmutablePath) {
+            final ImmutablePath immutablePath = (ImmutablePath) path;
+            objectPath[immutablePath.size - 1] = immutablePath.currentObject;
+            path = immutablePath.previousPath;
+        }
+        return Collections.unmodifiableList(Arrays.asList(objectPath));
     }
 
     @Override
     public List<Set<String>> labels() {
-        final List<Set<String>> labelPath = new ArrayList<>();   // TODO: optimize
-        labelPath.addAll(this.previousPath.labels());
-        labelPath.add(this.currentLabels);
-        return Collections.unmodifiableList(labelPath);
+        final Set<String>[] labelPath = new Set[this.size];
+        ImmutablePathImpl path = this;
+        while (path instanceof ImmutablePath) {
+            final ImmutablePath immutablePath = (ImmutablePath) path;
+            labelPath[immutablePath.size - 1] = immutablePath.currentLabels;
+            path = immutablePath.previousPath;
+        }
+        return Collections.unmodifiableList(Arrays.asList(labelPath));
     }
 
     @Override
@@ -167,11 +229,16 @@ public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Clo
         final Path otherPath = (Path) other;
         if (otherPath.size() != this.size())
             return false;
-        for (int i = this.size() - 1; i >= 0; i--) {
-            if (!this.get(i).equals(otherPath.get(i)))
+        final List<Object> otherObjects = otherPath.objects();
+        final List<Set<String>> otherLabels = otherPath.labels();
+        ImmutablePathImpl path = this;
+        while (path instanceof ImmutablePath) {
+            final ImmutablePath immutablePath = (ImmutablePath) path;
+            if (!immutablePath.currentObject.equals(otherObjects.get(immutablePath.size - 1)))
                 return false;
-            if (!this.labels().get(i).equals(otherPath.labels().get(i)))
+            if (!immutablePath.currentLabels.equals(otherLabels.get(immutablePath.size - 1)))
                 return false;
+            path = immutablePath.previousPath;
         }
         return true;
     }
@@ -23,22 +23,103 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 /**
+ * A barrier that does nothing but bulk the traversers that pass through it. When constructed with a minimum and a
+ * maximum barrier size the barrier is adaptive: it starts at the minimum size and doubles while the traversers it
+ * collects merge well (a high fan-out into few distinct traversers), halves when they do not, and falls back to the
+ * minimum size when the JVM is running low on memory.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class NoOpBarrierStep<S> extends CollectingBarrierStep<S> {
 
+    private static final double GROW_MERGE_RATIO = 0.5d;
+    private static final double SHRINK_MERGE_RATIO = 0.1d;
+    private static final double MEMORY_PRESSURE_RATIO = 0.9d;
+
+    private final int minBarrierSize;
+    private int barrierSize;
+
     public NoOpBarrierStep(final Traversal.Admin traversal) {
         super(traversal);
+        this.minBarrierSize = 0;
     }
 
     public NoOpBarrierStep(final Traversal.Admin traversal, final int maxBarrierSize) {
         super(traversal, maxBarrierSize);
+        this.minBarrierSize = 0;
+    }
+
+    public NoOpBarrierStep(final Traversal.Admin traversal, final int minBarrierSize, final int maxBarrierSize) {
+        super(traversal, maxBarrierSize);
+        if (minBarrierSize < 1 || minBarrierSize > maxBarrierSize)
+            throw new IllegalArgumentException("The minimum barrier size must be between 1 and the maximum barrier size: " + minBarrierSize + " > " + maxBarrierSize);
+        this.minBarrierSize = minBarrierSize;
+        this.barrierSize = minBarrierSize;
     }
 
     @Override
     public void barrierConsumer(final TraverserSet<S> traverserSet) {
 
     }
+
+    public boolean isAdaptive() {
+        return this.minBarrierSize > 0;
+    }
+
+    public int getMinBarrierSize() {
+        return this.isAdaptive() ? this.minBarrierSize : this.getMaxBarrierSize();
+    }
+
+    @Override
+    protected int getBarrierSize() {
+        return this.isAdaptive() ? this.barrierSize : this.getMaxBarrierSize();
+    }
+
+    @Override
+    protected void barrierFilled(final long pulled, final int size) {
+        if (!this.isAdaptive() || 0l == pulled)
+            return;
+        if (NoOpBarrierStep.isMemoryLow()) {
+            this.barrierSize = this.minBarrierSize;
+            return;
+        }
+        final double mergeRatio = (double) (pulled - size) / (double) pulled;
+        if (mergeRatio >= GROW_MERGE_RATIO && size >= this.barrierSize)
+            this.barrierSize = (int) Math.min((long) this.barrierSize * 2l, (long) this.getMaxBarrierSize());
+        else if (mergeRatio < SHRINK_MERGE_RATIO)
+            this.barrierSize = Math.max(this.barrierSize / 2, this.minBarrierSize);
+    }
+
+    private static boolean isMemoryLow() {
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory() > runtime.maxMemory() * MEMORY_PRESSURE_RATIO;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.barrierSize = this.minBarrierSize;
+    }
+
+    @Override
+    public NoOpBarrierStep<S> clone() {
+        final NoOpBarrierStep<S> clone = (NoOpBarrierStep<S>) super.clone();
+        clone.barrierSize = this.minBarrierSize;
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return this.isAdaptive() ?
+                StringFactory.stepString(this, this.minBarrierSize, this.getMaxBarrierSize()) :
+                super.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ Integer.rotateLeft(this.minBarrierSize, 16);
+    }
 }
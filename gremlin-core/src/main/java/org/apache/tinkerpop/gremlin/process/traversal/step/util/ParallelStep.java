@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Bypassing;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * {@code ParallelStep} evaluates the steps between the {@link GraphStep} of its traversal and itself in parallel.
+ * The elements of the {@link GraphStep} are materialized and split into partitions, and each partition is processed
+ * by a clone of the traversal on a {@link ForkJoinPool}. The ends of the partitions are concatenated in the order of the
+ * source elements. When the previous step is a {@link ReducingBarrierStep}, the step is bypassed in the clones and its
+ * {@link MapReduce} is used to map and combine each partition and to reduce the merged partitions to the single result
+ * of the barrier. The step is added by {@link org.apache.tinkerpop.gremlin.process.traversal.engine.ParallelTraversalEngine.ParallelStrategy}.
+ */
+public final class ParallelStep<S> extends AbstractStep<S, S> {
+
+    private final transient ForkJoinPool pool;
+    private Iterator<Traverser.Admin<S>> results = null;
+
+    public ParallelStep(final Traversal.Admin traversal, final ForkJoinPool pool) {
+        super(traversal);
+        this.pool = pool;
+    }
+
+    @Override
+    protected Traverser<S> processNextStart() {
+        if (null == this.results)
+            this.results = this.processParallel();
+        if (!this.results.hasNext())
+            throw FastNoSuchElementException.instance();
+        return this.results.next();
+    }
+
+    private Iterator<Traverser.Admin<S>> processParallel() {
+        final GraphStep<?> graphStep = (GraphStep<?>) this.getTraversal().getStartStep();
+        final Iterator<?> source = null == graphStep.getIteratorSupplier() ? EmptyIterator.instance() : graphStep.getIteratorSupplier().get();
+        final List<Object> elements = new ArrayList<>();
+        source.forEachRemaining(elements::add);
+
+        final Step<?, S> endStep = this.getPreviousStep();
+        final int endIndex = this.getTraversal().getSteps().indexOf(endStep);
+        final ForkJoinPool pool = null == this.pool ? ForkJoinPool.commonPool() : this.pool;
+        final int threshold = Math.max(1, elements.size() / (pool.getParallelism() * 4));
+        if (endStep instanceof ReducingBarrierStep) {
+            final MapReduce mapReduce = ((ReducingBarrierStep) endStep).getMapReduce();
+            final Map<Object, List<Object>> mapOutput = pool.invoke(new PartitionTask<Map<Object, List<Object>>>(elements.spliterator(), threshold,
+                    partition -> ParallelStep.mapPartition(mapReduce.clone(), this.processPartition(partition, endIndex, true)),
+                    (left, right) -> {
+                        right.forEach((key, values) -> values.forEach(value -> ParallelStep.emit(left, key, value)));
+                        return left;
+                    }));
+            if (mapOutput.isEmpty())
+                return this.processPartition(new ArrayList<>(), endIndex, false).iterator();
+            final Object result = ParallelStep.reduce(mapReduce, mapOutput);
+            return IteratorUtils.of((Traverser.Admin<S>) TraversalHelper.getRootTraversal(this.getTraversal()).getTraverserGenerator().generate(result, (Step) endStep, 1l));
+        } else {
+            return pool.invoke(new PartitionTask<List<Traverser.Admin<S>>>(elements.spliterator(), threshold,
+                    partition -> this.processPartition(partition, endIndex, false),
+                    (left, right) -> {
+                        left.addAll(right);
+                        return left;
+                    })).iterator();
+        }
+    }
+
+    private List<Traverser.Admin<S>> processPartition(final List<Object> partition, final int endIndex, final boolean bypass) {
+        final Traversal.Admin<?, ?> clone = this.getTraversal().clone();
+        ((GraphStep) clone.getStartStep()).setIteratorSupplier(partition::iterator);
+        final Step<?, S> endStep = (Step<?, S>) clone.getSteps().get(endIndex);
+        if (bypass)
+            ((Bypassing) endStep).setBypass(true);
+        final List<Traverser.Admin<S>> ends = new ArrayList<>();
+        while (endStep.hasNext()) {
+            final Traverser.Admin<S> end = endStep.next();
+            end.setSideEffects(this.getTraversal().getSideEffects());
+            ends.add(end);
+        }
+        return ends;
+    }
+
+    private static <S> Map<Object, List<Object>> mapPartition(final MapReduce mapReduce, final List<Traverser.Admin<S>> ends) {
+        final TraverserSet<S> haltedTraversers = new TraverserSet<>();
+        ends.forEach(haltedTraversers::add);
+        final Vertex vertex = StarGraph.open().addVertex();
+        vertex.property(TraversalVertexProgram.HALTED_TRAVERSERS, haltedTraversers);
+        final Map<Object, List<Object>> mapOutput = new LinkedHashMap<>();
+        mapReduce.map(vertex, (MapReduce.MapEmitter) (key, value) -> ParallelStep.emit(mapOutput, key, value));
+        if (!mapReduce.doStage(MapReduce.Stage.COMBINE))
+            return mapOutput;
+        final Map<Object, List<Object>> combineOutput = new LinkedHashMap<>();
+        for (final Map.Entry<Object, List<Object>> entry : mapOutput.entrySet()) {
+            mapReduce.combine(entry.getKey(), entry.getValue().iterator(), (MapReduce.ReduceEmitter) (key, value) -> ParallelStep.emit(combineOutput, key, value));
+        }
+        return combineOutput;
+    }
+
+    private static Object reduce(final MapReduce mapReduce, final Map<Object, List<Object>> mapOutput) {
+        final List<KeyValue> keyValues = new ArrayList<>();
+        final Optional<Comparator> keySort;
+        if (mapReduce.doStage(MapReduce.Stage.REDUCE)) {
+            for (final Map.Entry<Object, List<Object>> entry : mapOutput.entrySet()) {
+                mapReduce.reduce(entry.getKey(), entry.getValue().iterator(), (MapReduce.ReduceEmitter) (key, value) -> keyValues.add(new KeyValue<>(key, value)));
+            }
+            keySort = mapReduce.getReduceKeySort();
+        } else {
+            mapOutput.forEach((key, values) -> values.forEach(value -> keyValues.add(new KeyValue<>(key, value))));
+            keySort = mapReduce.getMapKeySort();
+        }
+        keySort.ifPresent(comparator -> keyValues.sort((a, b) -> comparator.compare(a.getKey(), b.getKey())));
+        return mapReduce.generateFinalResult(keyValues.iterator());
+    }
+
+    private static void emit(final Map<Object, List<Object>> output, final Object key, final Object value) {
+        List<Object> values = output.get(key);
+        if (null == values) {
+            values = new ArrayList<>();
+            output.put(key, values);
+        }
+        values.add(value);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.results = null;
+    }
+
+    @Override
+    public ParallelStep<S> clone() {
+        final ParallelStep<S> clone = (ParallelStep<S>) super.clone();
+        clone.results = null;
+        return clone;
+    }
+
+    ///////
+
+    private static final class PartitionTask<R> extends RecursiveTask<R> {
+
+        private final Spliterator<Object> spliterator;
+        private final int threshold;
+        private final Function<List<Object>, R> processor;
+        private final BinaryOperator<R> merger;
+
+        private PartitionTask(final Spliterator<Object> spliterator, final int threshold, final Function<List<Object>, R> processor, final BinaryOperator<R> merger) {
+            this.spliterator = spliterator;
+            this.threshold = threshold;
+            this.processor = processor;
+            this.merger = merger;
+        }
+
+        @Override
+        protected R compute() {
+            final Spliterator<Object> prefix = this.spliterator.estimateSize() > this.threshold ? this.spliterator.trySplit() : null;
+            if (null == prefix) {
+                final List<Object> partition = new ArrayList<>();
+                this.spliterator.forEachRemaining(partition::add);
+                return this.processor.apply(partition);
+            }
+            final PartitionTask<R> left = new PartitionTask<>(prefix, this.threshold, this.processor, this.merger);
+            left.fork();
+            final R right = new PartitionTask<>(this.spliterator, this.threshold, this.processor, this.merger).compute();
+            return this.merger.apply(left.join(), right);
+        }
+    }
+}
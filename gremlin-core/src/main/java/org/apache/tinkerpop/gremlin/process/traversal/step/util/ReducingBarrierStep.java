@@ -29,6 +29,7 @@ import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.StaticMapReduce;
 import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Bypassing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.EngineDependent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.MapReducer;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
@@ -36,14 +37,16 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSe
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> implements MapReducer, EngineDependent {
+public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> implements MapReducer, EngineDependent, Bypassing {
 
     public static final String REDUCING = Graph.Hidden.hide("reducing");
 
@@ -69,6 +72,11 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         this.byPass = traversalEngine.isComputer();
     }
 
+    @Override
+    public void setBypass(final boolean bypass) {
+        this.byPass = bypass;
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -83,8 +91,21 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
             if (this.done)
                 throw FastNoSuchElementException.instance();
             E seed = this.seedSupplier.get();
-            while (this.starts.hasNext())
-                seed = this.reducingBiFunction.apply(seed, this.starts.next());
+            if (this.batchSize > 0) {
+                final List<Traverser.Admin<S>> batch = new ArrayList<>(this.batchSize);
+                while (true) {
+                    this.starts.nextBatch(batch, this.batchSize);
+                    if (batch.isEmpty())
+                        break;
+                    for (int i = 0; i < batch.size(); i++) {
+                        seed = this.reducingBiFunction.apply(seed, batch.get(i));
+                    }
+                    batch.clear();
+                }
+            } else {
+                while (this.starts.hasNext())
+                    seed = this.reducingBiFunction.apply(seed, this.starts.next());
+            }
             this.done = true;
             return TraversalHelper.getRootTraversal(this.getTraversal()).getTraverserGenerator().generate(FinalGet.tryFinalGet(seed), (Step) this, 1l);
         }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@code BatchingStrategy} sets the batch size of the {@link Batching} steps and the {@link ReducingBarrierStep}s of a
+ * standard traversal so that they process their traversers a batch at a time (see {@link AbstractStep#setBatchSize(int)}).
+ * The strategy is not a default strategy and must be added to the {@link org.apache.tinkerpop.gremlin.process.traversal.TraversalSource}.
+ * As batching steps compute their ends ahead of the steps that follow, the strategy is best suited to traversals that are
+ * fully iterated and whose lambdas do not depend on the order in which steps are evaluated.
+ * <p/>
+ * <pre>
+ * g = GraphTraversalSource.build().with(BatchingStrategy.build().batchSize(256).create()).create(graph)
+ * g.V().out().out().has('name','marko').count()
+ * </pre>
+ */
+public final class BatchingStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final Set<Class<? extends FinalizationStrategy>> POSTS = new HashSet<>();
+
+    static {
+        POSTS.add(ProfileStrategy.class);
+    }
+
+    private final int batchSize;
+
+    private BatchingStrategy(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (traversal.getEngine().isComputer() || !(traversal.getParent() instanceof EmptyStep))
+            return;
+
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof AbstractStep && (step instanceof Batching || step instanceof ReducingBarrierStep))
+                ((AbstractStep) step).setBatchSize(this.batchSize);
+        }
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPost() {
+        return POSTS;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder() {
+        }
+
+        public Builder batchSize(final int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public BatchingStrategy create() {
+            if (this.batchSize < 1)
+                throw new IllegalArgumentException("The batch size must be greater than 0: " + this.batchSize);
+            return new BatchingStrategy(this.batchSize);
+        }
+    }
+}
@@ -41,24 +41,42 @@ import java.util.HashSet;
 import java.util.Set;
 
 /**
+ * {@code LazyBarrierStrategy} inserts {@link NoOpBarrierStep}s after the steps of a traversal that are likely to fan
+ * out so that their traversers are bulked. The default {@link #instance()} uses barriers of a fixed
+ * {@link #MAX_BARRIER_SIZE}. A strategy created with {@link #build()} uses adaptive barriers which grow from the minimum
+ * to the maximum barrier size while traversers merge (see {@link NoOpBarrierStep}) and can be configured per
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.TraversalSource}.
+ * <p/>
+ * <pre>
+ * g = GraphTraversalSource.build().with(LazyBarrierStrategy.build().minBarrierSize(100).maxBarrierSize(100000).create()).create(graph)
+ * </pre>
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class LazyBarrierStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
 
-    private static final LazyBarrierStrategy INSTANCE = new LazyBarrierStrategy();
     private static final Set<Class<? extends FinalizationStrategy>> PRIORS = new HashSet<>();
     private static final Set<Class<? extends FinalizationStrategy>> POSTS = new HashSet<>();
 
     private static final int REQUIRED_DEPTH = 2;
     private static final int BIG_START_SIZE = 5;
     protected static final int MAX_BARRIER_SIZE = 10000;
+    protected static final int MIN_BARRIER_SIZE = 100;
+
+    private static final LazyBarrierStrategy INSTANCE = new LazyBarrierStrategy(MAX_BARRIER_SIZE, MAX_BARRIER_SIZE, REQUIRED_DEPTH);
 
     static {
        POSTS.add(ProfileStrategy.class);
     }
 
+    private final int minBarrierSize;
+    private final int maxBarrierSize;
+    private final int requiredDepth;
 
-    private LazyBarrierStrategy() {
+    private LazyBarrierStrategy(final int minBarrierSize, final int maxBarrierSize, final int requiredDepth) {
+        this.minBarrierSize = minBarrierSize;
+        this.maxBarrierSize = maxBarrierSize;
+        this.requiredDepth = requiredDepth;
     }
 
     @Override
@@ -75,7 +93,7 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
                 depth++;
         }
 
-        if (depth > REQUIRED_DEPTH) {
+        if (depth > this.requiredDepth) {
             boolean bigStart = false;
             char foundVertexStep = 'x';
             for (int i = 0; i < traversal.getSteps().size() - 1; i++) {
@@ -88,7 +106,9 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
                             !(step instanceof SupplyingBarrierStep) &&
                             !(step instanceof ReducingBarrierStep) &&
                             !(step instanceof VertexStep && ((VertexStep) step).returnsEdge())) {
-                        TraversalHelper.insertAfterStep(new NoOpBarrierStep<>(traversal, MAX_BARRIER_SIZE), step, traversal);
+                        TraversalHelper.insertAfterStep(this.minBarrierSize == this.maxBarrierSize ?
+                                new NoOpBarrierStep<>(traversal, this.maxBarrierSize) :
+                                new NoOpBarrierStep<>(traversal, this.minBarrierSize, this.maxBarrierSize), step, traversal);
                     }
                 }
 
@@ -100,6 +120,17 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
         }
     }
 
+    public int getMinBarrierSize() {
+        return this.minBarrierSize;
+    }
+
+    public int getMaxBarrierSize() {
+        return this.maxBarrierSize;
+    }
+
+    public int getRequiredDepth() {
+        return this.requiredDepth;
+    }
 
     @Override
     public Set<Class<? extends FinalizationStrategy>> applyPrior() {
@@ -114,4 +145,41 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
     public static LazyBarrierStrategy instance() {
         return INSTANCE;
     }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int minBarrierSize = MIN_BARRIER_SIZE;
+        private int maxBarrierSize = MAX_BARRIER_SIZE;
+        private int requiredDepth = REQUIRED_DEPTH;
+
+        private Builder() {
+        }
+
+        public Builder minBarrierSize(final int minBarrierSize) {
+            this.minBarrierSize = minBarrierSize;
+            return this;
+        }
+
+        public Builder maxBarrierSize(final int maxBarrierSize) {
+            this.maxBarrierSize = maxBarrierSize;
+            return this;
+        }
+
+        public Builder requiredDepth(final int requiredDepth) {
+            this.requiredDepth = requiredDepth;
+            return this;
+        }
+
+        public LazyBarrierStrategy create() {
+            if (this.minBarrierSize < 1 || this.minBarrierSize > this.maxBarrierSize)
+                throw new IllegalArgumentException("The minimum barrier size must be between 1 and the maximum barrier size: " + this.minBarrierSize + " > " + this.maxBarrierSize);
+            if (this.requiredDepth < 0)
+                throw new IllegalArgumentException("The required depth must not be negative: " + this.requiredDepth);
+            return new LazyBarrierStrategy(this.minBarrierSize, this.maxBarrierSize, this.requiredDepth);
+        }
+    }
 }
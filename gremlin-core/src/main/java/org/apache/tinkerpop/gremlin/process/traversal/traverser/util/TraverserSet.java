@@ -21,72 +21,102 @@ package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.AbstractSet;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
-import java.util.Spliterator;
 
 /**
+ * A {@link Set} of traversers that merges the bulk of equal traversers on {@link #add}. Traversers are kept in
+ * insertion order in an array that is indexed by an open-addressing hash table, so that adding, looking up and
+ * popping a traverser does not allocate a map entry per traverser. The hashes are those of the traversers in this JVM
+ * (e.g. identity hash codes), so only the traversers are serialized and the table is rebuilt when deserialized.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements Set<Traverser.Admin<S>>, Queue<Traverser.Admin<S>>, Serializable {
 
-    private final Map<Traverser.Admin<S>, Traverser.Admin<S>> map = new LinkedHashMap<>();
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int FREE = 0;
+    private static final int REMOVED = -1;
+
+    // live traversers in insertion order within [head, tail) with null where a traverser was removed
+    private transient Traverser.Admin<S>[] entries;
+    private transient int[] hashes;
+    // slots hold the entry index plus one, FREE or REMOVED and the table is twice the size of the entries
+    private transient int[] table;
+    private transient int head = 0;
+    private transient int tail = 0;
+    private transient int size = 0;
+    private transient int rebuilds = 0;
 
     public TraverserSet() {
 
     }
 
     public TraverserSet(final Traverser.Admin<S> traverser) {
-        this.map.put(traverser, traverser);
+        this.add(traverser);
     }
 
     @Override
     public Iterator<Traverser.Admin<S>> iterator() {
-        return this.map.values().iterator();
+        return new TraverserSetIterator();
     }
 
     public Traverser.Admin<S> get(final Traverser.Admin<S> traverser) {
-        return this.map.get(traverser);
+        final int index = this.indexOf(traverser);
+        return -1 == index ? null : this.entries[index];
     }
 
     @Override
     public int size() {
-        return this.map.size();
+        return this.size;
     }
 
     public long bulkSize() {
-        return this.map.values().stream().map(Traverser::bulk).reduce(0l, (a, b) -> a + b);
+        long bulk = 0l;
+        for (int i = this.head; i < this.tail; i++) {
+            if (null != this.entries[i])
+                bulk = bulk + this.entries[i].bulk();
+        }
+        return bulk;
     }
 
     @Override
     public boolean isEmpty() {
-        return this.map.isEmpty();
+        return 0 == this.size;
     }
 
     @Override
     public boolean contains(final Object traverser) {
-        return this.map.containsKey(traverser);
+        return -1 != this.indexOf(traverser);
     }
 
     @Override
     public boolean add(final Traverser.Admin<S> traverser) {
-        final Traverser.Admin<S> existing = this.map.get(traverser);
-        if (null == existing) {
-            this.map.put(traverser, traverser);
-            return true;
-        } else {
-            existing.merge(traverser);
+        final int hash = hash(traverser);
+        final int index = this.indexOf(traverser, hash);
+        if (-1 != index) {
+            this.entries[index].merge(traverser);
             return false;
         }
+        if (null == this.entries) {
+            this.allocate(INITIAL_CAPACITY);
+        } else if (this.tail == this.entries.length)
+            this.resize();
+        this.entries[this.tail] = traverser;
+        this.hashes[this.tail] = hash;
+        this.insert(hash, this.tail);
+        this.tail++;
+        this.size++;
+        return true;
     }
 
     @Override
@@ -96,54 +126,205 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
 
     @Override
     public Traverser.Admin<S> remove() {  // pop, exception if empty
-        final Iterator<Traverser.Admin<S>> iterator = this.map.values().iterator();
-        if (!iterator.hasNext())
+        if (0 == this.size)
             throw FastNoSuchElementException.instance();
-        final Traverser.Admin<S> next = iterator.next();
-        iterator.remove();
-        return next;
+        final Traverser.Admin<S> traverser = this.entries[this.head];
+        this.removeAt(this.head);
+        return traverser;
     }
 
     @Override
     public Traverser.Admin<S> poll() {  // pop, null if empty
-        return this.map.isEmpty() ? null : this.remove();
+        return 0 == this.size ? null : this.remove();
     }
 
     @Override
     public Traverser.Admin<S> element() { // peek, exception if empty
-        return this.iterator().next();
+        if (0 == this.size)
+            throw FastNoSuchElementException.instance();
+        return this.entries[this.head];
     }
 
     @Override
     public Traverser.Admin<S> peek() { // peek, null if empty
-        return this.map.isEmpty() ? null : this.iterator().next();
+        return 0 == this.size ? null : this.entries[this.head];
     }
 
     @Override
     public boolean remove(final Object traverser) {
-        return this.map.remove(traverser) != null;
+        final int index = this.indexOf(traverser);
+        if (-1 == index)
+            return false;
+        this.removeAt(index);
+        return true;
     }
 
     @Override
     public void clear() {
-        this.map.clear();
+        this.entries = null;
+        this.hashes = null;
+        this.table = null;
+        this.head = 0;
+        this.tail = 0;
+        this.size = 0;
+        this.rebuilds++;
     }
 
-    @Override
-    public Spliterator<Traverser.Admin<S>> spliterator() {
-        return this.map.values().spliterator();
+    public void sort(final Comparator<Traverser<S>> comparator) {
+        if (this.size < 2)
+            return;
+        final Traverser.Admin<S>[] sorted = this.compact(this.entries.length);
+        Arrays.sort(sorted, 0, this.size, comparator);
+        for (int i = 0; i < this.size; i++) {
+            this.hashes[i] = hash(sorted[i]);
+        }
+        this.entries = sorted;
+        this.rebuild();
     }
 
-    @Override
-    public String toString() {
-        return this.map.keySet().toString();
+    private static int hash(final Object traverser) {
+        final int hash = traverser.hashCode();
+        return hash ^ (hash >>> 16);
     }
 
-    public void sort(final Comparator<Traverser<S>> comparator) {
-        final List<Traverser.Admin<S>> list = new ArrayList<>(this.map.values());
-        Collections.sort(list, comparator);
-        this.map.clear();
-        list.forEach(traverser -> this.map.put(traverser, traverser));
+    private int indexOf(final Object traverser) {
+        return null == this.table || null == traverser ? -1 : this.indexOf(traverser, hash(traverser));
+    }
+
+    private int indexOf(final Object traverser, final int hash) {
+        if (null == this.table)
+            return -1;
+        final int mask = this.table.length - 1;
+        int slot = hash & mask;
+        int value;
+        while (FREE != (value = this.table[slot])) {
+            if (REMOVED != value && hash == this.hashes[value - 1] && traverser.equals(this.entries[value - 1]))
+                return value - 1;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(final int hash, final int index) {
+        final int mask = this.table.length - 1;
+        int slot = hash & mask;
+        while (FREE != this.table[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        this.table[slot] = index + 1;
+    }
+
+    private void removeAt(final int index) {
+        final int mask = this.table.length - 1;
+        int slot = this.hashes[index] & mask;
+        while (index + 1 != this.table[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        this.table[slot] = REMOVED;
+        this.entries[index] = null;
+        this.size--;
+        if (index == this.head) {
+            while (this.head < this.tail && null == this.entries[this.head]) {
+                this.head++;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(final int capacity) {
+        this.entries = (Traverser.Admin<S>[]) new Traverser.Admin[capacity];
+        this.hashes = new int[capacity];
+        this.table = new int[capacity << 1];
+    }
+
+    /**
+     * Called when the tail reaches the end of the entries. Removed entries are squeezed out and the entries only
+     * grow when more than half of them are live. As every table slot in use refers to an entry index below the tail,
+     * the table never gets more than half full.
+     */
+    private void resize() {
+        final int capacity = this.size < (this.entries.length >> 1) ? this.entries.length : this.entries.length << 1;
+        this.entries = this.compact(capacity);
+        this.rebuild();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Traverser.Admin<S>[] compact(final int capacity) {
+        final Traverser.Admin<S>[] compacted = (Traverser.Admin<S>[]) new Traverser.Admin[capacity];
+        final int[] compactedHashes = new int[capacity];
+        int position = 0;
+        for (int i = this.head; i < this.tail; i++) {
+            if (null != this.entries[i]) {
+                compacted[position] = this.entries[i];
+                compactedHashes[position++] = this.hashes[i];
+            }
+        }
+        this.hashes = compactedHashes;
+        this.head = 0;
+        this.tail = this.size;
+        return compacted;
+    }
+
+    private void rebuild() {
+        this.table = new int[this.entries.length << 1];
+        for (int i = 0; i < this.tail; i++) {
+            this.insert(this.hashes[i], i);
+        }
+        this.rebuilds++;
+    }
+
+    private void writeObject(final ObjectOutputStream outputStream) throws IOException {
+        outputStream.defaultWriteObject();
+        outputStream.writeInt(this.size);
+        for (int i = this.head; i < this.tail; i++) {
+            if (null != this.entries[i])
+                outputStream.writeObject(this.entries[i]);
+        }
     }
 
+    @SuppressWarnings("unchecked")
+    private void readObject(final ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        final int size = inputStream.readInt();
+        for (int i = 0; i < size; i++) {
+            this.add((Traverser.Admin<S>) inputStream.readObject());
+        }
+    }
+
+    private final class TraverserSetIterator implements Iterator<Traverser.Admin<S>> {
+
+        private final int expectedRebuilds = TraverserSet.this.rebuilds;
+        private int next = TraverserSet.this.head;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            this.checkForRebuild();
+            while (this.next < TraverserSet.this.tail && null == TraverserSet.this.entries[this.next]) {
+                this.next++;
+            }
+            return this.next < TraverserSet.this.tail;
+        }
+
+        @Override
+        public Traverser.Admin<S> next() {
+            if (!this.hasNext())
+                throw FastNoSuchElementException.instance();
+            this.last = this.next++;
+            return TraverserSet.this.entries[this.last];
+        }
+
+        @Override
+        public void remove() {
+            this.checkForRebuild();
+            if (-1 == this.last || null == TraverserSet.this.entries[this.last])
+                throw new IllegalStateException();
+            TraverserSet.this.removeAt(this.last);
+        }
+
+        private void checkForRebuild() {
+            if (this.expectedRebuilds != TraverserSet.this.rebuilds)
+                throw new ConcurrentModificationException();
+        }
+    }
 }
@@ -73,6 +73,14 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     @Override
     public void applyStrategies() throws IllegalStateException {
         if (this.locked) throw Traversal.Exceptions.traversalIsLocked();
+        final Optional<Object> planKey = TraversalPlanCache.instance().createKey(this);
+        if (planKey.isPresent()) {
+            final Traversal.Admin<?, ?> plan = TraversalPlanCache.instance().get(planKey.get());
+            if (null != plan) {
+                this.adoptPlan((DefaultTraversal<S, E>) plan);
+                return;
+            }
+        }
         TraversalHelper.reIdSteps(this.stepPosition, this);
         this.strategies.applyStrategies(this);
         boolean hasGraph = null != this.graph;
@@ -94,6 +102,39 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
         }
         this.finalEndStep = this.getEndStep();
         this.locked = true;
+        if (planKey.isPresent()) TraversalPlanCache.instance().put(planKey.get(), this);
+    }
+
+    /**
+     * Takes the steps of a cached, strategy-applied clone as the steps of this traversal. The steps of the child
+     * traversals are already linked to their parents, so only the root steps, the side-effects and the graph (which
+     * the cache does not hold on to) need rewiring.
+     */
+    private void adoptPlan(final DefaultTraversal<S, E> plan) {
+        this.steps = plan.steps;
+        for (final Step<?, ?> step : this.steps) {
+            step.setTraversal(this);
+        }
+        shareSideEffectsAndGraph(this, this.sideEffects, this.graph);
+        this.finalEndStep = this.getEndStep();
+        this.locked = true;
+    }
+
+    static void shareSideEffectsAndGraph(final Traversal.Admin<?, ?> traversal, final TraversalSideEffects sideEffects, final Graph graph) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) step).getGlobalChildren()) {
+                    globalChild.setSideEffects(sideEffects);
+                    globalChild.setGraph(graph);
+                    shareSideEffectsAndGraph(globalChild, sideEffects, graph);
+                }
+                for (final Traversal.Admin<?, ?> localChild : ((TraversalParent) step).getLocalChildren()) {
+                    localChild.setSideEffects(sideEffects);
+                    localChild.setGraph(graph);
+                    shareSideEffectsAndGraph(localChild, sideEffects, graph);
+                }
+            }
+        }
     }
 
     @Override
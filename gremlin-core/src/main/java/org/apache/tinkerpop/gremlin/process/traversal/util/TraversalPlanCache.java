@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, least-recently-used cache of strategy-applied traversals. When enabled, a root traversal that has the
+ * same pre-strategy step structure as a previously optimized traversal (same steps and arguments, same
+ * {@link Graph} instance and same strategies) adopts a clone of the cached plan rather than running
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies#applyStrategies(Traversal.Admin)} again.
+ * <p/>
+ * Step arguments are part of the cache key as strategies fold them into the optimized steps (e.g. a {@code has()}
+ * folded into a provider's graph step), so a traversal with different argument values is a different plan.
+ * The key is built from the string and hash code of the steps, so traversals whose steps do not show all their
+ * arguments could share a plan. Thus, traversals with lambdas, traversals with {@link Mutating} steps (which do not
+ * print their keys and values), traversals that do not start from a {@link GraphStep} and traversals that are not
+ * executed on the {@link StandardTraversalEngine} are never cached (e.g. the steps that a parallel engine adds hold on
+ * to the thread pool of that engine). The cache holds its graphs weakly, so that a closed graph is not kept reachable
+ * by its plans. The cache is disabled by default and is enabled with {@link #setMaxSize(int)}.
+ */
+public final class TraversalPlanCache {
+
+    private static final TraversalPlanCache INSTANCE = new TraversalPlanCache();
+
+    private final AtomicLong hits = new AtomicLong(0l);
+    private final AtomicLong misses = new AtomicLong(0l);
+    private volatile int maxSize = 0;
+    private final Map<PlanKey, Traversal.Admin<?, ?>> plans = new LinkedHashMap<PlanKey, Traversal.Admin<?, ?>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<PlanKey, Traversal.Admin<?, ?>> eldest) {
+            return this.size() > maxSize;
+        }
+    };
+
+    private TraversalPlanCache() {
+    }
+
+    public static TraversalPlanCache instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sets the maximum number of plans to hold. A size of {@code 0} disables the cache and clears it.
+     */
+    public synchronized void setMaxSize(final int maxSize) {
+        if (maxSize < 0)
+            throw new IllegalArgumentException("The maximum size of the plan cache must be zero or greater: " + maxSize);
+        this.maxSize = maxSize;
+        if (0 == maxSize)
+            this.plans.clear();
+        else {
+            while (this.plans.size() > maxSize) {
+                this.plans.remove(this.plans.keySet().iterator().next());
+            }
+        }
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public boolean isEnabled() {
+        return this.maxSize > 0;
+    }
+
+    /**
+     * The number of times a traversal adopted a cached plan.
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * The number of times a cacheable traversal had its strategies applied because no plan was cached for it.
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    public synchronized int size() {
+        return this.plans.size();
+    }
+
+    /**
+     * Removes all cached plans and resets the hit and miss counts.
+     */
+    public synchronized void clear() {
+        this.plans.clear();
+        this.hits.set(0l);
+        this.misses.set(0l);
+    }
+
+    /**
+     * Creates the key for a traversal that has not yet had its strategies applied or returns empty if the traversal
+     * can not be cached.
+     */
+    Optional<Object> createKey(final Traversal.Admin<?, ?> traversal) {
+        if (!this.isEnabled()
+                || !(traversal.getParent() instanceof EmptyStep)
+                || !traversal.getGraph().isPresent()
+                || !(traversal.getEngine() instanceof StandardTraversalEngine)
+                || !(traversal.getStartStep() instanceof GraphStep)
+                || TraversalHelper.hasStepOfAssignableClassRecursively(Arrays.asList(LambdaHolder.class, Mutating.class), traversal))
+            return Optional.empty();
+        return Optional.of(new PlanKey(traversal));
+    }
+
+    /**
+     * Gets a clone of the cached plan for the key or {@code null} if there is no plan for it.
+     */
+    Traversal.Admin<?, ?> get(final Object key) {
+        final Traversal.Admin<?, ?> plan;
+        synchronized (this) {
+            plan = this.plans.get(key);
+        }
+        if (null == plan) {
+            this.misses.incrementAndGet();
+            return null;
+        } else {
+            this.hits.incrementAndGet();
+            return plan.clone();
+        }
+    }
+
+    /**
+     * Caches a clone of a traversal that has just had its strategies applied.
+     */
+    void put(final Object key, final Traversal.Admin<?, ?> plan) {
+        final Traversal.Admin<?, ?> clone = plan.clone();
+        // the graph is bound again when the plan is adopted
+        clone.setGraph(null);
+        DefaultTraversal.shareSideEffectsAndGraph(clone, clone.getSideEffects(), null);
+        synchronized (this) {
+            if (this.isEnabled()) {
+                this.plans.keySet().removeIf(PlanKey::isCleared);
+                this.plans.put((PlanKey) key, clone);
+            }
+        }
+    }
+
+    private static final class PlanKey {
+        private final Class<?> traversalClass;
+        private final WeakReference<Graph> graph;
+        private final List<TraversalStrategy<?>> strategies;
+        private final String steps;
+        private final int stepsHashCode;
+        private final int hashCode;
+
+        private PlanKey(final Traversal.Admin<?, ?> traversal) {
+            this.traversalClass = traversal.getClass();
+            final Graph graph = traversal.getGraph().get();
+            this.graph = new WeakReference<>(graph);
+            this.strategies = new ArrayList<>(traversal.getStrategies().toList());
+            this.steps = traversal.toString();
+            this.stepsHashCode = traversal.getSteps().hashCode();
+            this.hashCode = this.steps.hashCode() ^ this.stepsHashCode ^ System.identityHashCode(graph);
+        }
+
+        private boolean isCleared() {
+            return null == this.graph.get();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof PlanKey))
+                return false;
+            final PlanKey otherKey = (PlanKey) other;
+            return this.hashCode == otherKey.hashCode &&
+                    this.stepsHashCode == otherKey.stepsHashCode &&
+                    !this.isCleared() &&
+                    this.graph.get() == otherKey.graph.get() &&
+                    this.traversalClass.equals(otherKey.traversalClass) &&
+                    this.steps.equals(otherKey.steps) &&
+                    sameStrategies(this.strategies, otherKey.strategies);
+        }
+
+        /**
+         * Strategies are compared by identity as {@code AbstractTraversalStrategy} equality is by class and would
+         * otherwise treat differently configured strategies (e.g. two {@code PartitionStrategy} instances) as equal.
+         */
+        private static boolean sameStrategies(final List<TraversalStrategy<?>> a, final List<TraversalStrategy<?>> b) {
+            if (a.size() != b.size())
+                return false;
+            for (int i = 0; i < a.size(); i++) {
+                if (a.get(i) != b.get(i))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.traversal.util;
 
 import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
@@ -42,8 +43,10 @@ public final class TraversalScriptHelper {
 
         try {
             if (builder.create(graph).getGraphComputer().isPresent()) {
-                final TraversalVertexProgram program = TraversalVertexProgram.build().traversal(builder, scriptEngineName, traversalScript, bindings).create(graph);
-                final ComputerResult result = builder.create(graph).getGraphComputer().get().program(program).submit().get();
+                final GraphComputer graphComputer = builder.create(graph).getGraphComputer().get();
+                final TraversalVertexProgram program = TraversalVertexProgram.build().traversal(builder, scriptEngineName, traversalScript, bindings)
+                        .localMessageScopes(graphComputer.features().supportsLocalMessageScopes()).create(graph);
+                final ComputerResult result = graphComputer.program(program).submit().get();
                 return program.computerResultTraversal(result);
             } else {
                 return new TraversalScriptFunction<S, E>(builder, scriptEngineName, traversalScript, bindings).apply(graph);
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.io;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Loads records into a {@link Graph} with a pool of parse workers feeding a pool of write workers through a bounded
+ * queue.  Records are read from the supplied {@link Iterator} on the calling thread, so the parse function should
+ * carry the expensive part of deserialization.  The write function returns the number of mutations it made and each
+ * write worker commits its own transaction every {@code batchSize} mutations.
+ * <p/>
+ * Transactions are what keep concurrent mutations apart in a {@link Graph}, so more than one write worker is only used
+ * when the graph supports transactions.  Otherwise all writes happen on a single worker while parsing remains
+ * parallel.
+ */
+public final class ParallelGraphLoader {
+
+    private static final int QUEUE_SIZE_PER_WORKER = 1024;
+    private static final Object END = new Object();
+
+    private ParallelGraphLoader() {
+    }
+
+    public static <R, S> void load(final Graph graph, final long batchSize, final int parseWorkers, final int writeWorkers,
+                                   final Iterator<R> records, final Function<R, S> parser,
+                                   final ToLongFunction<S> writer) throws IOException {
+        if (parseWorkers < 1)
+            throw new IllegalArgumentException("The number of parse workers must be greater than zero: " + parseWorkers);
+        if (writeWorkers < 1)
+            throw new IllegalArgumentException("The number of write workers must be greater than zero: " + writeWorkers);
+
+        final boolean supportsTx = graph.features().graph().supportsTransactions();
+        final int writers = supportsTx ? writeWorkers : 1;
+        final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_SIZE_PER_WORKER * writers);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        final ExecutorService writePool = Executors.newFixedThreadPool(writers, threadFactory("gremlin-reader-write-"));
+        for (int i = 0; i < writers; i++) {
+            writePool.execute(() -> write(graph, batchSize, supportsTx, queue, writer, failure));
+        }
+
+        // a full work queue has the calling thread parse the record which holds back reading of further records
+        final ThreadPoolExecutor parsePool = parseWorkers > 1 ?
+                new ThreadPoolExecutor(parseWorkers, parseWorkers, 0l, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(parseWorkers * 4), threadFactory("gremlin-reader-parse-"),
+                        new ThreadPoolExecutor.CallerRunsPolicy()) : null;
+        try {
+            while (records.hasNext() && null == failure.get()) {
+                final R record = records.next();
+                if (null == parsePool)
+                    parse(record, queue, parser, failure);
+                else
+                    parsePool.execute(() -> parse(record, queue, parser, failure));
+            }
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+        }
+
+        try {
+            if (null != parsePool) {
+                parsePool.shutdown();
+                parsePool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            }
+            for (int i = 0; i < writers; i++) {
+                offer(queue, END, failure);
+            }
+            writePool.shutdown();
+            writePool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            failure.compareAndSet(null, ie);
+            if (null != parsePool) parsePool.shutdownNow();
+            writePool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        final Throwable t = failure.get();
+        if (t instanceof IOException)
+            throw (IOException) t;
+        else if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        else if (t instanceof Error)
+            throw (Error) t;
+        else if (null != t)
+            throw new IOException(t);
+    }
+
+    private static <R, S> void parse(final R record, final BlockingQueue<Object> queue, final Function<R, S> parser,
+                                     final AtomicReference<Throwable> failure) {
+        try {
+            if (null == failure.get())
+                offer(queue, parser.apply(record), failure);
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> void write(final Graph graph, final long batchSize, final boolean supportsTx,
+                                  final BlockingQueue<Object> queue, final ToLongFunction<S> writer,
+                                  final AtomicReference<Throwable> failure) {
+        long mutations = 0l;
+        try {
+            while (null == failure.get()) {
+                final Object item = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (END == item)
+                    break;
+                else if (null == item)
+                    continue;
+
+                final long before = mutations;
+                mutations = mutations + writer.applyAsLong((S) item);
+                if (supportsTx && mutations / batchSize != before / batchSize)
+                    graph.tx().commit();
+            }
+
+            if (supportsTx) {
+                if (null == failure.get())
+                    graph.tx().commit();
+                else if (graph.tx().isOpen())
+                    graph.tx().rollback();
+            }
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+            if (supportsTx && graph.tx().isOpen())
+                graph.tx().rollback();
+        }
+    }
+
+    private static void offer(final BlockingQueue<Object> queue, final Object item,
+                              final AtomicReference<Throwable> failure) throws InterruptedException {
+        while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+            if (null != failure.get())
+                return;
+        }
+    }
+
+    private static ThreadFactory threadFactory(final String prefix) {
+        final AtomicInteger counter = new AtomicInteger(0);
+        return runnable -> {
+            final Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
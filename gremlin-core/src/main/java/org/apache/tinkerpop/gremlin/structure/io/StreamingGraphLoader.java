@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.io;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads a stream of {@link StarGraph.StarVertex} objects into a {@link Graph} in a single pass.  Rather than holding
+ * every star graph until the end of the stream, only the mapping from the identifier of a vertex in the stream to
+ * the identifier of the vertex created for it is kept and an edge is added as soon as both of its vertices exist.
+ * This relies on each edge being present in the adjacency of both of its vertices, as written by
+ * {@link GraphWriter#writeGraph}.
+ * <p/>
+ * When the graph accepts the identifiers in the stream, the graph itself serves as the mapping.  Otherwise, the
+ * mapping is held in memory until it exceeds {@code maxIdsInMemory} entries after which it is spilled to a
+ * temporary file, leaving only the hash and file offset of each spilled identifier on the heap.  The heap used by
+ * the mapping is therefore still linear in the number of vertices, at about twelve bytes (an {@code int} and a
+ * {@code long}) per spilled identifier rather than the identifiers themselves, which is what bounds the size of the
+ * graph that can be loaded.
+ * <p/>
+ * This class is not thread-safe.
+ */
+public final class StreamingGraphLoader implements AutoCloseable {
+
+    private final Graph graph;
+    private final long batchSize;
+    private final boolean supportsTx;
+    private final Graph.Features.VertexFeatures vertexFeatures;
+    private final Graph.Features.EdgeFeatures edgeFeatures;
+    private final IdMapping idMapping;
+    private long counter = 0l;
+
+    public StreamingGraphLoader(final Graph graph, final long batchSize, final int maxIdsInMemory, final GryoMapper gryoMapper) {
+        if (maxIdsInMemory < 1)
+            throw new IllegalArgumentException("The maximum number of ids to hold in memory must be greater than zero: " + maxIdsInMemory);
+        this.graph = graph;
+        this.batchSize = batchSize;
+        this.supportsTx = graph.features().graph().supportsTransactions();
+        this.vertexFeatures = graph.features().vertex();
+        this.edgeFeatures = graph.features().edge();
+        this.idMapping = new IdMapping(maxIdsInMemory, gryoMapper);
+    }
+
+    /**
+     * Create the vertex and its properties along with any edge of the vertex whose other vertex was already loaded.
+     */
+    public Vertex load(final StarGraph.StarVertex starVertex) {
+        final Vertex vertex = starVertex.attach(Attachable.Method.create(this.graph));
+        if (!this.vertexFeatures.willAllowId(starVertex.id()) || !starVertex.id().equals(vertex.id()))
+            this.idMapping.put(starVertex.id(), vertex.id());
+        this.mutated();
+
+        starVertex.edges(Direction.OUT).forEachRemaining(edge -> {
+            final Vertex inVertex = edge.inVertex().id().equals(starVertex.id()) ? vertex : this.lookup(edge.inVertex().id());
+            if (null != inVertex)
+                this.addEdge(edge, vertex, inVertex);
+        });
+        starVertex.edges(Direction.IN).forEachRemaining(edge -> {
+            // self-loops were added with the out edges
+            if (!edge.outVertex().id().equals(starVertex.id())) {
+                final Vertex outVertex = this.lookup(edge.outVertex().id());
+                if (null != outVertex)
+                    this.addEdge(edge, outVertex, vertex);
+            }
+        });
+        return vertex;
+    }
+
+    /**
+     * Commit any outstanding mutations and delete the spill file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.supportsTx) this.graph.tx().commit();
+        } finally {
+            this.idMapping.close();
+        }
+    }
+
+    private Vertex lookup(final Object id) {
+        final Object mappedId = this.idMapping.get(id);
+        if (null == mappedId && !this.vertexFeatures.willAllowId(id))
+            return null;
+        final Iterator<Vertex> vertices = this.graph.vertices(null == mappedId ? id : mappedId);
+        return vertices.hasNext() ? vertices.next() : null;
+    }
+
+    private void addEdge(final Edge edge, final Vertex outVertex, final Vertex inVertex) {
+        final Edge newEdge = this.edgeFeatures.willAllowId(edge.id()) ?
+                outVertex.addEdge(edge.label(), inVertex, T.id, edge.id()) :
+                outVertex.addEdge(edge.label(), inVertex);
+        edge.properties().forEachRemaining(p -> newEdge.property(p.key(), p.value()));
+        this.mutated();
+    }
+
+    private void mutated() {
+        if (this.supportsTx && ++this.counter % this.batchSize == 0)
+            this.graph.tx().commit();
+    }
+
+    /**
+     * Maps stream identifiers to graph identifiers.  Each spill writes the in-memory entries to the end of the spill
+     * file as a segment ordered by hash so that a lookup is a binary search per segment followed by a read of the
+     * matching records.  Segments of similar size are merged as they are added, so there are only logarithmically
+     * many segments to search.
+     */
+    private static final class IdMapping {
+        private final int maxIdsInMemory;
+        private final GryoMapper gryoMapper;
+        private final Map<Object, Object> memory = new HashMap<>();
+        private final List<Segment> segments = new ArrayList<>();
+        private Kryo kryo;
+        private File file;
+        private Output output;
+        private RandomAccessFile reader;
+        private Input input;
+
+        private IdMapping(final int maxIdsInMemory, final GryoMapper gryoMapper) {
+            this.maxIdsInMemory = maxIdsInMemory;
+            this.gryoMapper = gryoMapper;
+        }
+
+        private void put(final Object id, final Object mappedId) {
+            this.memory.put(id, mappedId);
+            if (this.memory.size() >= this.maxIdsInMemory)
+                this.spill();
+        }
+
+        private Object get(final Object id) {
+            final Object mappedId = this.memory.get(id);
+            if (null != mappedId || this.segments.isEmpty())
+                return mappedId;
+            final int hash = id.hashCode();
+            try {
+                for (int i = this.segments.size() - 1; i >= 0; i--) {
+                    final Segment segment = this.segments.get(i);
+                    int position = Arrays.binarySearch(segment.hashes, hash);
+                    if (position < 0) continue;
+                    while (position > 0 && segment.hashes[position - 1] == hash) {
+                        position--;
+                    }
+                    for (; position < segment.hashes.length && segment.hashes[position] == hash; position++) {
+                        this.reader.seek(segment.offsets[position]);
+                        this.input.setInputStream(Channels.newInputStream(this.reader.getChannel()));
+                        if (id.equals(this.kryo.readClassAndObject(this.input)))
+                            return this.kryo.readClassAndObject(this.input);
+                    }
+                }
+            } catch (IOException ioe) {
+                throw new IllegalStateException("Could not read from id spill file " + this.file, ioe);
+            }
+            return null;
+        }
+
+        private void spill() {
+            try {
+                if (null == this.file) {
+                    this.kryo = this.gryoMapper.createMapper();
+                    this.file = File.createTempFile("tinkerpop-ids-", ".kryo");
+                    this.file.deleteOnExit();
+                    this.output = new Output(new FileOutputStream(this.file));
+                    this.reader = new RandomAccessFile(this.file, "r");
+                    this.input = new Input(4096);
+                }
+
+                final List<Map.Entry<Object, Object>> entries = new ArrayList<>(this.memory.entrySet());
+                entries.sort(Comparator.comparingInt(entry -> entry.getKey().hashCode()));
+                final Segment segment = new Segment(entries.size());
+                for (int i = 0; i < entries.size(); i++) {
+                    segment.hashes[i] = entries.get(i).getKey().hashCode();
+                    segment.offsets[i] = this.output.total();
+                    this.kryo.writeClassAndObject(this.output, entries.get(i).getKey());
+                    this.kryo.writeClassAndObject(this.output, entries.get(i).getValue());
+                }
+                this.output.flush();
+                this.addSegment(segment);
+                this.memory.clear();
+            } catch (IOException ioe) {
+                throw new IllegalStateException("Could not spill ids to disk", ioe);
+            }
+        }
+
+        /**
+         * Merges the segment with the last segments for as long as they are not larger, so that the sizes of the
+         * segments halve at least from one to the next.  The records stay where they are in the spill file.
+         */
+        private void addSegment(final Segment segment) {
+            Segment merged = segment;
+            while (!this.segments.isEmpty() && this.segments.get(this.segments.size() - 1).hashes.length <= merged.hashes.length) {
+                merged = Segment.merge(this.segments.remove(this.segments.size() - 1), merged);
+            }
+            this.segments.add(merged);
+        }
+
+        private void close() throws IOException {
+            this.memory.clear();
+            this.segments.clear();
+            if (null != this.file) {
+                try {
+                    this.output.close();
+                    this.reader.close();
+                } finally {
+                    this.file.delete();
+                }
+            }
+        }
+    }
+
+    private static final class Segment {
+        private final int[] hashes;
+        private final long[] offsets;
+
+        private Segment(final int size) {
+            this.hashes = new int[size];
+            this.offsets = new long[size];
+        }
+
+        private static Segment merge(final Segment older, final Segment newer) {
+            final Segment merged = new Segment(older.hashes.length + newer.hashes.length);
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < merged.hashes.length; k++) {
+                final Segment from;
+                final int position;
+                if (j == newer.hashes.length || (i < older.hashes.length && older.hashes[i] < newer.hashes[j])) {
+                    from = older;
+                    position = i++;
+                } else {
+                    from = newer;
+                    position = j++;
+                }
+                merged.hashes[k] = from.hashes[position];
+                merged.offsets[k] = from.offsets[position];
+            }
+            return merged;
+        }
+    }
+}
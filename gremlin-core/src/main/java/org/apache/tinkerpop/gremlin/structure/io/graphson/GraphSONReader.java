@@ -29,6 +29,9 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.io.GraphReader;
 import org.apache.tinkerpop.gremlin.structure.io.GraphWriter;
+import org.apache.tinkerpop.gremlin.structure.io.ParallelGraphLoader;
+import org.apache.tinkerpop.gremlin.structure.io.StreamingGraphLoader;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.apache.tinkerpop.gremlin.structure.util.Host;
@@ -50,6 +53,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
@@ -66,13 +70,22 @@ import java.util.function.Function;
 public final class GraphSONReader implements GraphReader {
     private final ObjectMapper mapper;
     private final long batchSize;
+    private final boolean bulkLoad;
+    private final int maxIdsInMemory;
+    private final int parseWorkers;
+    private final int writeWorkers;
 
     final TypeReference<Map<String, Object>> mapTypeReference = new TypeReference<Map<String, Object>>() {
     };
 
-    private GraphSONReader(final GraphSONMapper mapper, final long batchSize) {
+    private GraphSONReader(final GraphSONMapper mapper, final long batchSize, final boolean bulkLoad, final int maxIdsInMemory,
+                           final int parseWorkers, final int writeWorkers) {
         this.mapper = mapper.createMapper();
         this.batchSize = batchSize;
+        this.bulkLoad = bulkLoad;
+        this.maxIdsInMemory = maxIdsInMemory;
+        this.parseWorkers = parseWorkers;
+        this.writeWorkers = writeWorkers;
     }
 
     /**
@@ -85,6 +98,14 @@ public final class GraphSONReader implements GraphReader {
      */
     @Override
     public void readGraph(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
+        if (bulkLoad) {
+            readGraphStreaming(inputStream, graphToWriteTo);
+            return;
+        } else if (parseWorkers > 1 || writeWorkers > 1) {
+            readGraphParallel(inputStream, graphToWriteTo);
+            return;
+        }
+
         // dual pass - create all vertices and store to cache the ids.  then create edges.  as long as we don't
         // have vertex labels in the output we can't do this single pass
         final Map<StarGraph.StarVertex,Vertex> cache = new HashMap<>();
@@ -115,6 +136,56 @@ public final class GraphSONReader implements GraphReader {
         if (supportsTx) graphToWriteTo.tx().commit();
     }
 
+    private void readGraphStreaming(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
+        // single pass - the edges of each vertex are read in both directions so that an edge can be added by
+        // whichever of its vertices comes second
+        try (final StreamingGraphLoader loader = new StreamingGraphLoader(graphToWriteTo, batchSize, maxIdsInMemory, GryoMapper.build().create())) {
+            final BufferedReader br = new BufferedReader(new InputStreamReader(inputStream));
+            if (parseWorkers > 1) {
+                // the loader is not thread-safe and commits on its own so parse in parallel but write from one worker
+                ParallelGraphLoader.load(graphToWriteTo, batchSize, parseWorkers, 1, br.lines().iterator(),
+                        parseStarVertex(Direction.BOTH), starVertex -> {
+                            loader.load(starVertex);
+                            return 0l;
+                        });
+            } else {
+                br.lines().<Vertex>map(FunctionUtils.wrapFunction(line -> readVertex(new ByteArrayInputStream(line.getBytes()), null, null, Direction.BOTH)))
+                        .forEach(vertex -> loader.load((StarGraph.StarVertex) vertex));
+            }
+        }
+    }
+
+    private void readGraphParallel(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
+        // dual pass as with the sequential read, but with each pass spread over the parse and write workers
+        final Map<StarGraph.StarVertex, Vertex> cache = new ConcurrentHashMap<>();
+        final Graph.Features.EdgeFeatures edgeFeatures = graphToWriteTo.features().edge();
+
+        final BufferedReader br = new BufferedReader(new InputStreamReader(inputStream));
+        ParallelGraphLoader.load(graphToWriteTo, batchSize, parseWorkers, writeWorkers, br.lines().iterator(),
+                parseStarVertex(Direction.OUT), starVertex -> {
+                    cache.put(starVertex, starVertex.attach(Attachable.Method.create(graphToWriteTo)));
+                    return 1l;
+                });
+        ParallelGraphLoader.load(graphToWriteTo, batchSize, 1, writeWorkers, cache.keySet().iterator(),
+                Function.identity(), starVertex -> {
+                    long edges = 0l;
+                    final Iterator<Edge> itty = starVertex.edges(Direction.OUT);
+                    while (itty.hasNext()) {
+                        final Edge e = itty.next();
+                        final Vertex cachedOutV = cache.get(e.outVertex());
+                        final Vertex cachedInV = cache.get(e.inVertex());
+                        final Edge newEdge = edgeFeatures.willAllowId(e.id()) ? cachedOutV.addEdge(e.label(), cachedInV, T.id, e.id()) : cachedOutV.addEdge(e.label(), cachedInV);
+                        e.properties().forEachRemaining(p -> newEdge.property(p.key(), p.value()));
+                        edges++;
+                    }
+                    return edges;
+                });
+    }
+
+    private Function<String, StarGraph.StarVertex> parseStarVertex(final Direction direction) {
+        return FunctionUtils.wrapFunction(line -> (StarGraph.StarVertex) readVertex(new ByteArrayInputStream(line.getBytes()), null, null, direction));
+    }
+
     /**
      * Read {@link Vertex} objects from output generated by any of the {@link GraphSONWriter} {@code writeVertex} or
      * {@code writeVertices} methods or by {@link GraphSONWriter#writeGraph(OutputStream, Graph)}.
@@ -250,6 +321,10 @@ public final class GraphSONReader implements GraphReader {
 
     public final static class Builder implements ReaderBuilder<GraphSONReader> {
         private long batchSize = 10000;
+        private boolean bulkLoad = false;
+        private int maxIdsInMemory = 1000000;
+        private int parseWorkers = 1;
+        private int writeWorkers = 1;
 
         private GraphSONMapper mapper = GraphSONMapper.build().create();
 
@@ -264,6 +339,47 @@ public final class GraphSONReader implements GraphReader {
             return this;
         }
 
+        /**
+         * When {@code true}, {@link GraphSONReader#readGraph(InputStream, Graph)} loads the graph in a single pass
+         * holding only a mapping of vertex identifiers rather than every vertex read, which requires the input to
+         * have been written with the edges of both directions as {@link GraphSONWriter#writeGraph(OutputStream, Graph)}
+         * does.  By default this is {@code false}.
+         */
+        public Builder bulkLoad(final boolean bulkLoad) {
+            this.bulkLoad = bulkLoad;
+            return this;
+        }
+
+        /**
+         * Number of vertex identifiers to hold in memory during a {@link #bulkLoad(boolean)} before spilling them to
+         * disk.  Only applies to graphs that do not accept the identifiers in the input.  A spilled identifier still
+         * costs about twelve bytes of heap for its hash and file offset.
+         */
+        public Builder maxIdsInMemory(final int maxIdsInMemory) {
+            this.maxIdsInMemory = maxIdsInMemory;
+            return this;
+        }
+
+        /**
+         * Number of threads to parse lines of JSON with when using {@link GraphSONReader#readGraph(InputStream, Graph)}.
+         * By default this is {@code 1} and parsing happens on the calling thread.
+         */
+        public Builder parseWorkers(final int parseWorkers) {
+            this.parseWorkers = parseWorkers;
+            return this;
+        }
+
+        /**
+         * Number of threads to add vertices and edges with when using
+         * {@link GraphSONReader#readGraph(InputStream, Graph)}.  Each worker commits its own transaction every
+         * {@link #batchSize(long)} mutations.  Graphs that do not support transactions are always written from a
+         * single thread as are graphs read with {@link #bulkLoad(boolean)}.  By default this is {@code 1}.
+         */
+        public Builder writeWorkers(final int writeWorkers) {
+            this.writeWorkers = writeWorkers;
+            return this;
+        }
+
         /**
          * Override all of the {@link GraphSONMapper} builder
          * options with this mapper.  If this value is set to something other than null then that value will be
@@ -275,7 +391,7 @@ public final class GraphSONReader implements GraphReader {
         }
 
         public GraphSONReader create() {
-            return new GraphSONReader(mapper, batchSize);
+            return new GraphSONReader(mapper, batchSize, bulkLoad, maxIdsInMemory, parseWorkers, writeWorkers);
         }
     }
 }
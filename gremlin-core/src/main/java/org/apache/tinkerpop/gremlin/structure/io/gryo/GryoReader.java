@@ -22,6 +22,8 @@ import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.io.GraphWriter;
+import org.apache.tinkerpop.gremlin.structure.io.ParallelGraphLoader;
+import org.apache.tinkerpop.gremlin.structure.io.StreamingGraphLoader;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.Host;
@@ -38,6 +40,7 @@ import org.apache.tinkerpop.gremlin.structure.io.GraphReader;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
 import org.apache.tinkerpop.shaded.kryo.io.Input;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -45,6 +48,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
@@ -60,12 +65,23 @@ import java.util.function.Function;
  */
 public final class GryoReader implements GraphReader {
     private final Kryo kryo;
+    private final GryoMapper gryoMapper;
 
     private final long batchSize;
+    private final boolean bulkLoad;
+    private final int maxIdsInMemory;
+    private final int parseWorkers;
+    private final int writeWorkers;
 
-    private GryoReader(final long batchSize, final GryoMapper gryoMapper) {
+    private GryoReader(final long batchSize, final GryoMapper gryoMapper, final boolean bulkLoad, final int maxIdsInMemory,
+                       final int parseWorkers, final int writeWorkers) {
         this.kryo = gryoMapper.createMapper();
+        this.gryoMapper = gryoMapper;
         this.batchSize = batchSize;
+        this.bulkLoad = bulkLoad;
+        this.maxIdsInMemory = maxIdsInMemory;
+        this.parseWorkers = parseWorkers;
+        this.writeWorkers = writeWorkers;
     }
 
     /**
@@ -79,6 +95,14 @@ public final class GryoReader implements GraphReader {
      */
     @Override
     public void readGraph(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
+        if (bulkLoad) {
+            readGraphStreaming(inputStream, graphToWriteTo);
+            return;
+        } else if (parseWorkers > 1 || writeWorkers > 1) {
+            readGraphParallel(inputStream, graphToWriteTo);
+            return;
+        }
+
         // dual pass - create all vertices and store to cache the ids.  then create edges.  as long as we don't
         // have vertex labels in the output we can't do this single pass
         final Map<StarGraph.StarVertex,Vertex> cache = new HashMap<>();
@@ -108,6 +132,63 @@ public final class GryoReader implements GraphReader {
         if (supportsTx) graphToWriteTo.tx().commit();
     }
 
+    private void readGraphStreaming(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
+        // single pass - an edge is added by whichever of its vertices comes second in the stream
+        try (final StreamingGraphLoader loader = new StreamingGraphLoader(graphToWriteTo, batchSize, maxIdsInMemory, gryoMapper)) {
+            if (parseWorkers > 1) {
+                // the loader is not thread-safe and commits on its own so parse in parallel but write from one worker
+                ParallelGraphLoader.load(graphToWriteTo, batchSize, parseWorkers, 1, new VertexBytesIterator(inputStream),
+                        parseStarVertex(), starVertex -> {
+                            loader.load(starVertex);
+                            return 0l;
+                        });
+            } else {
+                IteratorUtils.iterate(new VertexInputIterator(new Input(inputStream), attachable -> loader.load((StarGraph.StarVertex) attachable.get()), null, null));
+            }
+        }
+    }
+
+    private void readGraphParallel(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
+        // dual pass as with the sequential read, but with each pass spread over the parse and write workers
+        final Map<StarGraph.StarVertex, Vertex> cache = new ConcurrentHashMap<>();
+        final Graph.Features.EdgeFeatures edgeFeatures = graphToWriteTo.features().edge();
+
+        ParallelGraphLoader.load(graphToWriteTo, batchSize, parseWorkers, writeWorkers, new VertexBytesIterator(inputStream),
+                parseStarVertex(), starVertex -> {
+                    cache.put(starVertex, starVertex.attach(Attachable.Method.create(graphToWriteTo)));
+                    return 1l;
+                });
+        ParallelGraphLoader.load(graphToWriteTo, batchSize, 1, writeWorkers, cache.keySet().iterator(),
+                Function.identity(), starVertex -> {
+                    long edges = 0l;
+                    final Iterator<Edge> itty = starVertex.edges(Direction.OUT);
+                    while (itty.hasNext()) {
+                        final Edge e = itty.next();
+                        final Vertex cachedOutV = cache.get(e.outVertex());
+                        final Vertex cachedInV = cache.get(e.inVertex());
+                        final Edge newEdge = edgeFeatures.willAllowId(e.id()) ? cachedOutV.addEdge(e.label(), cachedInV, T.id, e.id()) : cachedOutV.addEdge(e.label(), cachedInV);
+                        e.properties().forEachRemaining(p -> newEdge.property(p.key(), p.value()));
+                        edges++;
+                    }
+                    return edges;
+                });
+    }
+
+    /**
+     * Deserializes the bytes of a vertex split out by {@link VertexBytesIterator} with a {@code Kryo} instance per
+     * parse worker.
+     */
+    private Function<byte[], StarGraph.StarVertex> parseStarVertex() {
+        final ThreadLocal<Kryo> kryos = ThreadLocal.withInitial(gryoMapper::createMapper);
+        return bytes -> {
+            try {
+                return readStarGraph(kryos.get(), new Input(bytes)).getStarVertex();
+            } catch (IOException ioe) {
+                throw new RuntimeException(ioe);
+            }
+        };
+    }
+
     /**
      * Read {@link Vertex} objects from output generated by any of the {@link GryoWriter} {@code writeVertex} or
      * {@code writeVertices} methods or by {@link GryoWriter#writeGraph(OutputStream, Graph)}.
@@ -223,15 +304,19 @@ public final class GryoReader implements GraphReader {
                                       final Function<Attachable<Edge>, Edge> edgeMaker,
                                       final Direction d,
                                       final Input input) throws IOException {
+        final StarGraph starGraph = readStarGraph(kryo, input);
+        final Vertex v = vertexMaker.apply(starGraph.getStarVertex());
+        if (edgeMaker != null) starGraph.getStarVertex().edges(d).forEachRemaining(e -> edgeMaker.apply((Attachable<Edge>) e));
+        return v;
+    }
+
+    private StarGraph readStarGraph(final Kryo kryo, final Input input) throws IOException {
         readHeader(input);
         final StarGraph starGraph = kryo.readObject(input, StarGraph.class);
 
         // read the terminator
         kryo.readClassAndObject(input);
-
-        final Vertex v = vertexMaker.apply(starGraph.getStarVertex());
-        if (edgeMaker != null) starGraph.getStarVertex().edges(d).forEachRemaining(e -> edgeMaker.apply((Attachable<Edge>) e));
-        return v;
+        return starGraph;
     }
 
     private void readHeader(final Input input) throws IOException {
@@ -249,6 +334,10 @@ public final class GryoReader implements GraphReader {
     public final static class Builder implements ReaderBuilder<GryoReader> {
 
         private long batchSize = 10000;
+        private boolean bulkLoad = false;
+        private int maxIdsInMemory = 1000000;
+        private int parseWorkers = 1;
+        private int writeWorkers = 1;
         /**
          * Always use the most recent gryo version by default
          */
@@ -266,6 +355,47 @@ public final class GryoReader implements GraphReader {
             return this;
         }
 
+        /**
+         * When {@code true}, {@link GryoReader#readGraph(InputStream, Graph)} loads the graph in a single pass
+         * holding only a mapping of vertex identifiers rather than every vertex read, which requires the input to
+         * have been written with the edges of both directions as {@link GryoWriter#writeGraph(OutputStream, Graph)}
+         * does.  By default this is {@code false}.
+         */
+        public Builder bulkLoad(final boolean bulkLoad) {
+            this.bulkLoad = bulkLoad;
+            return this;
+        }
+
+        /**
+         * Number of vertex identifiers to hold in memory during a {@link #bulkLoad(boolean)} before spilling them to
+         * disk.  Only applies to graphs that do not accept the identifiers in the input.  A spilled identifier still
+         * costs about twelve bytes of heap for its hash and file offset.
+         */
+        public Builder maxIdsInMemory(final int maxIdsInMemory) {
+            this.maxIdsInMemory = maxIdsInMemory;
+            return this;
+        }
+
+        /**
+         * Number of threads to deserialize vertices with when using {@link GryoReader#readGraph(InputStream, Graph)}.
+         * By default this is {@code 1} and deserialization happens on the calling thread.
+         */
+        public Builder parseWorkers(final int parseWorkers) {
+            this.parseWorkers = parseWorkers;
+            return this;
+        }
+
+        /**
+         * Number of threads to add vertices and edges with when using {@link GryoReader#readGraph(InputStream, Graph)}.
+         * Each worker commits its own transaction every {@link #batchSize(long)} mutations.  Graphs that do not
+         * support transactions are always written from a single thread as are graphs read with
+         * {@link #bulkLoad(boolean)}.  By default this is {@code 1}.
+         */
+        public Builder writeWorkers(final int writeWorkers) {
+            this.writeWorkers = writeWorkers;
+            return this;
+        }
+
         /**
          * Supply a mapper {@link GryoMapper} instance to use as the serializer for the {@code KryoWriter}.
          */
@@ -275,7 +405,7 @@ public final class GryoReader implements GraphReader {
         }
 
         public GryoReader create() {
-            return new GryoReader(batchSize, this.gryoMapper);
+            return new GryoReader(batchSize, this.gryoMapper, bulkLoad, maxIdsInMemory, parseWorkers, writeWorkers);
         }
 
     }
@@ -310,4 +440,39 @@ public final class GryoReader implements GraphReader {
             }
         }
     }
+
+    /**
+     * Splits the stream into the bytes of each vertex so that they can be deserialized independently of one another.
+     */
+    private static class VertexBytesIterator implements Iterator<byte[]> {
+        private final VertexByteArrayInputStream stream;
+        private byte[] next;
+
+        public VertexBytesIterator(final InputStream inputStream) {
+            this.stream = new VertexByteArrayInputStream(new BufferedInputStream(inputStream));
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == next) {
+                try {
+                    // only the end of stream marker is written when there are no more vertices
+                    final byte[] bytes = stream.readVertexBytes().toByteArray();
+                    next = bytes.length > 1 ? bytes : null;
+                } catch (IOException ioe) {
+                    throw new RuntimeException(ioe);
+                }
+            }
+            return null != next;
+        }
+
+        @Override
+        public byte[] next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            final byte[] bytes = next;
+            next = null;
+            return bytes;
+        }
+    }
 }
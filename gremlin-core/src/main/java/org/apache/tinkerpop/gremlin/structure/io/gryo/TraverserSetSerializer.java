@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.io.gryo;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.Serializer;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+/**
+ * Serializes a {@link TraverserSet} as its size followed by its traversers in order, which is the same format as
+ * the {@code CollectionSerializer} that Kryo would otherwise use. The internal table of the set is rebuilt as the
+ * traversers are added on read rather than written.
+ */
+final class TraverserSetSerializer extends Serializer<TraverserSet> {
+
+    @Override
+    public void write(final Kryo kryo, final Output output, final TraverserSet traverserSet) {
+        output.writeInt(traverserSet.size(), true);
+        for (final Object traverser : traverserSet) {
+            kryo.writeClassAndObject(output, traverser);
+        }
+    }
+
+    @Override
+    public TraverserSet read(final Kryo kryo, final Input input, final Class<TraverserSet> traverserSetClass) {
+        final TraverserSet traverserSet = kryo.newInstance(traverserSetClass);
+        kryo.reference(traverserSet);
+        final int size = input.readInt(true);
+        for (int i = 0; i < size; i++) {
+            traverserSet.add((Traverser.Admin) kryo.readClassAndObject(input));
+        }
+        return traverserSet;
+    }
+
+    @Override
+    public TraverserSet copy(final Kryo kryo, final TraverserSet original) {
+        final TraverserSet copy = kryo.newInstance(original.getClass());
+        kryo.reference(copy);
+        for (final Object traverser : original) {
+            copy.add((Traverser.Admin) kryo.copy(traverser));
+        }
+        return copy;
+    }
+}
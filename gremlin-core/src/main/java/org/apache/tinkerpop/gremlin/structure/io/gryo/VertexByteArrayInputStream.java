@@ -25,8 +25,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * An {@link InputStream} implementation that can independently process a Gryo file written with
@@ -49,26 +47,30 @@ public final class VertexByteArrayInputStream extends FilterInputStream {
      */
     public ByteArrayOutputStream readVertexBytes() throws IOException {
         final ByteArrayOutputStream stream = new ByteArrayOutputStream();
-        final LinkedList<Byte> buffer = new LinkedList<>();
+
+        // the last bytes read kept as a ring where position is the oldest byte once the ring is full
+        final byte[] window = new byte[pattern.length];
+        int position = 0;
+        int size = 0;
 
         int current = read();
-        while (current > -1 && (buffer.size() < 12 || !isMatch(buffer))) {
+        while (current > -1 && (size < pattern.length || !isMatch(window, position))) {
             stream.write(current);
 
             current = read();
-            if (buffer.size() > 11)
-                buffer.removeFirst();
-
-            buffer.addLast((byte) current);
+            window[position] = (byte) current;
+            position = (position + 1) % pattern.length;
+            if (size < pattern.length)
+                size++;
         }
 
         stream.write(current);
         return stream;
     }
 
-    private static boolean isMatch(final List<Byte> input) {
+    private static boolean isMatch(final byte[] window, final int position) {
         for (int i = 0; i < pattern.length; i++) {
-            if (pattern[i] != input.get(i)) {
+            if (pattern[i] != window[(position + i) % pattern.length]) {
                 return false;
             }
         }
@@ -33,6 +33,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -178,6 +179,31 @@ public class PathTest {
         });
     }
 
+    @Test
+    public void shouldSelectAcrossUnlabeledObjects() {
+        PATH_SUPPLIERS.forEach(supplier -> {
+            Path path = supplier.get();
+            path = path.extend("marko", Collections.singleton("a"));
+            path = path.extend("josh", Collections.emptySet());
+            path = path.extend("ripple", Collections.emptySet());
+            path = path.extend("stephen", Collections.singleton("a"));
+            path = path.extend("matthias", Collections.emptySet());
+            path = path.extend(Collections.singleton("b"));
+            assertEquals(5, path.size());
+            assertEquals("marko", path.get(0));
+            assertEquals("ripple", path.get(2));
+            assertEquals("matthias", path.get(4));
+            assertEquals("marko", path.get(Pop.first, "a"));
+            assertEquals("stephen", path.get(Pop.last, "a"));
+            assertEquals(Arrays.asList("marko", "stephen"), path.get(Pop.all, "a"));
+            assertEquals("matthias", path.get(Pop.first, "b"));
+            assertEquals("matthias", path.get(Pop.last, "b"));
+            assertEquals(Collections.emptySet(), path.labels().get(2));
+            assertEquals(Collections.singleton("b"), path.labels().get(4));
+            assertFalse(path.hasLabel("c"));
+        });
+    }
+
     @Test
     public void shouldSelectListCorrectly() {
         PATH_SUPPLIERS.forEach(supplier -> {
@@ -258,4 +284,23 @@ public class PathTest {
             }
         }
     }
+
+    @Test
+    public void shouldNotBeAffectedByChangesToTheExtendingLabels() {
+        PATH_SUPPLIERS.forEach(supplier -> {
+            final Set<String> labels = new LinkedHashSet<>(Arrays.asList("a", "b"));
+            Path path = supplier.get();
+            path = path.extend("marko", labels);
+            path = path.extend("stephen", labels);
+            labels.clear();
+            labels.add("c");
+            path = path.extend("daniel", labels);
+            labels.add("d");
+            assertEquals(Arrays.asList(new LinkedHashSet<>(Arrays.asList("a", "b")), new LinkedHashSet<>(Arrays.asList("a", "b")), Collections.singleton("c")), path.labels());
+            assertTrue(path.hasLabel("a"));
+            assertFalse(path.hasLabel("d"));
+            assertEquals("stephen", path.get(Pop.last, "a"));
+            assertEquals("daniel", path.get(Pop.last, "c"));
+        });
+    }
 }
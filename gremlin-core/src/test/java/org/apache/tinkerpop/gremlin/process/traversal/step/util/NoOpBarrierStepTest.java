@@ -24,10 +24,16 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.util.EmptyTraversal;
+import org.junit.Test;
 
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
  */
@@ -37,4 +43,36 @@ public class NoOpBarrierStepTest extends StepTest {
     protected List<Traversal> getTraversals() {
         return Collections.singletonList(__.barrier());
     }
+
+    @Test
+    public void shouldResizeAdaptiveBarrierByMergeRatio() {
+        final NoOpBarrierStep<Object> step = new NoOpBarrierStep<>(EmptyTraversal.instance(), 2, 8);
+        assertTrue(step.isAdaptive());
+        assertEquals(2, step.getBarrierSize());
+        step.barrierFilled(10, 2);
+        assertEquals(4, step.getBarrierSize());
+        step.barrierFilled(20, 4);
+        assertEquals(8, step.getBarrierSize());
+        step.barrierFilled(40, 8);
+        assertEquals(8, step.getBarrierSize());
+        step.barrierFilled(8, 8);
+        assertEquals(4, step.getBarrierSize());
+        step.barrierFilled(6, 4);
+        assertEquals(4, step.getBarrierSize());
+        step.reset();
+        assertEquals(2, step.getBarrierSize());
+    }
+
+    @Test
+    public void shouldNotResizeFixedBarrier() {
+        final NoOpBarrierStep<Object> step = new NoOpBarrierStep<>(EmptyTraversal.instance(), 8);
+        assertFalse(step.isAdaptive());
+        step.barrierFilled(100, 1);
+        assertEquals(8, step.getBarrierSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowMinimumBarrierSizeAboveMaximum() {
+        new NoOpBarrierStep<>(EmptyTraversal.instance(), 10, 2);
+    }
 }
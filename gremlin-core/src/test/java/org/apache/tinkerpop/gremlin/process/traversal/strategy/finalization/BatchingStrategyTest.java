@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BatchingStrategyTest {
+
+    private static Traversal.Admin<?, ?> applyBatchingStrategy(final Traversal<?, ?> traversal, final TraversalEngine.Type type) {
+        final TraversalEngine traversalEngine = mock(TraversalEngine.class);
+        when(traversalEngine.getType()).thenReturn(type);
+        when(traversalEngine.isComputer()).thenReturn(type == TraversalEngine.Type.COMPUTER);
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(BatchingStrategy.build().batchSize(64).create());
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().setEngine(traversalEngine);
+        traversal.asAdmin().applyStrategies();
+        return traversal.asAdmin();
+    }
+
+    private static List<Integer> batchSizes(final Traversal.Admin<?, ?> traversal) {
+        final Integer[] batchSizes = new Integer[traversal.getSteps().size()];
+        for (int i = 0; i < batchSizes.length; i++) {
+            final Step<?, ?> step = traversal.getSteps().get(i);
+            batchSizes[i] = ((AbstractStep) step).getBatchSize();
+        }
+        return Arrays.asList(batchSizes);
+    }
+
+    @Test
+    public void shouldSetBatchSizeOfBatchingAndReducingSteps() {
+        final Traversal.Admin<?, ?> traversal = applyBatchingStrategy(__.out().has("age", 32).map(t -> t).values("name").count(), TraversalEngine.Type.STANDARD);
+        assertEquals(Arrays.asList(64, 64, 0, 64, 64), batchSizes(traversal));
+    }
+
+    @Test
+    public void shouldNotSetBatchSizeOnComputer() {
+        final Traversal.Admin<?, ?> traversal = applyBatchingStrategy(__.out().has("age", 32).values("name").count(), TraversalEngine.Type.COMPUTER);
+        assertEquals(Arrays.asList(0, 0, 0, 0), batchSizes(traversal));
+    }
+
+    @Test
+    public void shouldKeepBatchSizeOnClone() {
+        final Traversal.Admin<?, ?> traversal = applyBatchingStrategy(__.out().out().count(), TraversalEngine.Type.STANDARD);
+        assertEquals(Arrays.asList(64, 64, 64), batchSizes(traversal.clone()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateWithBatchSizeLessThanOne() {
+        BatchingStrategy.build().batchSize(0).create();
+    }
+}
@@ -25,7 +25,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.NoOpBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
@@ -33,8 +35,10 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -70,13 +74,48 @@ public class LazyBarrierStrategyTest {
         }
     }
 
+    public static class AdaptiveTest extends AbstractLazyBarrierStrategyTest {
+
+        @Before
+        public void setup() {
+            this.traversalEngine = mock(TraversalEngine.class);
+            when(this.traversalEngine.getType()).thenReturn(TraversalEngine.Type.STANDARD);
+            this.strategy = LazyBarrierStrategy.build().minBarrierSize(10).maxBarrierSize(1000).requiredDepth(1).create();
+        }
+
+        @Test
+        public void shouldInsertAdaptiveBarriers() {
+            final Traversal traversal = __.out().out().count();
+            applyAdjacentToIncidentStrategy(traversal);
+            final List<NoOpBarrierStep> barriers = TraversalHelper.getStepsOfClass(NoOpBarrierStep.class, traversal.asAdmin());
+            assertEquals(1, barriers.size());
+            assertTrue(barriers.get(0).isAdaptive());
+            assertEquals(10, barriers.get(0).getMinBarrierSize());
+            assertEquals(1000, barriers.get(0).getMaxBarrierSize());
+            assertEquals(NoOpBarrierStep.class, traversal.asAdmin().getSteps().get(2).getClass());
+        }
+
+        @Test
+        public void shouldInsertFixedBarriersWhenSizesAreEqual() {
+            this.strategy = LazyBarrierStrategy.build().minBarrierSize(50).maxBarrierSize(50).create();
+            final Traversal traversal = __.out().out().out().count();
+            doTest(traversal, __.out().out().barrier(50).out().barrier(50).count());
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void shouldNotAllowMinimumBarrierSizeAboveMaximum() {
+            LazyBarrierStrategy.build().minBarrierSize(100).maxBarrierSize(10).create();
+        }
+    }
+
     private static abstract class AbstractLazyBarrierStrategyTest {
 
         protected TraversalEngine traversalEngine;
+        protected LazyBarrierStrategy strategy = LazyBarrierStrategy.instance();
 
         void applyAdjacentToIncidentStrategy(final Traversal traversal) {
             final TraversalStrategies strategies = new DefaultTraversalStrategies();
-            strategies.addStrategies(LazyBarrierStrategy.instance());
+            strategies.addStrategies(this.strategy);
 
             traversal.asAdmin().setStrategies(strategies);
             traversal.asAdmin().setEngine(this.traversalEngine);
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.util.Serializer;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TraverserSetTest {
+
+    @Test
+    public void shouldMergeBulkOfEqualTraversers() {
+        final TraverserSet<String> traverserSet = new TraverserSet<>();
+        assertTrue(traverserSet.add(new B_O_Traverser<>("a", 1l)));
+        assertTrue(traverserSet.add(new B_O_Traverser<>("b", 2l)));
+        assertFalse(traverserSet.add(new B_O_Traverser<>("a", 3l)));
+        assertEquals(2, traverserSet.size());
+        assertEquals(6l, traverserSet.bulkSize());
+        assertEquals(4l, traverserSet.get(new B_O_Traverser<>("a", 1l)).bulk());
+        assertTrue(traverserSet.contains(new B_O_Traverser<>("b", 1l)));
+        assertFalse(traverserSet.contains(new B_O_Traverser<>("c", 1l)));
+        assertEquals("[a, b]", traverserSet.toString());
+    }
+
+    @Test
+    public void shouldPopInInsertionOrder() {
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        for (int i = 0; i < 1000; i++) {
+            traverserSet.add(new B_O_Traverser<>(i, 1l));
+            if (i % 3 == 0)
+                traverserSet.remove(new B_O_Traverser<>(i, 1l));
+        }
+        int expected = 0;
+        while (!traverserSet.isEmpty()) {
+            if (expected % 3 == 0)
+                expected++;
+            assertEquals(Integer.valueOf(expected), traverserSet.peek().get());
+            assertEquals(Integer.valueOf(expected++), traverserSet.remove().get());
+        }
+        assertEquals(999, expected);
+        assertNull(traverserSet.poll());
+        assertNull(traverserSet.peek());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowWhenPoppingEmptySet() {
+        final TraverserSet<String> traverserSet = new TraverserSet<>(new B_O_Traverser<>("a", 1l));
+        traverserSet.remove();
+        traverserSet.remove();
+    }
+
+    @Test
+    public void shouldReuseSpaceWhenUsedAsQueue() {
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        for (int i = 0; i < 10000; i++) {
+            traverserSet.add(new B_O_Traverser<>(i, 1l));
+            traverserSet.add(new B_O_Traverser<>(i, 1l));
+            assertEquals(1, traverserSet.size());
+            assertEquals(2l, traverserSet.bulkSize());
+            assertEquals(Integer.valueOf(i), traverserSet.remove().get());
+        }
+        assertTrue(traverserSet.isEmpty());
+        assertEquals(0l, traverserSet.bulkSize());
+    }
+
+    @Test
+    public void shouldRemoveWithIterator() {
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        for (int i = 0; i < 100; i++) {
+            traverserSet.add(new B_O_Traverser<>(i, 1l));
+        }
+        final Iterator<Traverser.Admin<Integer>> iterator = traverserSet.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().get() % 2 == 0)
+                iterator.remove();
+        }
+        assertEquals(50, traverserSet.size());
+        assertFalse(traverserSet.contains(new B_O_Traverser<>(10, 1l)));
+        assertTrue(traverserSet.add(new B_O_Traverser<>(10, 1l)));
+        final List<Integer> values = new ArrayList<>();
+        traverserSet.forEach(traverser -> values.add(traverser.get()));
+        assertEquals(51, values.size());
+        assertEquals(Integer.valueOf(1), values.get(0));
+        assertEquals(Integer.valueOf(10), values.get(50));
+    }
+
+    @Test
+    public void shouldSortTraversers() {
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        for (int i = 0; i < 100; i++) {
+            traverserSet.add(new B_O_Traverser<>((i * 37) % 100, 1l));
+        }
+        traverserSet.remove(new B_O_Traverser<>(50, 1l));
+        traverserSet.sort(Comparator.comparing(Traverser::get));
+        int last = -1;
+        for (final Traverser.Admin<Integer> traverser : traverserSet) {
+            assertTrue(traverser.get() > last);
+            last = traverser.get();
+        }
+        assertEquals(99, traverserSet.size());
+        assertFalse(traverserSet.add(new B_O_Traverser<>(25, 1l)));
+        assertTrue(traverserSet.add(new B_O_Traverser<>(50, 1l)));
+        assertEquals(100, traverserSet.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldRehashTraversersWhenDeserialized() throws Exception {
+        // identity hash codes differ once deserialized as they would in another JVM
+        final TraverserSet<Token> traverserSet = new TraverserSet<>();
+        for (int i = 0; i < 20; i++) {
+            traverserSet.add(new B_O_Traverser<>(new Token(), i + 1));
+        }
+        traverserSet.remove();
+
+        final TraverserSet<Token> deserialized = (TraverserSet<Token>) Serializer.deserializeObject(Serializer.serializeObject(traverserSet));
+        assertEquals(19, deserialized.size());
+        assertEquals(traverserSet.bulkSize(), deserialized.bulkSize());
+        long bulk = 2l;
+        for (final Traverser.Admin<Token> traverser : deserialized) {
+            assertEquals(bulk++, traverser.bulk());
+            assertTrue(deserialized.contains(new B_O_Traverser<>(traverser.get(), 1l)));
+        }
+        assertFalse(deserialized.add(new B_O_Traverser<>(deserialized.peek().get(), 1l)));
+        assertEquals(3l, deserialized.remove().bulk());
+    }
+
+    private static final class Token implements Serializable {
+    }
+
+    @Test
+    @Ignore
+    public void benchmarkAgainstLinkedHashMap() {
+        final int size = 1000000;
+        final int distinct = 100000;
+        for (int run = 0; run < 5; run++) {
+            long time = System.currentTimeMillis();
+            final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+            for (int i = 0; i < size; i++) {
+                traverserSet.add(new B_O_Traverser<>(i % distinct, 1l));
+            }
+            long bulk = traverserSet.bulkSize();
+            while (!traverserSet.isEmpty()) {
+                traverserSet.remove();
+            }
+            System.out.println("TraverserSet: " + (System.currentTimeMillis() - time) + "ms [" + bulk + "]");
+
+            time = System.currentTimeMillis();
+            final Map<Traverser.Admin<Integer>, Traverser.Admin<Integer>> map = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                final Traverser.Admin<Integer> traverser = new B_O_Traverser<>(i % distinct, 1l);
+                final Traverser.Admin<Integer> existing = map.get(traverser);
+                if (null == existing)
+                    map.put(traverser, traverser);
+                else
+                    existing.merge(traverser);
+            }
+            bulk = map.values().stream().map(Traverser::bulk).reduce(0l, (a, b) -> a + b);
+            while (!map.isEmpty()) {
+                final Iterator<Traverser.Admin<Integer>> iterator = map.values().iterator();
+                iterator.next();
+                iterator.remove();
+            }
+            System.out.println("LinkedHashMap: " + (System.currentTimeMillis() - time) + "ms [" + bulk + "]");
+        }
+    }
+}
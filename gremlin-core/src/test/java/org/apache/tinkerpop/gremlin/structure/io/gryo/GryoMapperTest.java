@@ -18,8 +18,21 @@
  */
 package org.apache.tinkerpop.gremlin.structure.io.gryo;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 
 /**
@@ -31,4 +44,38 @@ public class GryoMapperTest {
         final GryoMapper.Builder b = GryoMapper.build();
         assertNotSame(b, GryoMapper.build());
     }
+
+    @Test
+    public void shouldSerializeTraverserSet() {
+        final TraverserSet<String> traverserSet = new TraverserSet<>();
+        traverserSet.add(new B_O_Traverser<>("a", 2l));
+        traverserSet.add(new B_O_Traverser<>("b", 1l));
+        traverserSet.add(new B_O_Traverser<>("c", 3l));
+        traverserSet.add(new B_O_Traverser<>("a", 1l));
+        traverserSet.remove(new B_O_Traverser<>("b", 1l));
+        traverserSet.add(new B_O_Traverser<>("d", 4l));
+
+        final Kryo kryo = GryoMapper.build().create().createMapper();
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final Output out = new Output(stream);
+        kryo.writeObject(out, traverserSet);
+        out.flush();
+
+        final Input in = new Input(new ByteArrayInputStream(stream.toByteArray()));
+        final TraverserSet<String> read = kryo.readObject(in, TraverserSet.class);
+
+        final List<String> values = new ArrayList<>();
+        final List<Long> bulks = new ArrayList<>();
+        for (final Traverser.Admin<String> traverser : read) {
+            values.add(traverser.get());
+            bulks.add(traverser.bulk());
+        }
+        assertEquals(Arrays.asList("a", "c", "d"), values);
+        assertEquals(Arrays.asList(3l, 3l, 4l), bulks);
+        assertEquals(10l, read.bulkSize());
+
+        // the table of the read set is usable for lookups and merges
+        read.add(new B_O_Traverser<>("c", 1l));
+        assertEquals(4l, read.get(new B_O_Traverser<>("c", 1l)).bulk());
+    }
 }
@@ -20,8 +20,11 @@ package org.apache.tinkerpop.gremlin.driver;
 
 import org.apache.tinkerpop.gremlin.driver.exception.ConnectionException;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.util.Serializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -163,6 +166,38 @@ public abstract class Client {
         return submitAsync(buildMessage(request));
     }
 
+    /**
+     * Submits a {@link Traversal} to the server and returns a {@link ResultSet} once the write of the request is
+     * complete.  The traversal is sent as serialized steps rather than as a script, so the server executes it
+     * against the {@link TraversalSource} bound to "g" (or what "g" is rebound to) without compiling anything.  The
+     * traversal should be spawned from a {@link TraversalSource} of an {@link EmptyGraph} (or any other local graph,
+     * as the graph itself is not sent) and must not yet be iterated.  Any lambdas in the traversal must be
+     * {@code Serializable}.  The server must have the {@link Tokens#OPS_TRAVERSAL} operation enabled.
+     *
+     * @param traversal the traversal to execute
+     */
+    public ResultSet submit(final Traversal traversal) {
+        try {
+            return submitAsync(traversal).get();
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * The asynchronous version of {@link #submit(Traversal)} where the returned future will complete when the
+     * write of the request completes.
+     *
+     * @param traversal the traversal to execute
+     */
+    public CompletableFuture<ResultSet> submitAsync(final Traversal traversal) {
+        final RequestMessage.Builder request = RequestMessage.build(Tokens.OPS_TRAVERSAL)
+                .add(Tokens.ARGS_GREMLIN, serializeTraversal(traversal))
+                .add(Tokens.ARGS_BATCH_SIZE, cluster.connectionPoolSettings().resultIterationBatchSize);
+
+        return submitAsync(buildMessage(request));
+    }
+
     /**
      * A low-level method that allows the submission of a manually constructed {@link RequestMessage}.
      */
@@ -198,6 +233,17 @@ public abstract class Client {
         closeAsync().join();
     }
 
+    private static byte[] serializeTraversal(final Traversal traversal) {
+        if (traversal.asAdmin().isLocked())
+            throw new IllegalArgumentException("The traversal has already had its strategies applied and can no longer be submitted - submit a traversal that has not been iterated");
+
+        try {
+            return Serializer.serializeObject(traversal);
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(String.format("The traversal could not be serialized (are its lambdas Serializable?) - %s", ex.getMessage()), ex);
+        }
+    }
+
     /**
      * A {@code Client} implementation that does not operate in a session.  Requests are sent to multiple servers
      * given a {@link LoadBalancingStrategy}.  Transactions are automatically committed
@@ -417,6 +463,11 @@ public abstract class Client {
             throw new UnsupportedOperationException("Sessioned client do no support rebinding");
         }
 
+        @Override
+        public CompletableFuture<ResultSet> submitAsync(final Traversal traversal) {
+            throw new UnsupportedOperationException("Sessioned client do not support traversal submission");
+        }
+
         /**
          * Adds the {@link Tokens#ARGS_SESSION} value to every {@link RequestMessage}.
          */
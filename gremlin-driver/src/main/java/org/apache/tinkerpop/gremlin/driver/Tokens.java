@@ -34,6 +34,7 @@ public final class Tokens {
     public static final String OPS_IMPORT = "import";
     public static final String OPS_INVALID = "invalid";
     public static final String OPS_RESET = "reset";
+    public static final String OPS_TRAVERSAL = "traversal";
     public static final String OPS_USE = "use";
     public static final String OPS_VERSION = "version";
     public static final String OPS_AUTHENTICATION = "authentication";
@@ -79,6 +79,12 @@ public enum ResponseStatusCode {
      */
     SERVER_ERROR(500),
 
+    /**
+     * The server is too busy to accept the request as its queue of requests waiting to be processed is full or the
+     * request waited in that queue longer than is allowed.  The request was not processed and may be retried.
+     */
+    SERVER_ERROR_OVERLOADED(503),
+
     /**
      * The script submitted for processing evaluated in the {@code ScriptEngine} with errors and could not be
      * processed.  Check the script submitted for syntax errors or other problems and then resubmit.
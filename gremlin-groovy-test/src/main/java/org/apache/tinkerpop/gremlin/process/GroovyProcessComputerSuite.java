@@ -108,6 +108,7 @@ public class GroovyProcessComputerSuite extends ProcessComputerSuite {
             GroovyMapTest.Traversals.class,
             GroovyMapKeysTest.Traversals.class,
             GroovyMapValuesTest.Traversals.class,
+            GroovyMatchTest.CostMatchTraversals.class,
             GroovyMatchTest.CountMatchTraversals.class,
             GroovyMatchTest.GreedyMatchTraversals.class,
             GroovyMaxTest.Traversals.class,
@@ -80,6 +80,7 @@ public class GroovyProcessStandardSuite extends ProcessStandardSuite {
             GroovyMapTest.Traversals.class,
             GroovyMapKeysTest.Traversals.class,
             GroovyMapValuesTest.Traversals.class,
+            GroovyMatchTest.CostMatchTraversals.class,
             GroovyMatchTest.CountMatchTraversals.class,
             GroovyMatchTest.GreedyMatchTraversals.class,
             GroovyMaxTest.Traversals.class,
@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.groovy.engine;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.ScriptClassCache;
 import org.apache.tinkerpop.gremlin.groovy.plugin.GremlinPlugin;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.javatuples.Pair;
@@ -42,10 +43,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -81,6 +84,7 @@ public class GremlinExecutor implements AutoCloseable {
 
     private final Map<String, EngineSettings> settings;
     private final long scriptEvaluationTimeout;
+    private final long queueTimeout;
     private final Bindings globalBindings;
     private final Predicate<Map.Entry<String,Object>> promoteBinding;
     private final List<List<String>> use;
@@ -93,6 +97,7 @@ public class GremlinExecutor implements AutoCloseable {
     private final Set<String> enabledPlugins;
     private final boolean suppliedExecutor;
     private final boolean suppliedScheduledExecutor;
+    private final boolean suppliedScriptEngines;
 
     private GremlinExecutor(final Builder builder, final boolean suppliedExecutor,
                             final boolean suppliedScheduledExecutor) {
@@ -106,10 +111,12 @@ public class GremlinExecutor implements AutoCloseable {
         this.use = builder.use;
         this.settings = builder.settings;
         this.scriptEvaluationTimeout = builder.scriptEvaluationTimeout;
+        this.queueTimeout = builder.queueTimeout;
         this.globalBindings = builder.globalBindings;
         this.promoteBinding = builder.promoteBinding;
         this.enabledPlugins = builder.enabledPlugins;
-        this.scriptEngines = createScriptEngines();
+        this.suppliedScriptEngines = builder.scriptEngines != null;
+        this.scriptEngines = suppliedScriptEngines ? builder.scriptEngines : createScriptEngines();
         this.suppliedExecutor = suppliedExecutor;
         this.suppliedScheduledExecutor = suppliedScheduledExecutor;
     }
@@ -236,12 +243,39 @@ public class GremlinExecutor implements AutoCloseable {
         bindings.putAll(boundVars);
         beforeEval.accept(bindings);
 
+        return evaluate(() -> scriptEngines.eval(script, bindings, lang), script, bindings, transformResult, withResult);
+    }
+
+    /**
+     * Evaluate a task other than a script (e.g. a {@code Traversal} that was submitted directly) in the same way that
+     * a script is evaluated.  The task is subject to the same queue and evaluation timeouts, it is cancelled in the
+     * same way on timeout and the same before and after hooks are called with the global bindings.  The
+     * {@link Function} and {@link Consumer} apply to the result of the task as they do to the result of a script.
+     *
+     * @param evaluation the task to evaluate
+     * @param description a description of the task for logs and error messages
+     * @param transformResult a {@link Function} that transforms the result - can be {@code null}
+     * @param withResult a {@link Consumer} that accepts the result - can be {@code null}
+     */
+    public CompletableFuture<Object> eval(final Callable<Object> evaluation, final String description,
+                                          final Function<Object, Object> transformResult, final Consumer<Object> withResult) {
+        logger.debug("Preparing to evaluate - {} - in thread [{}]", description, Thread.currentThread().getName());
+
+        final Bindings bindings = new SimpleBindings();
+        bindings.putAll(this.globalBindings);
+        beforeEval.accept(bindings);
+
+        return evaluate(evaluation, description, bindings, transformResult, withResult);
+    }
+
+    private CompletableFuture<Object> evaluate(final Callable<Object> evaluation, final String script, final Bindings bindings,
+                                               final Function<Object, Object> transformResult, final Consumer<Object> withResult) {
         final CompletableFuture<Object> evaluationFuture = new CompletableFuture<>();
         final FutureTask<Void> f = new FutureTask<>(() -> {
             try {
                 logger.debug("Evaluating script - {} - in thread [{}]", script, Thread.currentThread().getName());
 
-                final Object o = scriptEngines.eval(script, bindings, lang);
+                final Object o = evaluation.call();
 
                 // apply a transformation before sending back the result - useful when trying to force serialization
                 // in the same thread that the eval took place given ThreadLocal nature of graphs as well as some
@@ -272,24 +306,48 @@ public class GremlinExecutor implements AutoCloseable {
             return null;
         });
 
-        executorService.execute(f);
+        final long queuedAt = System.nanoTime();
+        try {
+            executorService.execute(() -> {
+                // a script that waited too long for a thread is likely already abandoned by its client, so drop it
+                // rather than spend a thread on it
+                final long queued = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedAt);
+                if (queueTimeout > 0 && queued > queueTimeout) {
+                    evaluationFuture.completeExceptionally(new RejectedExecutionException(
+                            String.format("Script evaluation waited %s ms for a thread which exceeds the configured threshold of %s ms for request [%s]", queued, queueTimeout, script)));
+                    return;
+                }
 
-        if (scriptEvaluationTimeout > 0) {
-            // Schedule a timeout in the thread pool for future execution
-            final ScheduledFuture<?> sf = scheduledExecutorService.schedule(() -> {
-                logger.warn("Timing out script - {} - in thread [{}]", script, Thread.currentThread().getName());
-                if (!f.isDone()) {
-                    afterTimeout.accept(bindings);
-                    f.cancel(true);
+                // the timeout starts once the script has a thread, so time spent in the queue is bounded by the
+                // queueTimeout alone
+                if (scriptEvaluationTimeout > 0) {
+                    final ScheduledFuture<?> sf = scheduledExecutorService.schedule(() -> {
+                        logger.warn("Timing out script - {} - in thread [{}]", script, Thread.currentThread().getName());
+                        if (!f.isDone()) {
+                            afterTimeout.accept(bindings);
+                            f.cancel(true);
+                        }
+                    }, scriptEvaluationTimeout, TimeUnit.MILLISECONDS);
+
+                    // Cancel the scheduled timeout if the eval future is complete or the script evaluation failed
+                    // with exception
+                    evaluationFuture.handleAsync((v, t) -> {
+                        logger.debug("Killing scheduled timeout on script evaluation as the eval completed (possibly with exception).");
+                        return sf.cancel(true);
+                    });
                 }
-            }, scriptEvaluationTimeout, TimeUnit.MILLISECONDS);
 
-            // Cancel the scheduled timeout if the eval future is complete or the script evaluation failed
-            // with exception
-            evaluationFuture.handleAsync((v, t) -> {
-                logger.debug("Killing scheduled timeout on script evaluation as the eval completed (possibly with exception).");
-                return sf.cancel(true);
+                f.run();
+
+                // the task is only cancelled by the timeout and if that happened before it started there is nothing
+                // left to complete the future
+                if (f.isCancelled())
+                    evaluationFuture.completeExceptionally(new TimeoutException(
+                            String.format("Script evaluation exceeded the configured threshold of %s ms for request [%s]", scriptEvaluationTimeout, script)));
             });
+        } catch (RejectedExecutionException ree) {
+            // the executor is saturated - fail fast as the script will never run
+            evaluationFuture.completeExceptionally(ree);
         }
 
         return evaluationFuture;
@@ -314,7 +372,7 @@ public class GremlinExecutor implements AutoCloseable {
     /**
      * {@inheritDoc}
      * <p/>
-     * Executors are only closed if they were not supplied externally in the
+     * Executors and script engines are only closed if they were not supplied externally in the
      * {@link org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor.Builder}
      */
     @Override
@@ -323,7 +381,7 @@ public class GremlinExecutor implements AutoCloseable {
     }
 
     /**
-     * Executors are only closed if they were not supplied externally in the
+     * Executors and script engines are only closed if they were not supplied externally in the
      * {@link org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor.Builder}
      */
     public CompletableFuture<Void> closeAsync() throws Exception {
@@ -352,10 +410,13 @@ public class GremlinExecutor implements AutoCloseable {
                 }
             }
 
-            try {
-                scriptEngines.close();
-            } catch (Exception ex) {
-                logger.warn("Error while shutting down the ScriptEngines in the GremlinExecutor", ex);
+            // leave the script engines open if they are supplied externally as they are shared with others
+            if (!suppliedScriptEngines) {
+                try {
+                    scriptEngines.close();
+                } catch (Exception ex) {
+                    logger.warn("Error while shutting down the ScriptEngines in the GremlinExecutor", ex);
+                }
             }
 
             future.complete(null);
@@ -438,6 +499,25 @@ public class GremlinExecutor implements AutoCloseable {
                     }
                 });
             }
+
+            // with imports and plugins in place the scripts known to be coming can be compiled ahead of the first
+            // request for them
+            for (Map.Entry<String, EngineSettings> config : settings.entrySet()) {
+                final String language = config.getKey();
+                final Map<String, Object> scriptCacheConfig = (Map<String, Object>) config.getValue().getConfig().getOrDefault(
+                        ScriptClassCache.CONFIG_SCRIPT_CACHE, Collections.emptyMap());
+                final List<String> warmUp = (List<String>) scriptCacheConfig.getOrDefault(
+                        ScriptClassCache.CONFIG_WARM_UP, Collections.emptyList());
+                warmUp.forEach(script -> {
+                    try {
+                        se.compile(script, language);
+                    } catch (Exception ex) {
+                        logger.warn("Could not warm up the {} ScriptEngine with script [{}] - {}", language, script, ex.getMessage());
+                    }
+                });
+
+                if (!warmUp.isEmpty()) logger.info("Warmed up {} ScriptEngine with {} scripts", language, warmUp.size());
+            }
         });
     }
 
@@ -459,9 +539,11 @@ public class GremlinExecutor implements AutoCloseable {
 
     public final static class Builder {
         private long scriptEvaluationTimeout = 8000;
+        private long queueTimeout = 0;
         private Map<String, EngineSettings> settings = new HashMap<>();
         private ExecutorService executorService = null;
         private ScheduledExecutorService scheduledExecutorService = null;
+        private ScriptEngines scriptEngines = null;
         private Set<String> enabledPlugins = new HashSet<>();
         private Consumer<Bindings> beforeEval = (b) -> {
         };
@@ -519,7 +601,8 @@ public class GremlinExecutor implements AutoCloseable {
         /**
          * Amount of time a script has before it times out. Note that the time required covers both script evaluation
          * as well as any time needed for a post result transformation (if the transformation function is supplied
-         * to the {@link GremlinExecutor#eval}).
+         * to the {@link GremlinExecutor#eval}).  The time starts once a thread of the {@link ExecutorService} begins
+         * to evaluate the script, so time spent waiting for a thread is only bounded by the {@link #queueTimeout(long)}.
          *
          * @param scriptEvaluationTimeout Time in milliseconds that a script is allowed to run and its
          *                                results potentially transformed. Set to zero to have no timeout set.
@@ -529,6 +612,31 @@ public class GremlinExecutor implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Amount of time a script may wait in the queue of the {@link ExecutorService} for a thread before it is
+         * rejected.  A rejected script completes its future with a
+         * {@link java.util.concurrent.RejectedExecutionException} without being evaluated.
+         *
+         * @param queueTimeout Time in milliseconds that a script may wait to be evaluated. Set to zero to allow the
+         *                     script to wait indefinitely.
+         */
+        public Builder queueTimeout(final long queueTimeout) {
+            this.queueTimeout = queueTimeout;
+            return this;
+        }
+
+        /**
+         * The {@link ScriptEngines} to evaluate scripts with.  When supplied, the executor does not create its own
+         * engines, so the engine settings, plugins, {@link #use(List)} dependencies and initialization scripts given
+         * to this builder are ignored, and the engines are left open when the executor is closed.  This allows
+         * several executors with their own thread pools and callbacks to share one set of engines and their caches
+         * of compiled scripts.
+         */
+        public Builder scriptEngines(final ScriptEngines scriptEngines) {
+            this.scriptEngines = scriptEngines;
+            return this;
+        }
+
         /**
          * Replaces any settings provided by {@link #engineSettings(java.util.Map)}.
          */
@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.groovy.DefaultImportCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.DependencyManager;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngineFactory;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.ScriptClassCache;
 import org.apache.tinkerpop.gremlin.groovy.plugin.GremlinPlugin;
 import org.apache.tinkerpop.gremlin.groovy.plugin.IllegalEnvironmentException;
 import org.slf4j.Logger;
@@ -286,6 +287,17 @@ public class ScriptEngines implements AutoCloseable {
         return m;
     }
 
+    /**
+     * Get the compiled script caches of the {@link GremlinGroovyScriptEngine} instances keyed by language.
+     */
+    public Map<String, ScriptClassCache> scriptClassCaches() {
+        final Map<String, ScriptClassCache> m = new HashMap<>();
+        scriptEngines.entrySet().stream()
+                .filter(kv -> kv.getValue() instanceof GremlinGroovyScriptEngine)
+                .forEach(kv -> m.put(kv.getKey(), ((GremlinGroovyScriptEngine) kv.getValue()).getScriptClassCache()));
+        return m;
+    }
+
     /**
      * Get the set of {@code ScriptEngine} that implement {@link DependencyManager} interface.
      */
@@ -360,8 +372,13 @@ public class ScriptEngines implements AutoCloseable {
                 }
             });
 
+            // the compiled script cache is unbounded with soft references unless configured otherwise
+            final Map<String,Object> scriptCacheConfig = (Map<String,Object>) config.getOrDefault(
+                    ScriptClassCache.CONFIG_SCRIPT_CACHE, Collections.emptyMap());
+            final ScriptClassCache scriptClassCache = ScriptClassCache.build().config(scriptCacheConfig).create();
+
             final CompilerCustomizerProvider[] providerArray = new CompilerCustomizerProvider[providers.size()];
-            return Optional.of((ScriptEngine) new GremlinGroovyScriptEngine(providers.toArray(providerArray)));
+            return Optional.of((ScriptEngine) new GremlinGroovyScriptEngine(scriptClassCache, providers.toArray(providerArray)));
         } else {
             return Optional.ofNullable(SCRIPT_ENGINE_MANAGER.getEngineByName(language));
         }
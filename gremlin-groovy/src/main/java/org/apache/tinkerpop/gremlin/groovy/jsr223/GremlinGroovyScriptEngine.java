@@ -100,7 +100,7 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
     /**
      * Script to generated Class map.
      */
-    private ManagedConcurrentValueMap<String, Class> classMap = new ManagedConcurrentValueMap<>(ReferenceBundle.getSoftBundle());
+    private final ScriptClassCache classMap;
 
     /**
      * Global closures map - this is used to simulate a single global functions namespace
@@ -134,6 +134,14 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
     }
 
     public GremlinGroovyScriptEngine(final CompilerCustomizerProvider... compilerCustomizerProviders) {
+        this(ScriptClassCache.build().create(), compilerCustomizerProviders);
+    }
+
+    public GremlinGroovyScriptEngine(final ScriptClassCache scriptClassCache,
+                                     final CompilerCustomizerProvider... compilerCustomizerProviders) {
+        classMap = scriptClassCache;
+        // the loader keeps its own reference to every class it parses, which would otherwise outlive the cache entry
+        classMap.setEvictionListener(clazz -> loader.removeClassCacheEntry(clazz.getName()));
         final List<CompilerCustomizerProvider> providers = Arrays.asList(compilerCustomizerProviders);
 
         GremlinLoader.load();
@@ -349,17 +357,25 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         return makeInterface(thiz, clazz);
     }
 
+    /**
+     * The cache of compiled scripts for the engine.
+     */
+    public ScriptClassCache getScriptClassCache() {
+        return classMap;
+    }
+
     Class getScriptClass(final String script) throws SyntaxException, CompilationFailedException, IOException {
         Class clazz = classMap.get(script);
         if (clazz != null) return clazz;
 
+        final long start = System.nanoTime();
         clazz = loader.parseClass(script, generateScriptName());
-        classMap.put(script, clazz);
+        classMap.put(script, clazz, System.nanoTime() - start);
         return clazz;
     }
 
     boolean isCached(final String script) {
-        return classMap.get(script) != null;
+        return classMap.contains(script);
     }
 
     Object eval(final Class scriptClass, final ScriptContext context) throws ScriptException {
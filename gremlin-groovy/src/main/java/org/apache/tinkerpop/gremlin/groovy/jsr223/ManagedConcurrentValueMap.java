@@ -76,6 +76,13 @@ class ManagedConcurrentValueMap<K, V> {
         internalMap.put(key, ref);
     }
 
+    /**
+     * The number of keys in the map, including those with values that have been collected but not yet removed.
+     */
+    public int size() {
+        return internalMap.size();
+    }
+
     /**
      * Clear the map.
      */
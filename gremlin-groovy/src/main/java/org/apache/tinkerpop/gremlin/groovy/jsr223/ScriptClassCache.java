@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.groovy.jsr223;
+
+import org.codehaus.groovy.util.ReferenceBundle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * The cache of script to compiled {@code Class} of a {@link GremlinGroovyScriptEngine}.  By default the cache is
+ * unbounded and holds its classes with soft references, leaving it to the garbage collector to decide what is
+ * evicted.  A bounded cache holds at most {@code maxSize} classes and evicts by {@link Eviction} policy when full,
+ * optionally expiring classes that have not been used for {@code expireAfterAccess} milliseconds.  In both cases
+ * the cache counts hits, misses, evictions and the time spent compiling.  The classes that a bounded cache evicts or
+ * expires are handed to the eviction listener of the {@link GremlinGroovyScriptEngine} that owns the cache, so that
+ * its class loader lets go of them too.
+ */
+public final class ScriptClassCache {
+
+    /**
+     * The key in the configuration of a {@code ScriptEngine} that holds the configuration of the cache.
+     */
+    public static final String CONFIG_SCRIPT_CACHE = "scriptCache";
+    public static final String CONFIG_MAX_SIZE = "maxSize";
+    public static final String CONFIG_EXPIRE_AFTER_ACCESS = "expireAfterAccess";
+    public static final String CONFIG_EVICTION = "eviction";
+
+    /**
+     * A list of scripts to compile when the {@code ScriptEngine} is initialized.
+     */
+    public static final String CONFIG_WARM_UP = "warmUp";
+
+    public enum Eviction {
+        /**
+         * Evicts the class that was used least recently.
+         */
+        LRU,
+
+        /**
+         * Evicts the class that was used least often.
+         */
+        LFU
+    }
+
+    private final int maxSize;
+    private final long expireAfterAccess;
+    private final Eviction eviction;
+
+    private final ManagedConcurrentValueMap<String, Class> softClasses = new ManagedConcurrentValueMap<>(ReferenceBundle.getSoftBundle());
+    private final LinkedHashMap<String, Entry> classes;
+
+    private final AtomicLong hits = new AtomicLong(0l);
+    private final AtomicLong misses = new AtomicLong(0l);
+    private final AtomicLong evictions = new AtomicLong(0l);
+    private final AtomicLong compilations = new AtomicLong(0l);
+    private final AtomicLong compileTime = new AtomicLong(0l);
+
+    private volatile Consumer<Class> evictionListener = clazz -> {};
+
+    private ScriptClassCache(final Builder builder) {
+        this.maxSize = builder.maxSize;
+        this.expireAfterAccess = builder.expireAfterAccess;
+        this.eviction = builder.eviction;
+        this.classes = new LinkedHashMap<>(16, 0.75f, eviction == Eviction.LRU);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public boolean isBounded() {
+        return this.maxSize > 0;
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public long getExpireAfterAccess() {
+        return this.expireAfterAccess;
+    }
+
+    public Eviction getEviction() {
+        return this.eviction;
+    }
+
+    /**
+     * Sets the function that is called with each class that is evicted or expired from a bounded cache.
+     */
+    void setEvictionListener(final Consumer<Class> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Gets the class compiled for the script or {@code null} if it is not cached.
+     */
+    Class get(final String script) {
+        final Class clazz = isBounded() ? getBounded(script) : softClasses.get(script);
+        if (null == clazz)
+            misses.incrementAndGet();
+        else
+            hits.incrementAndGet();
+        return clazz;
+    }
+
+    /**
+     * Determines if the script is cached without counting a hit or a miss and without counting as a use of the
+     * class by the eviction policy.
+     */
+    boolean contains(final String script) {
+        if (!isBounded()) return softClasses.get(script) != null;
+        synchronized (classes) {
+            // get() would move the entry to the end of an access-ordered map
+            if (!classes.containsKey(script)) return false;
+            for (final Map.Entry<String, Entry> kv : classes.entrySet()) {
+                if (kv.getKey().equals(script))
+                    return !isExpired(kv.getValue(), System.nanoTime());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Caches the class compiled for the script along with the time in nanoseconds it took to compile.
+     */
+    void put(final String script, final Class clazz, final long compileNanos) {
+        compilations.incrementAndGet();
+        compileTime.addAndGet(compileNanos);
+
+        if (!isBounded()) {
+            softClasses.put(script, clazz);
+            return;
+        }
+
+        final List<Class> evicted = new ArrayList<>();
+        synchronized (classes) {
+            final long now = System.nanoTime();
+            final Entry replaced = classes.put(script, new Entry(clazz, now));
+            if (null == replaced) {
+                // make room by dropping what has expired first and only then by the eviction policy
+                if (classes.size() > maxSize && expireAfterAccess > 0) {
+                    final Iterator<Entry> itty = classes.values().iterator();
+                    while (itty.hasNext()) {
+                        final Entry entry = itty.next();
+                        if (isExpired(entry, now)) {
+                            itty.remove();
+                            evicted.add(entry.clazz);
+                        }
+                    }
+                }
+
+                while (classes.size() > maxSize) {
+                    evicted.add(classes.remove(eviction == Eviction.LRU ? classes.keySet().iterator().next() : leastFrequentlyUsed(script)).clazz);
+                }
+            } else if (replaced.clazz != clazz) {
+                evicted.add(replaced.clazz);
+            }
+        }
+        evict(evicted);
+    }
+
+    public void clear() {
+        softClasses.clear();
+        synchronized (classes) {
+            classes.clear();
+        }
+    }
+
+    public int size() {
+        if (!isBounded()) return softClasses.size();
+        synchronized (classes) {
+            return classes.size();
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * The number of classes removed from a bounded cache to make room or because they expired.  Classes of an
+     * unbounded cache are collected without being counted.
+     */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    /**
+     * The number of scripts compiled into the cache.
+     */
+    public long compilations() {
+        return compilations.get();
+    }
+
+    /**
+     * The total time in milliseconds spent compiling scripts into the cache.
+     */
+    public long compileTime() {
+        return TimeUnit.NANOSECONDS.toMillis(compileTime.get());
+    }
+
+    private Class getBounded(final String script) {
+        final Entry expired;
+        synchronized (classes) {
+            final Entry entry = classes.get(script);
+            if (null == entry) return null;
+
+            final long now = System.nanoTime();
+            if (!isExpired(entry, now)) {
+                entry.lastAccess = now;
+                entry.accessCount++;
+                return entry.clazz;
+            }
+
+            expired = classes.remove(script);
+        }
+        evict(Collections.singletonList(expired.clazz));
+        return null;
+    }
+
+    /**
+     * Counts the evicted classes and hands them to the listener outside of the lock on the cache.
+     */
+    private void evict(final List<Class> evicted) {
+        for (final Class clazz : evicted) {
+            evictions.incrementAndGet();
+            evictionListener.accept(clazz);
+        }
+    }
+
+    private boolean isExpired(final Entry entry, final long now) {
+        return expireAfterAccess > 0 && now - entry.lastAccess > TimeUnit.MILLISECONDS.toNanos(expireAfterAccess);
+    }
+
+    /**
+     * Finds the key used least often, sparing the script just added as it has not had a chance to be used yet.
+     * This is a scan of the cache, which is cheap next to the compilation that precedes it.
+     */
+    private String leastFrequentlyUsed(final String spare) {
+        String key = null;
+        long min = Long.MAX_VALUE;
+        for (final Map.Entry<String, Entry> kv : classes.entrySet()) {
+            if (kv.getValue().accessCount < min && !kv.getKey().equals(spare)) {
+                min = kv.getValue().accessCount;
+                key = kv.getKey();
+            }
+        }
+        return key;
+    }
+
+    private static final class Entry {
+        private final Class clazz;
+        private long lastAccess;
+        private long accessCount = 0l;
+
+        private Entry(final Class clazz, final long lastAccess) {
+            this.clazz = clazz;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    public final static class Builder {
+        private int maxSize = 0;
+        private long expireAfterAccess = 0l;
+        private Eviction eviction = Eviction.LRU;
+
+        private Builder() {
+        }
+
+        /**
+         * The maximum number of classes to cache.  Set to zero for an unbounded cache of soft references, which is
+         * the default.
+         */
+        public Builder maxSize(final int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * The time in milliseconds after which a class that has not been used is removed from a bounded cache.  Set
+         * to zero, the default, for classes to never expire.
+         */
+        public Builder expireAfterAccess(final long expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+            return this;
+        }
+
+        /**
+         * The policy by which a bounded cache evicts a class when it is full.  Defaults to {@link Eviction#LRU}.
+         */
+        public Builder eviction(final Eviction eviction) {
+            this.eviction = eviction;
+            return this;
+        }
+
+        /**
+         * Sets the options of the cache from a configuration map with the {@link #CONFIG_MAX_SIZE},
+         * {@link #CONFIG_EXPIRE_AFTER_ACCESS} and {@link #CONFIG_EVICTION} keys, as given in a {@code ScriptEngine}
+         * configuration under the {@link #CONFIG_SCRIPT_CACHE} key.
+         */
+        public Builder config(final Map<String, Object> config) {
+            if (config.containsKey(CONFIG_MAX_SIZE))
+                maxSize(Integer.parseInt(config.get(CONFIG_MAX_SIZE).toString()));
+            if (config.containsKey(CONFIG_EXPIRE_AFTER_ACCESS))
+                expireAfterAccess(Long.parseLong(config.get(CONFIG_EXPIRE_AFTER_ACCESS).toString()));
+            if (config.containsKey(CONFIG_EVICTION))
+                eviction(Eviction.valueOf(config.get(CONFIG_EVICTION).toString().toUpperCase()));
+            return this;
+        }
+
+        public ScriptClassCache create() {
+            if (maxSize < 0)
+                throw new IllegalArgumentException("The maxSize of the script cache must be zero or greater: " + maxSize);
+            if (expireAfterAccess < 0)
+                throw new IllegalArgumentException("The expireAfterAccess of the script cache must be zero or greater: " + expireAfterAccess);
+            if (null == eviction)
+                throw new IllegalArgumentException("The eviction policy of the script cache must be set");
+            return new ScriptClassCache(this);
+        }
+    }
+}
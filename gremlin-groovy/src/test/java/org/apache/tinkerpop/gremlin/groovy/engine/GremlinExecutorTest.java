@@ -35,11 +35,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -246,6 +251,90 @@ public class GremlinExecutorTest {
         gremlinExecutor.close();
     }
 
+    @Test
+    public void shouldEvalTaskWithTheTimeoutOfAScript() throws Exception {
+        final CountDownLatch timeOutCount = new CountDownLatch(1);
+        final GremlinExecutor gremlinExecutor = GremlinExecutor.build()
+                .scriptEvaluationTimeout(250)
+                .afterTimeout((b) -> timeOutCount.countDown()).create();
+
+        assertEquals(2, gremlinExecutor.eval(() -> 1 + 1, "add", null, null).get());
+        try {
+            gremlinExecutor.eval(() -> {
+                Thread.sleep(1000);
+                return 10;
+            }, "sleep", null, null).get();
+            fail("This task should have timed out with an exception");
+        } catch (Exception ex) {
+            assertEquals(TimeoutException.class, ex.getCause().getClass());
+        }
+
+        assertTrue(timeOutCount.await(2000, TimeUnit.MILLISECONDS));
+        gremlinExecutor.close();
+    }
+
+    @Test
+    public void shouldRejectScriptWhenQueueIsFull() throws Exception {
+        final ExecutorService executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(1), testingThreadFactory);
+        final GremlinExecutor gremlinExecutor = GremlinExecutor.build()
+                .executorService(executorService).create();
+
+        final CompletableFuture<Object> running = gremlinExecutor.eval("Thread.sleep(500);1");
+        final CompletableFuture<Object> queued = gremlinExecutor.eval("2");
+        try {
+            gremlinExecutor.eval("3").get();
+            fail("This script should have been rejected as the queue is full");
+        } catch (Exception ex) {
+            assertEquals(RejectedExecutionException.class, ex.getCause().getClass());
+        }
+
+        assertEquals(1, running.get());
+        assertEquals(2, queued.get());
+        gremlinExecutor.close();
+        executorService.shutdown();
+    }
+
+    @Test
+    public void shouldRejectScriptThatWaitedTooLongInQueue() throws Exception {
+        final AtomicBoolean failureCalled = new AtomicBoolean(false);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor(testingThreadFactory);
+        final GremlinExecutor gremlinExecutor = GremlinExecutor.build()
+                .executorService(executorService)
+                .afterFailure((b, e) -> failureCalled.set(true))
+                .queueTimeout(100).create();
+
+        final CompletableFuture<Object> running = gremlinExecutor.eval("Thread.sleep(500);1");
+        try {
+            gremlinExecutor.eval("2").get();
+            fail("This script should have been rejected as it waited too long for a thread");
+        } catch (Exception ex) {
+            assertEquals(RejectedExecutionException.class, ex.getCause().getClass());
+        }
+
+        assertEquals(1, running.get());
+        assertFalse(failureCalled.get());
+        gremlinExecutor.close();
+        executorService.shutdown();
+    }
+
+    @Test
+    public void shouldNotCountTimeInQueueTowardScriptEvaluationTimeout() throws Exception {
+        final ExecutorService executorService = Executors.newSingleThreadExecutor(testingThreadFactory);
+        final GremlinExecutor gremlinExecutor = GremlinExecutor.build()
+                .executorService(executorService)
+                .scriptEvaluationTimeout(500).create();
+
+        final CompletableFuture<Object> running = gremlinExecutor.eval("Thread.sleep(400);1");
+        final CompletableFuture<Object> queued = gremlinExecutor.eval("Thread.sleep(200);2");
+
+        // the second script waits 400ms for a thread and runs for 200ms which is still within its 500ms timeout
+        assertEquals(1, running.get());
+        assertEquals(2, queued.get());
+        gremlinExecutor.close();
+        executorService.shutdown();
+    }
+
     @Test
     public void shouldCallFail() throws Exception {
         final AtomicBoolean timeoutCalled = new AtomicBoolean(false);
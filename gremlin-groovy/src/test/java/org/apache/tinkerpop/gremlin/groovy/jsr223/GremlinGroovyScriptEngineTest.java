@@ -62,6 +62,110 @@ public class GremlinGroovyScriptEngineTest {
         assertFalse(engine.isCached(script));
     }
 
+    @Test
+    public void shouldCountHitsAndMissesOfCompiledScripts() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
+        final ScriptClassCache cache = engine.getScriptClassCache();
+        assertFalse(cache.isBounded());
+
+        engine.eval("1+1");
+        engine.eval("1+1");
+        engine.eval("1+2");
+
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+        assertEquals(2, cache.compilations());
+        assertEquals(2, cache.size());
+
+        engine.reset();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedCompiledScript() throws Exception {
+        final ScriptClassCache cache = ScriptClassCache.build().maxSize(2).eviction(ScriptClassCache.Eviction.LRU).create();
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(cache, NoImportCustomizerProvider.INSTANCE);
+
+        engine.eval("1+1");
+        engine.eval("1+2");
+        engine.eval("1+1");
+        engine.eval("1+3");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictions());
+        assertTrue(engine.isCached("1+1"));
+        assertFalse(engine.isCached("1+2"));
+        assertTrue(engine.isCached("1+3"));
+    }
+
+    @Test
+    public void shouldEvictLeastFrequentlyUsedCompiledScript() throws Exception {
+        final ScriptClassCache cache = ScriptClassCache.build().maxSize(2).eviction(ScriptClassCache.Eviction.LFU).create();
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(cache, NoImportCustomizerProvider.INSTANCE);
+
+        engine.eval("1+1");
+        engine.eval("1+1");
+        engine.eval("1+1");
+        engine.eval("1+2");
+        engine.eval("1+2");
+        engine.eval("1+1");
+        engine.eval("1+3");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictions());
+        assertTrue(engine.isCached("1+1"));
+        assertFalse(engine.isCached("1+2"));
+        assertTrue(engine.isCached("1+3"));
+    }
+
+    @Test
+    public void shouldExpireCompiledScriptAfterAccess() throws Exception {
+        final ScriptClassCache cache = ScriptClassCache.build().maxSize(10).expireAfterAccess(50).create();
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(cache, NoImportCustomizerProvider.INSTANCE);
+
+        engine.eval("1+1");
+        assertTrue(engine.isCached("1+1"));
+        Thread.sleep(100);
+        assertFalse(engine.isCached("1+1"));
+
+        engine.eval("1+1");
+        assertEquals(2, cache.compilations());
+        assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    public void shouldRemoveEvictedCompiledScriptFromClassLoader() throws Exception {
+        final ScriptClassCache cache = ScriptClassCache.build().maxSize(1).create();
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(cache, NoImportCustomizerProvider.INSTANCE);
+
+        final Class evicted = engine.getScriptClass("1+1");
+        assertEquals(evicted, engine.loader.loadClass(evicted.getName()));
+
+        engine.eval("1+2");
+        assertEquals(1, cache.evictions());
+        try {
+            engine.loader.loadClass(evicted.getName());
+            fail("The class of the evicted script should have been removed from the class loader");
+        } catch (ClassNotFoundException ignored) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldNotTouchCompiledScriptWhenCheckingIfCached() throws Exception {
+        final ScriptClassCache cache = ScriptClassCache.build().maxSize(2).eviction(ScriptClassCache.Eviction.LRU).create();
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(cache, NoImportCustomizerProvider.INSTANCE);
+
+        engine.eval("1+1");
+        engine.eval("1+2");
+        assertTrue(engine.isCached("1+1"));
+        engine.eval("1+3");
+
+        assertFalse(engine.isCached("1+1"));
+        assertTrue(engine.isCached("1+2"));
+        assertTrue(engine.isCached("1+3"));
+    }
+
     @Test
     public void shouldEvalWithNoBindings() throws Exception {
         final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
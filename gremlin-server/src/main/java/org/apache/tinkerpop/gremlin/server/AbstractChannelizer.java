@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.server.handler.SaslAuthenticationHandler;
 import org.apache.tinkerpop.gremlin.server.auth.Authenticator;
 import org.apache.tinkerpop.gremlin.server.handler.IteratorHandler;
 import org.apache.tinkerpop.gremlin.server.handler.OpExecutorHandler;
+import org.apache.tinkerpop.gremlin.server.handler.WritabilityHandler;
 import org.apache.tinkerpop.gremlin.server.handler.OpSelectorHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
@@ -70,6 +71,7 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
     protected ScheduledExecutorService scheduledExecutorService;
 
     protected static final String PIPELINE_SSL = "ssl";
+    protected static final String PIPELINE_WRITABILITY = "writability";
     protected static final String PIPELINE_OP_SELECTOR = "op-selector";
     protected static final String PIPELINE_RESULT_ITERATOR_HANDLER = "result-iterator-handler";
     protected static final String PIPELINE_OP_EXECUTOR = "op-executor";
@@ -80,6 +82,7 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
     private OpSelectorHandler opSelectorHandler;
     private OpExecutorHandler opExecutorHandler;
     private IteratorHandler iteratorHandler;
+    private WritabilityHandler writabilityHandler;
 
     protected Authenticator authenticator;
 
@@ -120,6 +123,7 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
         opSelectorHandler = new OpSelectorHandler(settings, graphManager, gremlinExecutor, scheduledExecutorService);
         opExecutorHandler = new OpExecutorHandler(settings, graphManager, gremlinExecutor, scheduledExecutorService);
         iteratorHandler = new IteratorHandler(settings);
+        writabilityHandler = new WritabilityHandler();
     }
 
     @Override
@@ -128,6 +132,9 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
 
         if (sslContext.isPresent()) pipeline.addLast(PIPELINE_SSL, sslContext.get().newHandler(ch.alloc()));
 
+        // signals paused result iteration when the channel becomes writable again
+        pipeline.addLast(PIPELINE_WRITABILITY, writabilityHandler);
+
         // the implementation provides the method by which Gremlin Server will process requests.  the end of the
         // pipeline must decode to an incoming RequestMessage instances and encode to a outgoing ResponseMessage
         // instance
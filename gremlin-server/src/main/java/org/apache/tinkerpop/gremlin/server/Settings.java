@@ -87,6 +87,19 @@ public class Settings {
      */
     public int gremlinPool = 8;
 
+    /**
+     * The maximum number of requests that may wait for a thread in the {@link #gremlinPool}.  Requests that arrive
+     * when the queue is full are rejected rather than queued.  The queue is unbounded when set to {@code 0}.
+     * Defaults to 0.
+     */
+    public int gremlinPoolQueueSize = 0;
+
+    /**
+     * Time in milliseconds that a request may wait for a thread in the {@link #gremlinPool} before it is rejected
+     * rather than evaluated.  Requests wait indefinitely when set to {@code 0}.  Defaults to 0.
+     */
+    public long gremlinPoolQueueTimeout = 0l;
+
     /**
      * Size of the boss thread pool.  Defaults to 1 and should likely stay at 1.  The bossy thread accepts incoming
      * connections on a port until it is unbound. Once a connection is accepted successfully, the boss thread
@@ -111,6 +124,13 @@ public class Settings {
      */
     public int resultIterationBatchSize = 64;
 
+    /**
+     * The maximum number of strategy-applied traversals to hold in the
+     * {@link org.apache.tinkerpop.gremlin.process.traversal.util.TraversalPlanCache} so that repeated traversals
+     * do not re-apply their strategies.  The cache is disabled when set to {@code 0}.  Defaults to 0.
+     */
+    public int traversalPlanCacheSize = 0;
+
     /**
      * The maximum length of the initial line (e.g. {@code "GET / HTTP/1.0"}) processed in a request, which essentially
      * controls the maximum length of the submitted URI. This setting ties to the Netty {@code HttpRequestDecoder}.
@@ -29,7 +29,7 @@ import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.EventExecutorGroup;
-import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
 import org.apache.commons.lang.time.StopWatch;
 import org.javatuples.Pair;
 import org.slf4j.Logger;
@@ -38,7 +38,6 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -73,33 +72,60 @@ public class IteratorHandler extends ChannelOutboundHandlerAdapter {
                 final StopWatch stopWatch = new StopWatch();
 
                 final EventExecutorGroup executorService = ctx.executor();
-                final Future<?> iteration = executorService.submit((Callable<Void>) () -> {
-                    logger.debug("Preparing to iterate results from - {} - in thread [{}]", requestMessage, Thread.currentThread().getName());
-
-                    stopWatch.start();
-
-                    List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
-                    while (itty.hasNext()) {
-                        aggregate.add(itty.next());
-
-                        // send back a page of results if batch size is met or if it's the end of the results being
-                        // iterated
-                        if (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
-                            final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
-                            ctx.writeAndFlush(ResponseMessage.build(requestMessage)
-                                    .code(code)
-                                    .result(aggregate).create());
-                            aggregate = new ArrayList<>(resultIterationBatchSize);
+                final Promise<Void> iteration = ctx.executor().newPromise();
+                executorService.submit(new Runnable() {
+                    private boolean started = false;
+
+                    @Override
+                    public void run() {
+                        try {
+                            if (!started) {
+                                logger.debug("Preparing to iterate results from - {} - in thread [{}]", requestMessage, Thread.currentThread().getName());
+                                stopWatch.start();
+                                started = true;
+                            } else if (stopWatch.getTime() > settings.serializedResponseTimeout) {
+                                // the time spent paused while the channel was not writable counts toward the timeout
+                                throw new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting");
+                            }
+
+                            List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
+                            while (itty.hasNext()) {
+                                aggregate.add(itty.next());
+
+                                // send back a page of results if batch size is met or if it's the end of the results being
+                                // iterated
+                                if (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
+                                    final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
+                                    ctx.writeAndFlush(ResponseMessage.build(requestMessage)
+                                            .code(code)
+                                            .result(aggregate).create());
+                                    aggregate = new ArrayList<>(resultIterationBatchSize);
+                                }
+
+                                stopWatch.split();
+                                if (stopWatch.getSplitTime() > settings.serializedResponseTimeout)
+                                    throw new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting");
+
+                                stopWatch.unsplit();
+
+                                // this runs on the event loop so it can't wait for the client to catch up - give the
+                                // thread back and continue from here once the channel drains. a batch is only ever
+                                // written in full so there is nothing aggregated to hold on to.
+                                if (itty.hasNext() && aggregate.isEmpty() && !ctx.channel().isWritable()) {
+                                    if (!ctx.channel().isActive())
+                                        throw new IllegalStateException("The channel closed before the response was written");
+
+                                    WritabilityHandler.whenWritable(ctx, this, settings.serializedResponseTimeout - stopWatch.getTime(),
+                                            () -> iteration.tryFailure(new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting while the channel was not writable")));
+                                    return;
+                                }
+                            }
+
+                            iteration.setSuccess(null);
+                        } catch (Exception ex) {
+                            iteration.setFailure(ex);
                         }
-
-                        stopWatch.split();
-                        if (stopWatch.getSplitTime() > settings.serializedResponseTimeout)
-                            throw new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting");
-
-                        stopWatch.unsplit();
                     }
-
-                    return null;
                 });
 
                 iteration.addListener(f -> {
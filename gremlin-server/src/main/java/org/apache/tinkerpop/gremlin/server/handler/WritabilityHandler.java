@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.handler;
+
+import com.codahale.metrics.Timer;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Tracks the writability of a channel so that result iteration can pause when the channel is not writable (i.e.
+ * the {@code writeBufferHighWaterMark} has been exceeded because the client is not consuming responses quickly
+ * enough) and resume as soon as Netty signals that the {@code writeBufferLowWaterMark} has been reached, rather
+ * than polling the channel.  Threads outside of the event loop block in {@link #awaitWritable(Channel, long)} while
+ * work on the event loop registers a continuation with
+ * {@link #whenWritable(ChannelHandlerContext, Runnable, long, Runnable)}.
+ * Time spent paused is recorded in the {@code channels.paused} timer.
+ */
+@ChannelHandler.Sharable
+public class WritabilityHandler extends ChannelInboundHandlerAdapter {
+    static final Timer pausedTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "channels", "paused"));
+
+    private static final AttributeKey<Gate> GATE = AttributeKey.valueOf("writabilityGate");
+
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) gate(ctx.channel()).open();
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        // release anything waiting on the channel so that it can see that the channel is closed
+        gate(ctx.channel()).open();
+        ctx.fireChannelInactive();
+    }
+
+    /**
+     * Blocks the calling thread until the channel is writable, the channel is closed or the timeout is reached.
+     * This method must not be called from the event loop of the channel as that is the thread that would make the
+     * channel writable again.
+     *
+     * @return {@code true} if the channel is writable
+     */
+    public static boolean awaitWritable(final Channel channel, final long timeoutMillis) throws InterruptedException {
+        if (channel.isWritable()) return true;
+
+        final Gate gate = gate(channel);
+        final Timer.Context timerContext = pausedTimer.time();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            synchronized (gate) {
+                while (!channel.isWritable() && channel.isActive()) {
+                    final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remaining <= 0) break;
+                    gate.wait(remaining);
+                }
+            }
+        } finally {
+            timerContext.stop();
+        }
+
+        return channel.isWritable();
+    }
+
+    /**
+     * Executes the task on the executor of the {@link ChannelHandlerContext} once the channel is writable or
+     * closed.  The task is scheduled immediately if the channel is already writable.  If the channel does not become
+     * writable within the timeout then {@code onTimeout} is executed on that executor instead of the task.
+     */
+    public static void whenWritable(final ChannelHandlerContext ctx, final Runnable task, final long timeoutMillis,
+                                    final Runnable onTimeout) {
+        final Gate gate = gate(ctx.channel());
+        final Timer.Context timerContext = pausedTimer.time();
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final Runnable continuation = () -> {
+            if (done.compareAndSet(false, true)) {
+                timerContext.stop();
+                ctx.executor().execute(task);
+            }
+        };
+        gate.pending.add(continuation);
+
+        ctx.executor().schedule(() -> {
+            if (done.compareAndSet(false, true)) {
+                gate.pending.remove(continuation);
+                timerContext.stop();
+                onTimeout.run();
+            }
+        }, Math.max(0, timeoutMillis), TimeUnit.MILLISECONDS);
+
+        // writability may have changed before the task was queued in which case the event that would have
+        // opened the gate is already gone
+        if (ctx.channel().isWritable() || !ctx.channel().isActive()) gate.open();
+    }
+
+    private static Gate gate(final Channel channel) {
+        final Attribute<Gate> attribute = channel.attr(GATE);
+        final Gate gate = attribute.get();
+        if (gate != null) return gate;
+        final Gate newGate = new Gate();
+        final Gate existing = attribute.setIfAbsent(newGate);
+        return null == existing ? newGate : existing;
+    }
+
+    private static final class Gate {
+        private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+        private void open() {
+            synchronized (this) {
+                this.notifyAll();
+            }
+
+            Runnable task;
+            while ((task = this.pending.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
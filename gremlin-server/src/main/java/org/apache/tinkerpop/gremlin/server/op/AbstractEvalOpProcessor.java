@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.server.op;
 
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.Timer;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
@@ -29,6 +30,7 @@ import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
 import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.handler.WritabilityHandler;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
@@ -45,7 +47,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
@@ -60,6 +62,7 @@ import static com.codahale.metrics.MetricRegistry.name;
 public abstract class AbstractEvalOpProcessor implements OpProcessor {
     private static final Logger logger = LoggerFactory.getLogger(AbstractEvalOpProcessor.class);
     private static final Timer evalOpTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "op", "eval"));
+    private static final Meter rejectedMeter = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "gremlin-pool", "rejected"));
 
     /**
      * This may or may not be the full set of invalid binding keys.  It is dependent on the static imports made to
@@ -171,6 +174,13 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
                     final String errorMessage = String.format("Response evaluation exceeded the configured threshold for request [%s] - %s", msg, t.getMessage());
                     logger.warn(errorMessage);
                     ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(t.getMessage()).create());
+                } else if (t instanceof RejectedExecutionException) {
+                    // the gremlinPool queue is full or the request waited in it for too long - nothing was evaluated
+                    // so the client is free to retry
+                    rejectedMeter.mark();
+                    final String errorMessage = String.format("Gremlin Server is too busy to process request [%s] - %s", msg, t.getMessage());
+                    logger.warn(errorMessage);
+                    ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_OVERLOADED).statusMessage(errorMessage).create());
                 } else {
                     logger.warn(String.format("Exception processing a script on request [%s].", msg), t);
                     ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_SCRIPT_EVALUATION).statusMessage(t.getMessage()).create());
@@ -185,7 +195,8 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
      * Called by {@link #evalOpInternal} when iterating a result set. Implementers should respect the
      * {@link Settings#serializedResponseTimeout} configuration and break the serialization process if
      * it begins to take too long to do so, throwing a {@link java.util.concurrent.TimeoutException} in such
-     * cases.
+     * cases.  Iteration pauses while the channel is not writable, resuming once the
+     * {@link WritabilityHandler} signals that the client has caught up.
      *
      * @param context The Gremlin Server {@link Context} object containing settings, request message, etc.
      * @param itty The result to iterator
@@ -252,9 +263,15 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
                     warnOnce = true;
                 }
 
-                // since the client is lagging we can hold here for a period of time for the client to catch up.
-                // this isn't blocking the IO thread - just a worker.
-                TimeUnit.MILLISECONDS.sleep(10);
+                // since the client is lagging we hold here until the channel drains to the writeBufferLowWaterMark
+                // or the time remaining for serialization runs out. this isn't blocking the IO thread - just a worker.
+                WritabilityHandler.awaitWritable(ctx.channel(), Math.max(1l, settings.serializedResponseTimeout - stopWatch.getTime()));
+
+                // there is no one left to write to if the client went away while paused
+                if (!ctx.channel().isActive()) {
+                    logger.warn("Abandoning response iteration for {} as the channel closed while writes were paused", msg);
+                    break;
+                }
             }
 
             stopWatch.split();
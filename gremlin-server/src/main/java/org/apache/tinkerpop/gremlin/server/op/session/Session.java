@@ -50,13 +50,16 @@ public class Session {
     private final String session;
     private final ScheduledExecutorService scheduledExecutorService;
     private final long configuredSessionTimeout;
+    private final boolean sharedScriptEngines;
 
     private AtomicReference<ScheduledFuture> kill = new AtomicReference<>();
 
     /**
-     * Each session gets its own ScriptEngine so as to isolate its configuration and the classes loaded to it.
-     * This is important as it enables user interfaces built on Gremlin Server to have isolation in what
-     * libraries they use and what classes exist.
+     * By default, each session gets its own ScriptEngine so as to isolate its configuration and the classes loaded
+     * to it. This is important as it enables user interfaces built on Gremlin Server to have isolation in what
+     * libraries they use and what classes exist.  When {@link SessionOpProcessor#CONFIG_SHARED_SCRIPT_ENGINES} is
+     * enabled the session instead evaluates with the ScriptEngines of the server so that it only holds its bindings
+     * and its thread.
      */
     private final GremlinExecutor gremlinExecutor;
 
@@ -81,8 +84,17 @@ public class Session {
                 .filter(p -> p.className.equals(SessionOpProcessor.class.getCanonicalName()))
                 .findAny().orElse(SessionOpProcessor.DEFAULT_SETTINGS);
         this.configuredSessionTimeout = Long.parseLong(processorSettings.config.get(SessionOpProcessor.CONFIG_SESSION_TIMEOUT).toString());
+        this.sharedScriptEngines = Boolean.parseBoolean(String.valueOf(processorSettings.config.getOrDefault(
+                SessionOpProcessor.CONFIG_SHARED_SCRIPT_ENGINES, SessionOpProcessor.DEFAULT_SHARED_SCRIPT_ENGINES)));
 
-        this.gremlinExecutor = initializeGremlinExecutor().create();
+        this.gremlinExecutor = initializeGremlinExecutor(context.getGremlinExecutor()).create();
+    }
+
+    /**
+     * Determines if the session evaluates scripts with the ScriptEngines of the server rather than its own.
+     */
+    public boolean usesSharedScriptEngines() {
+        return sharedScriptEngines;
     }
 
     public GremlinExecutor getGremlinExecutor() {
@@ -116,12 +128,22 @@ public class Session {
                     }
                 });
                 sessions.remove(this.session);
-                logger.info("Kill idle session named {} after {} milliseconds", this.session, this.configuredSessionTimeout);
+
+                // release the thread once the rollbacks have run and, for an isolated session, its ScriptEngines
+                this.executor.shutdown();
+                try {
+                    this.gremlinExecutor.closeAsync();
+                } catch (Exception ex) {
+                    logger.warn(String.format("Could not close the GremlinExecutor of session %s", this.session), ex);
+                }
+
+                logger.info("Kill idle session named {} after {} milliseconds holding {} bindings", this.session,
+                        this.configuredSessionTimeout, this.bindings.size());
             }, this.configuredSessionTimeout, TimeUnit.MILLISECONDS));
         }
     }
 
-    private GremlinExecutor.Builder initializeGremlinExecutor() {
+    private GremlinExecutor.Builder initializeGremlinExecutor(final GremlinExecutor serverGremlinExecutor) {
         final GremlinExecutor.Builder gremlinExecutorBuilder = GremlinExecutor.build()
                 .scriptEvaluationTimeout(settings.scriptEvaluationTimeout)
                 .afterTimeout(b -> {
@@ -133,13 +155,20 @@ public class Session {
                     this.bindings.clear();
                     this.bindings.putAll(b);
                 })
-                .enabledPlugins(new HashSet<>(settings.plugins))
-                .globalBindings(graphManager.getAsBindings())
-                .promoteBindings(kv -> kv.getValue() instanceof Graph
-                        || kv.getValue() instanceof TraversalSource)
                 .executorService(executor)
                 .scheduledExecutorService(scheduledExecutorService);
 
+        // the engines of the server were already initialized with the plugins and scripts and the global bindings
+        // hold what those scripts bound, so there is nothing left to configure
+        if (sharedScriptEngines)
+            return gremlinExecutorBuilder.scriptEngines(serverGremlinExecutor.getScriptEngines())
+                    .globalBindings(serverGremlinExecutor.getGlobalBindings());
+
+        gremlinExecutorBuilder.enabledPlugins(new HashSet<>(settings.plugins))
+                .globalBindings(graphManager.getAsBindings())
+                .promoteBindings(kv -> kv.getValue() instanceof Graph
+                        || kv.getValue() instanceof TraversalSource);
+
         settings.scriptEngines.forEach((k, v) -> {
             // make sure that server related classes are available at init - no really necessary here because
             // lifecycle hooks are not executed per session, but there should be some consistency .... i guess
@@ -58,6 +58,15 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
 
     static {
         MetricManager.INSTANCE.getGuage(sessions::size, name(GremlinServer.class, "sessions"));
+
+        // what the open sessions hold on to - the variables bound across requests and the sessions that carry
+        // the weight of their own ScriptEngines
+        MetricManager.INSTANCE.getGuage(() -> sessions.values().stream().mapToInt(s -> s.getBindings().size()).sum(),
+                name(GremlinServer.class, "sessions", "bindings"));
+        MetricManager.INSTANCE.getGuage(() -> sessions.values().stream().mapToInt(s -> s.getBindings().size()).max().orElse(0),
+                name(GremlinServer.class, "sessions", "bindings", "max"));
+        MetricManager.INSTANCE.getGuage(() -> sessions.values().stream().filter(s -> !s.usesSharedScriptEngines()).count(),
+                name(GremlinServer.class, "sessions", "script-engines"));
     }
 
     /**
@@ -70,12 +79,26 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
      */
     public static final long DEFAULT_SESSION_TIMEOUT = 28800000l;
 
+    /**
+     * Configuration setting for whether sessions evaluate scripts with the ScriptEngines of the server rather than
+     * creating their own.  Shared engines make a session cheap to create and hold, as it then only keeps its
+     * bindings and the thread that binds its transaction, but sessions are no longer isolated from one another in
+     * the classes, imports and functions defined to the engines.
+     */
+    public static final String CONFIG_SHARED_SCRIPT_ENGINES = "sharedScriptEngines";
+
+    /**
+     * By default each session creates its own ScriptEngines.
+     */
+    public static final boolean DEFAULT_SHARED_SCRIPT_ENGINES = false;
+
     static final Settings.ProcessorSettings DEFAULT_SETTINGS = new Settings.ProcessorSettings();
 
     static {
         DEFAULT_SETTINGS.className = SessionOpProcessor.class.getCanonicalName();
         DEFAULT_SETTINGS.config = new HashMap<String, Object>() {{
             put(CONFIG_SESSION_TIMEOUT, DEFAULT_SESSION_TIMEOUT);
+            put(CONFIG_SHARED_SCRIPT_ENGINES, DEFAULT_SHARED_SCRIPT_ENGINES);
         }};
     }
 
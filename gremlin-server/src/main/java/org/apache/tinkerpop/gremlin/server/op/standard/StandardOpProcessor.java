@@ -18,15 +18,23 @@
  */
 package org.apache.tinkerpop.gremlin.server.op.standard;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import io.netty.channel.ChannelHandlerContext;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
+import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.op.AbstractEvalOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
 import org.slf4j.Logger;
@@ -34,23 +42,97 @@ import org.slf4j.LoggerFactory;
 
 import javax.script.Bindings;
 import javax.script.SimpleBindings;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static com.codahale.metrics.MetricRegistry.name;
 
 /**
  * Simple {@link OpProcessor} implementation that handles {@code ScriptEngine} script evaluation outside the context
- * of a session.
+ * of a session.  When {@link #CONFIG_ENABLE_TRAVERSAL_OP} is set, it also handles the {@link Tokens#OPS_TRAVERSAL}
+ * operation which executes a serialized {@link Traversal} directly against a {@link GraphTraversalSource}, bypassing
+ * the {@code ScriptEngine} altogether.
  *
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 public class StandardOpProcessor extends AbstractEvalOpProcessor {
     private static final Logger logger = LoggerFactory.getLogger(StandardOpProcessor.class);
+    private static final Timer traversalOpTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "op", "traversal"));
+    private static final Meter rejectedMeter = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "gremlin-pool", "rejected"));
     public static final String OP_PROCESSOR_NAME = "";
 
+    /**
+     * Configuration setting for whether the {@link Tokens#OPS_TRAVERSAL} operation is accepted.  Traversals arrive
+     * as Java serialized objects, so enabling it means trusting clients with deserialization on the server in the
+     * same way that the "eval" operation trusts them with arbitrary scripts, but without any of the sandboxing that
+     * can be configured to the {@code ScriptEngine}.
+     */
+    public static final String CONFIG_ENABLE_TRAVERSAL_OP = "enableTraversalOp";
+
+    /**
+     * By default the {@link Tokens#OPS_TRAVERSAL} operation is not accepted.
+     */
+    public static final boolean DEFAULT_ENABLE_TRAVERSAL_OP = false;
+
+    /**
+     * Configuration setting for the names of classes, or the prefixes of the names of classes, that may be
+     * deserialized from a {@link Tokens#OPS_TRAVERSAL} request in addition to
+     * {@link #DEFAULT_TRAVERSAL_ALLOWED_CLASSES}.  A prefix ends with a "." (e.g. {@code com.acme.steps.}).
+     */
+    public static final String CONFIG_TRAVERSAL_ALLOWED_CLASSES = "traversalAllowedClasses";
+
+    /**
+     * The classes that may always be deserialized from a {@link Tokens#OPS_TRAVERSAL} request, which are the classes
+     * of TinkerPop and the core classes of the JDK that steps hold.
+     */
+    public static final List<String> DEFAULT_TRAVERSAL_ALLOWED_CLASSES = Collections.unmodifiableList(Arrays.asList(
+            "org.apache.tinkerpop.gremlin.", "java.lang.", "java.util.", "java.math.", "java.time."));
+
+    /**
+     * The variable that a {@link Tokens#OPS_TRAVERSAL} request executes against, which can be pointed at another
+     * {@link Graph} or {@link TraversalSource} with {@link Tokens#ARGS_REBINDINGS}.
+     */
+    private static final String TRAVERSAL_SOURCE_VARIABLE = "g";
+
+    static final Settings.ProcessorSettings DEFAULT_SETTINGS = new Settings.ProcessorSettings();
+
+    static {
+        DEFAULT_SETTINGS.className = StandardOpProcessor.class.getCanonicalName();
+        DEFAULT_SETTINGS.config = new HashMap<String, Object>() {{
+            put(CONFIG_ENABLE_TRAVERSAL_OP, DEFAULT_ENABLE_TRAVERSAL_OP);
+            put(CONFIG_TRAVERSAL_ALLOWED_CLASSES, Collections.emptyList());
+        }};
+    }
+
     public StandardOpProcessor() {
        super(true);
     }
 
+    @Override
+    public ThrowingConsumer<Context> select(final Context ctx) throws OpProcessorException {
+        final RequestMessage message = ctx.getRequestMessage();
+        if (message.getOp().equals(Tokens.OPS_TRAVERSAL))
+            return validateTraversalMessage(ctx).orElse(this::traversalOp);
+
+        return super.select(ctx);
+    }
+
     @Override
     public String getName() {
         return OP_PROCESSOR_NAME;
@@ -101,4 +183,184 @@ public class StandardOpProcessor extends AbstractEvalOpProcessor {
             return bindings;
         });
     }
+
+    private Optional<ThrowingConsumer<Context>> validateTraversalMessage(final Context context) throws OpProcessorException {
+        final RequestMessage message = context.getRequestMessage();
+        final boolean enabled = Boolean.parseBoolean(String.valueOf(getProcessorSettings(context).config.getOrDefault(
+                CONFIG_ENABLE_TRAVERSAL_OP, DEFAULT_ENABLE_TRAVERSAL_OP)));
+        if (!enabled) {
+            final String msg = String.format("The [%s] op code is not enabled on this server - see the [%s] configuration of %s.",
+                    Tokens.OPS_TRAVERSAL, CONFIG_ENABLE_TRAVERSAL_OP, StandardOpProcessor.class.getSimpleName());
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_MALFORMED_REQUEST).result(msg).create());
+        }
+
+        if (!message.optionalArgs(Tokens.ARGS_GREMLIN).isPresent()) {
+            final String msg = String.format("A message with an [%s] op code requires a [%s] argument.", Tokens.OPS_TRAVERSAL, Tokens.ARGS_GREMLIN);
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+        }
+
+        return Optional.empty();
+    }
+
+    private static Settings.ProcessorSettings getProcessorSettings(final Context context) {
+        return context.getSettings().processors.stream()
+                .filter(p -> p.className.equals(StandardOpProcessor.class.getCanonicalName()))
+                .findAny().orElse(DEFAULT_SETTINGS);
+    }
+
+    private void traversalOp(final Context context) throws OpProcessorException {
+        final RequestMessage msg = context.getRequestMessage();
+        final ChannelHandlerContext ctx = context.getChannelHandlerContext();
+
+        logger.debug("Sessionless request {} for traversal in thread {}", msg.getRequestId(), Thread.currentThread().getName());
+
+        final GraphTraversalSource g = resolveTraversalSource(context);
+        final List<String> allowedClasses = getAllowedClasses(context);
+
+        // the traversal is deserialized and iterated in the gremlinPool just like a script is evaluated and its
+        // result iterated, so that the event loop is never spent on either and the same timeouts, rejection and
+        // transaction handling apply
+        final Timer.Context timerContext = traversalOpTimer.time();
+        final CompletableFuture<Object> evalFuture = context.getGremlinExecutor().eval(() -> {
+            final Traversal.Admin<?, ?> traversal = deserializeTraversal(msg, allowedClasses);
+            attachTraversal(traversal, g);
+            return traversal;
+        }, String.format("traversal of request [%s]", msg.getRequestId()), null, o -> {
+            try {
+                handleIterator(context, (Traversal.Admin<?, ?>) o);
+            } catch (TimeoutException ex) {
+                context.getGraphManager().rollbackAll();
+                final String errorMessage = String.format("Response iteration exceeded the configured threshold for request [%s] - %s", msg, ex.getMessage());
+                logger.warn(errorMessage);
+                ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
+            } catch (Exception ex) {
+                context.getGraphManager().rollbackAll();
+                logger.warn(String.format("Exception processing a traversal on request [%s].", msg), ex);
+                ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR).statusMessage(ex.getMessage()).create());
+            }
+        });
+
+        evalFuture.handle((v, t) -> {
+            timerContext.stop();
+
+            if (t != null) {
+                if (t instanceof OpProcessorException) {
+                    ctx.writeAndFlush(((OpProcessorException) t).getResponseMessage());
+                } else if (t instanceof TimeoutException) {
+                    final String errorMessage = String.format("Traversal execution exceeded the configured threshold for request [%s] - %s", msg, t.getMessage());
+                    logger.warn(errorMessage);
+                    ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(t.getMessage()).create());
+                } else if (t instanceof RejectedExecutionException) {
+                    rejectedMeter.mark();
+                    final String errorMessage = String.format("Gremlin Server is too busy to process request [%s] - %s", msg, t.getMessage());
+                    logger.warn(errorMessage);
+                    ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_OVERLOADED).statusMessage(errorMessage).create());
+                } else {
+                    logger.warn(String.format("Exception processing a traversal on request [%s].", msg), t);
+                    ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR).statusMessage(t.getMessage()).create());
+                }
+            }
+
+            return null;
+        });
+    }
+
+    private static List<String> getAllowedClasses(final Context context) {
+        final List<String> allowedClasses = new ArrayList<>(DEFAULT_TRAVERSAL_ALLOWED_CLASSES);
+        final Object configured = getProcessorSettings(context).config.get(CONFIG_TRAVERSAL_ALLOWED_CLASSES);
+        if (configured instanceof Collection)
+            ((Collection<?>) configured).forEach(c -> allowedClasses.add(c.toString()));
+        else if (configured != null)
+            allowedClasses.add(configured.toString());
+        return allowedClasses;
+    }
+
+    /**
+     * The traversal arrives as a {@code byte[]} with Gryo and as a Base64 encoded {@code String} with GraphSON.
+     */
+    private static Traversal.Admin<?, ?> deserializeTraversal(final RequestMessage msg, final List<String> allowedClasses) throws OpProcessorException {
+        final Object serialized = msg.getArgs().get(Tokens.ARGS_GREMLIN);
+        try {
+            final byte[] bytes = serialized instanceof byte[] ?
+                    (byte[]) serialized : Base64.getDecoder().decode(serialized.toString());
+            final Object object;
+            try (final ObjectInputStream in = new AllowedClassesObjectInputStream(new ByteArrayInputStream(bytes), allowedClasses)) {
+                object = in.readObject();
+            }
+            if (!(object instanceof Traversal))
+                throw new IllegalStateException(String.format("Expected a traversal but found %s", null == object ? "null" : object.getClass().getName()));
+            final Traversal.Admin<?, ?> traversal = ((Traversal) object).asAdmin();
+            if (traversal.isLocked())
+                throw new IllegalStateException("The traversal has already had its strategies applied");
+            return traversal;
+        } catch (Exception ex) {
+            final String error = String.format("The [%s] argument of request [%s] could not be deserialized to a traversal - %s",
+                    Tokens.ARGS_GREMLIN, msg.getRequestId(), ex.getMessage());
+            logger.warn(error, ex);
+            throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(error).create());
+        }
+    }
+
+    private static GraphTraversalSource resolveTraversalSource(final Context context) throws OpProcessorException {
+        final RequestMessage msg = context.getRequestMessage();
+        final Map<String, String> rebinds = (Map<String, String>) msg.getArgs().getOrDefault(Tokens.ARGS_REBINDINGS, Collections.emptyMap());
+        final String name = rebinds.getOrDefault(TRAVERSAL_SOURCE_VARIABLE, TRAVERSAL_SOURCE_VARIABLE);
+
+        final TraversalSource traversalSource = context.getGraphManager().getTraversalSources().get(name);
+        if (traversalSource instanceof GraphTraversalSource)
+            return (GraphTraversalSource) traversalSource;
+
+        final Graph graph = context.getGraphManager().getGraphs().get(name);
+        if (graph != null)
+            return graph.traversal();
+
+        final String error = String.format("Could not execute traversal against [%s] as it is not a Graph or GraphTraversalSource in the global bindings", name);
+        throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(error).create());
+    }
+
+    /**
+     * Binds the traversal to the graph of the source along with the engine and strategies the source would give to
+     * a traversal it spawned itself.  The graph is transient so it was not part of what the client sent.
+     */
+    private static void attachTraversal(final Traversal.Admin<?, ?> traversal, final GraphTraversalSource g) {
+        final Traversal.Admin<?, ?> spawned = g.V().asAdmin();
+        traversal.setGraph(spawned.getGraph().get());
+        traversal.setEngine(spawned.getEngine());
+        traversal.setStrategies(spawned.getStrategies());
+    }
+
+    /**
+     * Only resolves the classes that are allowed for a {@link Tokens#OPS_TRAVERSAL} request, so that a request can
+     * not have the server instantiate arbitrary {@code Serializable} classes of its classpath.
+     */
+    private static final class AllowedClassesObjectInputStream extends ObjectInputStream {
+        private final List<String> allowedClasses;
+
+        private AllowedClassesObjectInputStream(final InputStream in, final List<String> allowedClasses) throws IOException {
+            super(in);
+            this.allowedClasses = allowedClasses;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            String name = desc.getName();
+            // check the component type of an array - an array of primitives is always allowed
+            while (name.startsWith("["))
+                name = name.substring(1);
+            if (name.startsWith("L") && name.endsWith(";"))
+                name = name.substring(1, name.length() - 1);
+            else if (name.length() == 1 && desc.getName().startsWith("["))
+                return super.resolveClass(desc);
+
+            final String className = name;
+            if (allowedClasses.stream().noneMatch(allowed -> allowed.endsWith(".") ? className.startsWith(allowed) : className.equals(allowed)))
+                throw new InvalidClassException(desc.getName(), "The class is not allowed in a traversal - see the " + CONFIG_TRAVERSAL_ALLOWED_CLASSES + " configuration");
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(final String[] interfaces) throws IOException, ClassNotFoundException {
+            throw new InvalidClassException("Proxy classes are not allowed in a traversal");
+        }
+    }
 }
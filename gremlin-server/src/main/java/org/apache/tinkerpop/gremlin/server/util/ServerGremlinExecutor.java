@@ -18,8 +18,12 @@
  */
 package org.apache.tinkerpop.gremlin.server.util;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.ScriptClassCache;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalPlanCache;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.Settings;
@@ -29,12 +33,20 @@ import org.slf4j.LoggerFactory;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
  * The core of script execution in Gremlin Server.  Given {@link Settings} and optionally other arguments, this
  * class will construct a {@link GremlinExecutor} to be used by Gremlin Server.  Those expecting to build their
@@ -56,6 +68,15 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
     private final ExecutorService gremlinExecutorService;
     private final GremlinExecutor gremlinExecutor;
 
+    static final Timer queueWaitTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "gremlin-pool", "queue-wait"));
+
+    static {
+        final TraversalPlanCache planCache = TraversalPlanCache.instance();
+        MetricManager.INSTANCE.getGuage(planCache::hits, name(GremlinServer.class, "traversal-plan-cache", "hits"));
+        MetricManager.INSTANCE.getGuage(planCache::misses, name(GremlinServer.class, "traversal-plan-cache", "misses"));
+        MetricManager.INSTANCE.getGuage(planCache::size, name(GremlinServer.class, "traversal-plan-cache", "size"));
+    }
+
     /**
      * Create a new object from {@link Settings} where thread pools are internally created. Note that the
      * {@code scheduleExecutorServiceClass} will be created via
@@ -77,7 +98,25 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
 
         if (null == gremlinExecutorService) {
             final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("exec-%d");
-            this.gremlinExecutorService = Executors.newFixedThreadPool(settings.gremlinPool, threadFactoryGremlin);
+            final BlockingQueue<Runnable> queue = settings.gremlinPoolQueueSize > 0 ?
+                    new LinkedBlockingQueue<>(settings.gremlinPoolQueueSize) : new LinkedBlockingQueue<>();
+            this.gremlinExecutorService = new ThreadPoolExecutor(settings.gremlinPool, settings.gremlinPool,
+                    0L, TimeUnit.MILLISECONDS, queue, threadFactoryGremlin) {
+                @Override
+                public void execute(final Runnable command) {
+                    // time the wait for a thread - the timeout of the script only starts once it is running
+                    final Timer.Context queueWait = queueWaitTimer.time();
+                    try {
+                        super.execute(() -> {
+                            queueWait.stop();
+                            command.run();
+                        });
+                    } catch (RejectedExecutionException ree) {
+                        queueWait.stop();
+                        throw ree;
+                    }
+                }
+            };
         } else {
             this.gremlinExecutorService = gremlinExecutorService;
         }
@@ -90,13 +129,21 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
             this.scheduledExecutorService = scheduledExecutorService;
         }
 
+        final MetricRegistry registry = MetricManager.INSTANCE.getRegistry();
+        final String queueDepthName = name(GremlinServer.class, "gremlin-pool", "queue-depth");
+        registry.remove(queueDepthName);
+        MetricManager.INSTANCE.getGuage(() -> this.gremlinExecutorService instanceof ThreadPoolExecutor ?
+                ((ThreadPoolExecutor) this.gremlinExecutorService).getQueue().size() : 0, queueDepthName);
+
         // initialize graphs from configuration
         graphManager = new GraphManager(settings);
+        TraversalPlanCache.instance().setMaxSize(settings.traversalPlanCacheSize);
 
         logger.info("Initialized Gremlin thread pool.  Threads in pool named with pattern gremlin-*");
 
         final GremlinExecutor.Builder gremlinExecutorBuilder = GremlinExecutor.build()
                 .scriptEvaluationTimeout(settings.scriptEvaluationTimeout)
+                .queueTimeout(settings.gremlinPoolQueueTimeout)
                 .afterFailure((b, e) -> graphManager.rollbackAll())
                 .beforeEval(b -> graphManager.rollbackAll())
                 .afterTimeout(b -> graphManager.rollbackAll())
@@ -118,6 +165,14 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
 
         logger.info("Initialized GremlinExecutor and configured ScriptEngines.");
 
+        // the compiled script caches of the engines that serve sessionless requests (and sessions that share them)
+        registerScriptCacheGauge(registry, "hits", ScriptClassCache::hits);
+        registerScriptCacheGauge(registry, "misses", ScriptClassCache::misses);
+        registerScriptCacheGauge(registry, "evictions", ScriptClassCache::evictions);
+        registerScriptCacheGauge(registry, "compilations", ScriptClassCache::compilations);
+        registerScriptCacheGauge(registry, "compile-time", ScriptClassCache::compileTime);
+        registerScriptCacheGauge(registry, "size", ScriptClassCache::size);
+
         // script engine init may have altered the graph bindings or maybe even created new ones - need to
         // re-apply those references back
         gremlinExecutor.getGlobalBindings().entrySet().stream()
@@ -140,6 +195,14 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
                 .collect(Collectors.toList());
     }
 
+    private void registerScriptCacheGauge(final MetricRegistry registry, final String metric,
+                                          final ToLongFunction<ScriptClassCache> f) {
+        final String gaugeName = name(GremlinServer.class, "script-cache", metric);
+        registry.remove(gaugeName);
+        MetricManager.INSTANCE.getGuage(() -> gremlinExecutor.getScriptEngines().scriptClassCaches().values().stream()
+                .mapToLong(f).sum(), gaugeName);
+    }
+
     public T getScheduledExecutorService() {
         return scheduledExecutorService;
     }
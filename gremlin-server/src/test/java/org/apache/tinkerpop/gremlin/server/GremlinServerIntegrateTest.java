@@ -22,6 +22,7 @@ import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.log4j.Logger;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.Result;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.exception.ResponseException;
@@ -32,16 +33,22 @@ import org.apache.tinkerpop.gremlin.driver.simple.NioClient;
 import org.apache.tinkerpop.gremlin.driver.simple.SimpleClient;
 import org.apache.tinkerpop.gremlin.driver.simple.WebSocketClient;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.apache.tinkerpop.gremlin.server.channel.NioChannelizer;
 import org.apache.tinkerpop.gremlin.server.op.session.SessionOpProcessor;
+import org.apache.tinkerpop.gremlin.server.op.standard.StandardOpProcessor;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.util.Log4jRecordingAppender;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.net.URI;
 import java.nio.channels.ClosedChannelException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -52,6 +59,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static com.codahale.metrics.MetricRegistry.name;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
 import static org.junit.Assume.assumeThat;
@@ -98,6 +106,10 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
             case "shouldBlockRequestWhenTooBig":
                 settings.maxContentLength = 1024;
                 break;
+            case "shouldRejectRequestsWhenGremlinPoolQueueIsFull":
+                settings.gremlinPool = 1;
+                settings.gremlinPoolQueueSize = 1;
+                break;
             case "shouldBatchResultsByTwos":
                 settings.resultIterationBatchSize = 2;
                 break;
@@ -119,6 +131,25 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
                 processorSettings.config.put(SessionOpProcessor.CONFIG_SESSION_TIMEOUT, 3000l);
                 settings.processors.add(processorSettings);
                 break;
+            case "shouldKeepBindingsPerSessionWithSharedScriptEngines":
+            case "shouldEvaluateSessionWithTheScriptEnginesOfTheServer":
+                settings.processors.clear();
+                final Settings.ProcessorSettings sharedProcessorSettings = new Settings.ProcessorSettings();
+                sharedProcessorSettings.className = SessionOpProcessor.class.getCanonicalName();
+                sharedProcessorSettings.config = new HashMap<>();
+                sharedProcessorSettings.config.put(SessionOpProcessor.CONFIG_SESSION_TIMEOUT, SessionOpProcessor.DEFAULT_SESSION_TIMEOUT);
+                sharedProcessorSettings.config.put(SessionOpProcessor.CONFIG_SHARED_SCRIPT_ENGINES, true);
+                settings.processors.add(sharedProcessorSettings);
+                break;
+            case "shouldSubmitTraversal":
+            case "shouldSubmitTraversalToReboundGraph":
+            case "shouldNotDeserializeTraversalWithClassesThatAreNotAllowed":
+                final Settings.ProcessorSettings standardProcessorSettings = new Settings.ProcessorSettings();
+                standardProcessorSettings.className = StandardOpProcessor.class.getCanonicalName();
+                standardProcessorSettings.config = new HashMap<>();
+                standardProcessorSettings.config.put(StandardOpProcessor.CONFIG_ENABLE_TRAVERSAL_OP, true);
+                settings.processors.add(standardProcessorSettings);
+                break;
         }
 
         return settings;
@@ -213,6 +244,7 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
             assertTrue(expected.get());
 
             assertTrue(recordingAppender.getMessages().stream().anyMatch(m -> m.contains("Pausing response writing as writeBufferHighWaterMark exceeded on")));
+            assertTrue(MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "channels", "paused")).getCount() > 0);
         } catch (Exception ex) {
             fail("Shouldn't have tossed an exception");
         } finally {
@@ -335,6 +367,34 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         }
     }
 
+    @Test
+    public void shouldRejectRequestsWhenGremlinPoolQueueIsFull() throws Exception {
+        final Cluster cluster = Cluster.open();
+        final Client client = cluster.connect();
+
+        try {
+            // one request occupies the only thread in the pool and the next fills the queue
+            final CompletableFuture<ResultSet> running = client.submitAsync("Thread.sleep(2000);'running'");
+            Thread.sleep(250);
+            final CompletableFuture<ResultSet> queued = client.submitAsync("'queued'");
+            Thread.sleep(250);
+
+            try {
+                client.submit("'rejected'").all().get();
+                fail("Request should have been rejected as the gremlinPool queue is full");
+            } catch (Exception ex) {
+                final Throwable root = ExceptionUtils.getRootCause(ex);
+                assertTrue(root instanceof ResponseException);
+                assertEquals(ResponseStatusCode.SERVER_ERROR_OVERLOADED, ((ResponseException) root).getResponseStatusCode());
+            }
+
+            assertEquals("running", running.get().all().get().get(0).getString());
+            assertEquals("queued", queued.get().all().get().get(0).getString());
+        } finally {
+            cluster.close();
+        }
+    }
+
     @Test
     public void shouldReceiveFailureTimeOutOnTotalSerialization() throws Exception {
         final Cluster cluster = Cluster.open();
@@ -460,6 +520,119 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         }
     }
 
+    @Test
+    public void shouldSubmitTraversal() throws Exception {
+        final Cluster cluster = Cluster.build().create();
+        final Client client = cluster.connect();
+
+        try {
+            client.submit("graph.addVertex('name','marko');graph.addVertex('name','stephen')").all().get();
+
+            final GraphTraversalSource g = EmptyGraph.instance().traversal();
+            final List<Result> results = client.submit(g.V().has("name", "marko").values("name")).all().get();
+            assertEquals(1, results.size());
+            assertEquals("marko", results.get(0).getString());
+
+            assertEquals(2l, client.submit(g.V().count()).all().get().get(0).getLong());
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldSubmitTraversalToReboundGraph() throws Exception {
+        final Cluster cluster = Cluster.build().create();
+        final Client client = cluster.connect();
+
+        try {
+            client.submit("graph.addVertex('name','marko')").all().get();
+
+            final Client rebound = client.rebind("graph");
+            final GraphTraversalSource g = EmptyGraph.instance().traversal();
+            assertEquals("marko", rebound.submit(g.V().values("name")).all().get().get(0).getString());
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldNotDeserializeTraversalWithClassesThatAreNotAllowed() throws Exception {
+        final Cluster cluster = Cluster.build().create();
+        final Client client = cluster.connect();
+
+        try {
+            try {
+                client.submit(EmptyGraph.instance().traversal().V().has("uri", URI.create("http://tinkerpop.incubator.apache.org"))).all().get();
+                fail("java.net.URI is not an allowed class");
+            } catch (Exception ex) {
+                final Throwable root = ExceptionUtils.getRootCause(ex);
+                assertTrue(root instanceof ResponseException);
+                assertEquals(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS, ((ResponseException) root).getResponseStatusCode());
+            }
+
+            // traversals of allowed classes are still executed
+            assertEquals(0l, client.submit(EmptyGraph.instance().traversal().V().count()).all().get().get(0).getLong());
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldNotSubmitTraversalUnlessEnabled() throws Exception {
+        final Cluster cluster = Cluster.build().create();
+        final Client client = cluster.connect();
+
+        try {
+            client.submit(EmptyGraph.instance().traversal().V()).all().get();
+            fail("The traversal op should not be enabled by default");
+        } catch (Exception ex) {
+            final Throwable root = ExceptionUtils.getRootCause(ex);
+            assertTrue(root instanceof ResponseException);
+            assertEquals(ResponseStatusCode.REQUEST_ERROR_MALFORMED_REQUEST, ((ResponseException) root).getResponseStatusCode());
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldKeepBindingsPerSessionWithSharedScriptEngines() throws Exception {
+        final Cluster cluster = Cluster.build().create();
+        final Client clientA = cluster.connect(name.getMethodName() + "A");
+        final Client clientB = cluster.connect(name.getMethodName() + "B");
+
+        try {
+            clientA.submit("x = 1").all().get();
+            clientB.submit("x = 2").all().get();
+            assertEquals(2, clientA.submit("x + 1").all().get().get(0).getInt());
+            assertEquals(3, clientB.submit("x + 1").all().get().get(0).getInt());
+
+            // the same script evaluated in both sessions still sees the bindings of its own session
+            assertEquals(11, clientA.submit("x + 10").all().get().get(0).getInt());
+            assertEquals(12, clientB.submit("x + 10").all().get().get(0).getInt());
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldEvaluateSessionWithTheScriptEnginesOfTheServer() throws Exception {
+        final Cluster cluster = Cluster.build().create();
+        final Client session = cluster.connect(name.getMethodName());
+        final Client sessionless = cluster.connect();
+
+        try {
+            // a function defined in the session is defined to the engine that evaluated it, which sessionless
+            // requests only see if the session evaluated with the engines of the server
+            assertEquals(6, session.submit("def multiplyIt(x,y){x*y};multiplyIt(2,3)").all().get().get(0).getInt());
+            assertEquals(12, sessionless.submit("multiplyIt(3,4)").all().get().get(0).getInt());
+
+            // the functions of the init scripts of the server are still available in the session
+            assertEquals(2, session.submit("addItUp(1,1)").all().get().get(0).getInt());
+        } finally {
+            cluster.close();
+        }
+    }
+
     @Test
     public void shouldHaveTheSessionTimeout() throws Exception {
         final Cluster cluster = Cluster.build().create();
@@ -458,6 +458,14 @@ public abstract class MatchTest extends AbstractGremlinProcessTest {
         }
     }
 
+    public static class CostMatchTraversals extends Traversals {
+        @Before
+        public void setupTest() {
+            super.setupTest();
+            g = graphProvider.traversal(graph, MatchAlgorithmStrategy.build().algorithm(MatchStep.CostMatchAlgorithm.class).create());
+        }
+    }
+
     public static class CountMatchTraversals extends Traversals {
         // make sure default works -- i.e. CountMatchAlgorithm
         /*@Before
@@ -24,6 +24,8 @@ import org.apache.tinkerpop.gremlin.FeatureRequirement;
 import org.apache.tinkerpop.gremlin.LoadGraphWith;
 import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONReader;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -223,4 +225,63 @@ public class IoGraphTest extends AbstractGremlinTest {
             graphProvider.clear(g1, configuration);
         }
     }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    @FeatureRequirement(featureClass = Graph.Features.EdgeFeatures.class, feature = Graph.Features.EdgeFeatures.FEATURE_ADD_EDGES)
+    @FeatureRequirement(featureClass = Graph.Features.VertexFeatures.class, feature = Graph.Features.VertexFeatures.FEATURE_ADD_VERTICES)
+    public void shouldBulkLoadModern() throws Exception {
+        assumeThat("GraphML does not support bulk loading", ioType, not("graphml"));
+        try (final ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            final GraphWriter writer = graph.io(ioBuilderToTest).writer().create();
+            writer.writeGraph(os, graph);
+
+            final Configuration configuration = graphProvider.newGraphConfiguration("readGraph", this.getClass(), name.getMethodName(), LoadGraphWith.GraphData.MODERN);
+            graphProvider.clear(configuration);
+            final Graph g1 = graphProvider.openTestGraph(configuration);
+
+            // hold few enough ids in memory that the ids get spilled to disk for graphs that don't accept them
+            final GraphReader.ReaderBuilder builder = graph.io(ioBuilderToTest).reader();
+            final GraphReader reader = builder instanceof GryoReader.Builder ?
+                    ((GryoReader.Builder) builder).bulkLoad(true).maxIdsInMemory(2).create() :
+                    ((GraphSONReader.Builder) builder).bulkLoad(true).maxIdsInMemory(2).create();
+            try (final ByteArrayInputStream bais = new ByteArrayInputStream(os.toByteArray())) {
+                reader.readGraph(bais, g1);
+            }
+
+            // modern uses double natively so always assert as such
+            IoTest.assertModernGraph(g1, true, lossyForId);
+
+            graphProvider.clear(g1, configuration);
+        }
+    }
+
+    @Test
+    @LoadGraphWith(LoadGraphWith.GraphData.MODERN)
+    @FeatureRequirement(featureClass = Graph.Features.EdgeFeatures.class, feature = Graph.Features.EdgeFeatures.FEATURE_ADD_EDGES)
+    @FeatureRequirement(featureClass = Graph.Features.VertexFeatures.class, feature = Graph.Features.VertexFeatures.FEATURE_ADD_VERTICES)
+    public void shouldReadModernWithWorkers() throws Exception {
+        assumeThat("GraphML does not support parallel reads", ioType, not("graphml"));
+        try (final ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            final GraphWriter writer = graph.io(ioBuilderToTest).writer().create();
+            writer.writeGraph(os, graph);
+
+            final Configuration configuration = graphProvider.newGraphConfiguration("readGraph", this.getClass(), name.getMethodName(), LoadGraphWith.GraphData.MODERN);
+            graphProvider.clear(configuration);
+            final Graph g1 = graphProvider.openTestGraph(configuration);
+
+            final GraphReader.ReaderBuilder builder = graph.io(ioBuilderToTest).reader();
+            final GraphReader reader = builder instanceof GryoReader.Builder ?
+                    ((GryoReader.Builder) builder).parseWorkers(3).writeWorkers(2).batchSize(2).create() :
+                    ((GraphSONReader.Builder) builder).parseWorkers(3).writeWorkers(2).batchSize(2).create();
+            try (final ByteArrayInputStream bais = new ByteArrayInputStream(os.toByteArray())) {
+                reader.readGraph(bais, g1);
+            }
+
+            // modern uses double natively so always assert as such
+            IoTest.assertModernGraph(g1, true, lossyForId);
+
+            graphProvider.clear(g1, configuration);
+        }
+    }
 }
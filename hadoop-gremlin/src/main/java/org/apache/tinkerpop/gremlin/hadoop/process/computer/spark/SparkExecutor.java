@@ -49,8 +49,12 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import scala.Tuple2;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -60,6 +64,11 @@ public final class SparkExecutor {
 
     private static final String[] EMPTY_ARRAY = new String[0];
 
+    /**
+     * The number of values of a key that the combine stage buffers before it combines them.
+     */
+    private static final int COMBINE_BUFFER_SIZE = 1000;
+
     private SparkExecutor() {
     }
 
@@ -179,7 +188,39 @@ public final class SparkExecutor {
         return mapRDD;
     }
 
-    // TODO: public static executeCombine()  is this necessary?  YES --- we groupByKey in reduce() where we want to combine first.
+    public static <K, V> JavaPairRDD<K, V> executeCombine(final JavaPairRDD<K, V> mapRDD, final Configuration apacheConfiguration) {
+        return mapRDD.mapPartitionsToPair(partitionIterator -> {
+            HadoopPools.initialize(apacheConfiguration);
+            final MapReduce<K, V, ?, ?, ?> workerMapReduce = MapReduce.<MapReduce<K, V, ?, ?, ?>>createMapReduce(HadoopGraph.open(apacheConfiguration), apacheConfiguration);
+            workerMapReduce.workerStart(MapReduce.Stage.COMBINE);
+            // group the emissions of the partition so that only the combined values of each key are shuffled to the reducers,
+            // combining the values of a key as they arrive so that only a bounded number of them is buffered per key
+            final Map<K, CombineBuffer<V>> partitionValues = new HashMap<>();
+            final SparkReduceEmitter<K, V> combineEmitter = new SparkReduceEmitter<>();
+            partitionIterator.forEachRemaining(keyValue -> {
+                final CombineBuffer<V> buffer = partitionValues.computeIfAbsent(keyValue._1(), key -> new CombineBuffer<>());
+                buffer.values.add(keyValue._2());
+                if (buffer.values.size() >= buffer.limit) {
+                    final List<V> values = buffer.values;
+                    buffer.values = new ArrayList<>();
+                    workerMapReduce.combine(keyValue._1(), values.iterator(), combineEmitter);
+                    combineEmitter.getEmissions().forEachRemaining(combined -> partitionValues.computeIfAbsent(combined._1(), key -> new CombineBuffer<>()).values.add(combined._2()));
+                    // a combine that does not reduce the values is not run again until the buffer has doubled
+                    buffer.limit = Math.max(COMBINE_BUFFER_SIZE, buffer.values.size() << 1);
+                }
+            });
+            if (partitionValues.isEmpty())
+                workerMapReduce.workerEnd(MapReduce.Stage.COMBINE);
+            final Iterator<Map.Entry<K, CombineBuffer<V>>> keyValuesIterator = partitionValues.entrySet().iterator();
+            return () -> IteratorUtils.flatMap(keyValuesIterator, keyValues -> {
+                workerMapReduce.combine(keyValues.getKey(), keyValues.getValue().values.iterator(), combineEmitter);
+                keyValuesIterator.remove();
+                if (!keyValuesIterator.hasNext())
+                    workerMapReduce.workerEnd(MapReduce.Stage.COMBINE);
+                return combineEmitter.getEmissions();
+            });
+        });
+    }
 
     public static <K, V, OK, OV> JavaPairRDD<OK, OV> executeReduce(final JavaPairRDD<K, V> mapRDD, final MapReduce<K, V, OK, OV, ?> mapReduce, final Configuration apacheConfiguration) {
         JavaPairRDD<OK, OV> reduceRDD = mapRDD.groupByKey().mapPartitionsToPair(partitionIterator -> {
@@ -199,6 +240,11 @@ public final class SparkExecutor {
         return reduceRDD;
     }
 
+    private static final class CombineBuffer<V> {
+        private List<V> values = new ArrayList<>();
+        private int limit = COMBINE_BUFFER_SIZE;
+    }
+
     ///////////////////
     // Input/Output //
     //////////////////
@@ -30,9 +30,11 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
@@ -52,14 +54,29 @@ public final class TinkerGraphComputer implements GraphComputer {
     private VertexProgram<?> vertexProgram;
     private final TinkerGraph graph;
     private TinkerMemory memory;
-    private final TinkerMessageBoard messageBoard = new TinkerMessageBoard();
+    private TinkerMessageBoard messageBoard;
     private boolean executed = false;
     private final Set<MapReduce> mapReducers = new HashSet<>();
+    private int workers = Runtime.getRuntime().availableProcessors();
 
     public TinkerGraphComputer(final TinkerGraph graph) {
         this.graph = graph;
     }
 
+    /**
+     * Set the number of worker threads that the vertex program and map reduce jobs are partitioned across.
+     * By default, the number of workers is the number of available processors.
+     *
+     * @param workers the number of workers to execute with
+     * @return the updated computer
+     */
+    public TinkerGraphComputer workers(final int workers) {
+        if (workers < 1)
+            throw new IllegalArgumentException("The number of workers must be greater than zero: " + workers);
+        this.workers = workers;
+        return this;
+    }
+
     @Override
     public GraphComputer result(final ResultGraph resultGraph) {
         this.resultGraph = resultGraph;
@@ -109,23 +126,25 @@ public final class TinkerGraphComputer implements GraphComputer {
         this.memory = new TinkerMemory(this.vertexProgram, this.mapReducers);
         return CompletableFuture.<ComputerResult>supplyAsync(() -> {
             final long time = System.currentTimeMillis();
-            try (final TinkerWorkerPool workers = new TinkerWorkerPool(Runtime.getRuntime().availableProcessors())) {
+            try (final TinkerWorkerPool workers = new TinkerWorkerPool(this.workers)) {
+                // the computer does not support vertex addition/removal so vertex slots and partitions are fixed
+                final List<Vertex> vertices = IteratorUtils.list(this.graph.vertices());
+                final List<List<Vertex>> vertexPartitions = workers.partition(vertices);
                 if (null != this.vertexProgram) {
+                    this.messageBoard = new TinkerMessageBoard<>(vertices, this.vertexProgram.getMessageCombiner());
                     TinkerHelper.createGraphComputerView(this.graph, this.vertexProgram.getElementComputeKeys());
                     // execute the vertex program
                     this.vertexProgram.setup(this.memory);
                     this.memory.completeSubRound();
+                    workers.setVertexProgram(this.vertexProgram);
                     while (true) {
-                        workers.setVertexProgram(this.vertexProgram);
                         workers.vertexProgramWorkerIterationStart(this.memory.asImmutable());
-                        final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(this.graph.vertices());
-                        workers.executeVertexProgram(vertexProgram -> {
-                            while (true) {
+                        workers.executeVertexProgram(vertexPartitions, (vertices, vertexProgram) -> {
+                            while (vertices.hasNext()) {
                                 final Vertex vertex = vertices.next();
-                                if (null == vertex) return;
                                 vertexProgram.execute(
                                         ComputerGraph.vertexProgram(vertex, this.vertexProgram),
-                                        new TinkerMessenger<>(vertex, this.messageBoard, vertexProgram.getMessageCombiner()),
+                                        new TinkerMessenger<>(vertex, this.messageBoard),
                                         this.memory
                                 );
                             }
@@ -148,14 +167,11 @@ public final class TinkerGraphComputer implements GraphComputer {
                 for (final MapReduce mapReduce : mapReducers) {
                     if (mapReduce.doStage(MapReduce.Stage.MAP)) {
                         final TinkerMapEmitter<?, ?> mapEmitter = new TinkerMapEmitter<>(mapReduce.doStage(MapReduce.Stage.REDUCE));
-                        final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(this.graph.vertices());
                         workers.setMapReduce(mapReduce);
                         workers.mapReduceWorkerStart(MapReduce.Stage.MAP);
-                        workers.executeMapReduce(workerMapReduce -> {
-                            while (true) {
-                                final Vertex vertex = vertices.next();
-                                if (null == vertex) return;
-                                workerMapReduce.map(ComputerGraph.mapReduce(vertex), mapEmitter);
+                        workers.executeMapReduce(vertexPartitions, (vertices, workerMapReduce) -> {
+                            while (vertices.hasNext()) {
+                                workerMapReduce.map(ComputerGraph.mapReduce(vertices.next()), mapEmitter);
                             }
                         });
                         workers.mapReduceWorkerEnd(MapReduce.Stage.MAP);
@@ -166,12 +182,11 @@ public final class TinkerGraphComputer implements GraphComputer {
                         // no need to run combiners as this is single machine
                         if (mapReduce.doStage(MapReduce.Stage.REDUCE)) {
                             final TinkerReduceEmitter<?, ?> reduceEmitter = new TinkerReduceEmitter<>();
-                            final SynchronizedIterator<Map.Entry<?, Queue<?>>> keyValues = new SynchronizedIterator((Iterator) mapEmitter.reduceMap.entrySet().iterator());
+                            final List<List<Map.Entry<?, Queue<?>>>> keyValuePartitions = workers.partition((List) new ArrayList<>(mapEmitter.reduceMap.entrySet()));
                             workers.mapReduceWorkerStart(MapReduce.Stage.REDUCE);
-                            workers.executeMapReduce(workerMapReduce -> {
-                                while (true) {
+                            workers.executeMapReduce(keyValuePartitions, (keyValues, workerMapReduce) -> {
+                                while (keyValues.hasNext()) {
                                     final Map.Entry<?, Queue<?>> entry = keyValues.next();
-                                    if (null == entry) return;
                                     workerMapReduce.reduce(entry.getKey(), entry.getValue().iterator(), reduceEmitter);
                                 }
                             });
@@ -203,19 +218,6 @@ public final class TinkerGraphComputer implements GraphComputer {
         return StringFactory.graphComputerString(this);
     }
 
-    private static class SynchronizedIterator<V> {
-
-        private final Iterator<V> iterator;
-
-        public SynchronizedIterator(final Iterator<V> iterator) {
-            this.iterator = iterator;
-        }
-
-        public synchronized V next() {
-            return this.iterator.hasNext() ? this.iterator.next() : null;
-        }
-    }
-
     @Override
     public Features features() {
         return new Features() {
@@ -18,29 +18,270 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * The message board assigns each vertex of the computed graph a dense integer slot when the computer starts.
+ * Messages are stored in arrays indexed by slot that are double-buffered between iterations (the messages sent
+ * in one iteration are received in the next). If the vertex program provides a {@link MessageCombiner}, each slot
+ * holds a single combined message and if that combiner is a {@link MessageCombiner.DoubleCombiner} or a
+ * {@link MessageCombiner.LongCombiner}, the messages are stored and combined as primitives. The messages of each
+ * {@link MessageScope.Local} are stored at the slot of the sending vertex in a store of their own so they are neither
+ * combined with global messages nor with the messages of another local scope.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 final class TinkerMessageBoard<M> {
 
-    public Map<Vertex, Queue<M>> sendMessages = new ConcurrentHashMap<>();
-    public Map<Vertex, Queue<M>> receiveMessages = new ConcurrentHashMap<>();
-    public Set<MessageScope> previousMessageScopes = new HashSet<>();
-    public Set<MessageScope> currentMessageScopes = new HashSet<>();
+    private static final int LOCK_STRIPES = 1024;
+
+    private final Map<Object, Integer> slots;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final int size;
+    private final Optional<MessageCombiner<M>> combiner;
+    private final MessageStore<M> globalMessageStore;
+    private final Map<MessageScope, MessageStore<M>> localMessageStores = new ConcurrentHashMap<>();
+
+    public Set<MessageScope> previousMessageScopes = ConcurrentHashMap.newKeySet();
+    public Set<MessageScope> currentMessageScopes = ConcurrentHashMap.newKeySet();
+
+    public TinkerMessageBoard(final List<Vertex> vertices, final Optional<MessageCombiner<M>> combiner) {
+        this.slots = new HashMap<>(vertices.size() * 4 / 3 + 1);
+        for (int i = 0; i < vertices.size(); i++) {
+            this.slots.put(vertices.get(i).id(), i);
+        }
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            this.locks[i] = new Object();
+        }
+        this.size = vertices.size();
+        this.combiner = combiner;
+        this.globalMessageStore = this.createMessageStore();
+    }
+
+    private MessageStore<M> createMessageStore() {
+        if (!this.combiner.isPresent())
+            return new ListMessageStore<>(this.size);
+        else if (this.combiner.get() instanceof MessageCombiner.DoubleCombiner)
+            return (MessageStore) new DoubleMessageStore(this.size, (MessageCombiner.DoubleCombiner) this.combiner.get());
+        else if (this.combiner.get() instanceof MessageCombiner.LongCombiner)
+            return (MessageStore) new LongMessageStore(this.size, (MessageCombiner.LongCombiner) this.combiner.get());
+        else
+            return new CombinedMessageStore<>(this.size, this.combiner.get());
+    }
+
+    private MessageStore<M> getMessageStore(final MessageScope messageScope) {
+        return messageScope instanceof MessageScope.Local ?
+                this.localMessageStores.computeIfAbsent(messageScope, scope -> this.createMessageStore()) :
+                this.globalMessageStore;
+    }
+
+    public int getSlot(final Vertex vertex) {
+        final Integer slot = this.slots.get(vertex.id());
+        if (null == slot)
+            throw new IllegalStateException("The vertex is not a vertex of the graph being computed: " + vertex);
+        return slot;
+    }
+
+    public void sendMessage(final MessageScope messageScope, final int slot, final M message) {
+        final MessageStore<M> messageStore = this.getMessageStore(messageScope);
+        synchronized (this.locks[slot & (LOCK_STRIPES - 1)]) {
+            messageStore.send(slot, message);
+        }
+    }
+
+    public Iterator<M> receiveMessages(final MessageScope messageScope, final int slot) {
+        return this.getMessageStore(messageScope).receive(slot);
+    }
 
     public void completeIteration() {
-        this.receiveMessages = this.sendMessages;
-        this.sendMessages = new ConcurrentHashMap<>();
+        this.globalMessageStore.swap();
+        this.localMessageStores.values().forEach(MessageStore::swap);
         this.previousMessageScopes = this.currentMessageScopes;
-        this.currentMessageScopes = new HashSet<>();
+        this.currentMessageScopes = ConcurrentHashMap.newKeySet();
+    }
+
+    ////////////////
+
+    private interface MessageStore<M> {
+
+        /**
+         * Add the message to the slot of the send buffer. Calls for the same slot are serialized by the board.
+         */
+        public void send(final int slot, final M message);
+
+        /**
+         * Get the messages of the slot in the receive buffer.
+         */
+        public Iterator<M> receive(final int slot);
+
+        /**
+         * Turn the send buffer into the receive buffer and clear the old receive buffer for sending.
+         */
+        public void swap();
+    }
+
+    private static final class ListMessageStore<M> implements MessageStore<M> {
+
+        private List<M>[] sendMessages;
+        private List<M>[] receiveMessages;
+
+        public ListMessageStore(final int size) {
+            this.sendMessages = new List[size];
+            this.receiveMessages = new List[size];
+        }
+
+        @Override
+        public void send(final int slot, final M message) {
+            if (null == this.sendMessages[slot])
+                this.sendMessages[slot] = new ArrayList<>(1);
+            this.sendMessages[slot].add(message);
+        }
+
+        @Override
+        public Iterator<M> receive(final int slot) {
+            final List<M> messages = this.receiveMessages[slot];
+            return null == messages ? Collections.emptyIterator() : messages.iterator();
+        }
+
+        @Override
+        public void swap() {
+            final List<M>[] temp = this.receiveMessages;
+            this.receiveMessages = this.sendMessages;
+            Arrays.fill(temp, null);
+            this.sendMessages = temp;
+        }
+    }
+
+    private static final class CombinedMessageStore<M> implements MessageStore<M> {
+
+        private final MessageCombiner<M> combiner;
+        private Object[] sendMessages;
+        private Object[] receiveMessages;
+
+        public CombinedMessageStore(final int size, final MessageCombiner<M> combiner) {
+            this.combiner = combiner;
+            this.sendMessages = new Object[size];
+            this.receiveMessages = new Object[size];
+        }
+
+        @Override
+        public void send(final int slot, final M message) {
+            final M current = (M) this.sendMessages[slot];
+            this.sendMessages[slot] = null == current ? message : this.combiner.combine(current, message);
+        }
+
+        @Override
+        public Iterator<M> receive(final int slot) {
+            final M message = (M) this.receiveMessages[slot];
+            return null == message ? Collections.emptyIterator() : IteratorUtils.of(message);
+        }
+
+        @Override
+        public void swap() {
+            final Object[] temp = this.receiveMessages;
+            this.receiveMessages = this.sendMessages;
+            Arrays.fill(temp, null);
+            this.sendMessages = temp;
+        }
+    }
+
+    private static final class DoubleMessageStore implements MessageStore<Double> {
+
+        private final MessageCombiner.DoubleCombiner combiner;
+        private double[] sendMessages;
+        private double[] receiveMessages;
+        private boolean[] sendPresent;
+        private boolean[] receivePresent;
+
+        public DoubleMessageStore(final int size, final MessageCombiner.DoubleCombiner combiner) {
+            this.combiner = combiner;
+            this.sendMessages = new double[size];
+            this.receiveMessages = new double[size];
+            this.sendPresent = new boolean[size];
+            this.receivePresent = new boolean[size];
+        }
+
+        @Override
+        public void send(final int slot, final Double message) {
+            if (this.sendPresent[slot])
+                this.sendMessages[slot] = this.combiner.combine(this.sendMessages[slot], message.doubleValue());
+            else {
+                this.sendMessages[slot] = message;
+                this.sendPresent[slot] = true;
+            }
+        }
+
+        @Override
+        public Iterator<Double> receive(final int slot) {
+            return this.receivePresent[slot] ? IteratorUtils.of(this.receiveMessages[slot]) : Collections.emptyIterator();
+        }
+
+        @Override
+        public void swap() {
+            final double[] tempMessages = this.receiveMessages;
+            final boolean[] tempPresent = this.receivePresent;
+            this.receiveMessages = this.sendMessages;
+            this.receivePresent = this.sendPresent;
+            Arrays.fill(tempPresent, false);
+            this.sendMessages = tempMessages;
+            this.sendPresent = tempPresent;
+        }
+    }
+
+    private static final class LongMessageStore implements MessageStore<Long> {
+
+        private final MessageCombiner.LongCombiner combiner;
+        private long[] sendMessages;
+        private long[] receiveMessages;
+        private boolean[] sendPresent;
+        private boolean[] receivePresent;
+
+        public LongMessageStore(final int size, final MessageCombiner.LongCombiner combiner) {
+            this.combiner = combiner;
+            this.sendMessages = new long[size];
+            this.receiveMessages = new long[size];
+            this.sendPresent = new boolean[size];
+            this.receivePresent = new boolean[size];
+        }
+
+        @Override
+        public void send(final int slot, final Long message) {
+            if (this.sendPresent[slot])
+                this.sendMessages[slot] = this.combiner.combine(this.sendMessages[slot], message.longValue());
+            else {
+                this.sendMessages[slot] = message;
+                this.sendPresent[slot] = true;
+            }
+        }
+
+        @Override
+        public Iterator<Long> receive(final int slot) {
+            return this.receivePresent[slot] ? IteratorUtils.of(this.receiveMessages[slot]) : Collections.emptyIterator();
+        }
+
+        @Override
+        public void swap() {
+            final long[] tempMessages = this.receiveMessages;
+            final boolean[] tempPresent = this.receivePresent;
+            this.receiveMessages = this.sendMessages;
+            this.receivePresent = this.sendPresent;
+            Arrays.fill(tempPresent, false);
+            this.sendMessages = tempMessages;
+            this.sendPresent = tempPresent;
+        }
     }
 }
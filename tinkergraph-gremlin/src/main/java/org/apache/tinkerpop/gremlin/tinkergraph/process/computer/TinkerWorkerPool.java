@@ -25,9 +25,14 @@ import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.MapReducePool;
 import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramPool;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.function.Consumer;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -44,10 +49,31 @@ public final class TinkerWorkerPool implements AutoCloseable {
     private MapReducePool mapReducePool;
 
     public TinkerWorkerPool(final int numberOfWorkers) {
+        if (numberOfWorkers < 1)
+            throw new IllegalArgumentException("The number of workers must be greater than zero: " + numberOfWorkers);
         this.numberOfWorkers = numberOfWorkers;
         workerPool = Executors.newFixedThreadPool(numberOfWorkers, threadFactoryWorker);
     }
 
+    public int getNumberOfWorkers() {
+        return this.numberOfWorkers;
+    }
+
+    /**
+     * Split the provided elements into one contiguous chunk per worker. The chunks are views of the provided list
+     * and thus, the list should not be mutated while the workers are processing them.
+     */
+    public <E> List<List<E>> partition(final List<E> elements) {
+        final List<List<E>> partitions = new ArrayList<>(this.numberOfWorkers);
+        final int size = elements.size();
+        for (int i = 0; i < this.numberOfWorkers; i++) {
+            final int start = (int) (((long) size * i) / this.numberOfWorkers);
+            final int end = (int) (((long) size * (i + 1)) / this.numberOfWorkers);
+            partitions.add(start == end ? Collections.emptyList() : elements.subList(start, end));
+        }
+        return partitions;
+    }
+
     public void setVertexProgram(final VertexProgram vertexProgram) {
         this.vertexProgramPool = new VertexProgramPool(vertexProgram, this.numberOfWorkers);
     }
@@ -66,16 +92,20 @@ public final class TinkerWorkerPool implements AutoCloseable {
         this.vertexProgramPool.workerIterationEnd(memory);
     }
 
-    public void executeVertexProgram(final Consumer<VertexProgram> worker) {
-        try {
-            this.workerPool.submit(() -> {
+    public <E> void executeVertexProgram(final List<List<E>> partitions, final BiConsumer<Iterator<E>, VertexProgram> worker) {
+        final List<Future<?>> futures = new ArrayList<>(partitions.size());
+        for (final List<E> partition : partitions) {
+            if (partition.isEmpty()) continue;
+            futures.add(this.workerPool.submit(() -> {
                 final VertexProgram vp = this.vertexProgramPool.take();
-                worker.accept(vp);
-                this.vertexProgramPool.offer(vp);
-            }).get();
-        } catch (final Exception e) {
-            throw new IllegalStateException(e.getMessage(), e);
+                try {
+                    worker.accept(partition.iterator(), vp);
+                } finally {
+                    this.vertexProgramPool.offer(vp);
+                }
+            }));
         }
+        TinkerWorkerPool.awaitAll(futures);
     }
 
     ///
@@ -89,14 +119,29 @@ public final class TinkerWorkerPool implements AutoCloseable {
     }
 
 
-    public void executeMapReduce(final Consumer<MapReduce> worker) {
-        try {
-            this.workerPool.submit(() -> {
+    public <E> void executeMapReduce(final List<List<E>> partitions, final BiConsumer<Iterator<E>, MapReduce> worker) {
+        final List<Future<?>> futures = new ArrayList<>(partitions.size());
+        for (final List<E> partition : partitions) {
+            if (partition.isEmpty()) continue;
+            futures.add(this.workerPool.submit(() -> {
                 final MapReduce mr = this.mapReducePool.take();
-                worker.accept(mr);
-                this.mapReducePool.offer(mr);
-            }).get();
+                try {
+                    worker.accept(partition.iterator(), mr);
+                } finally {
+                    this.mapReducePool.offer(mr);
+                }
+            }));
+        }
+        TinkerWorkerPool.awaitAll(futures);
+    }
+
+    private static void awaitAll(final List<Future<?>> futures) {
+        try {
+            for (final Future<?> future : futures) {
+                future.get();
+            }
         } catch (final Exception e) {
+            futures.forEach(future -> future.cancel(true));
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
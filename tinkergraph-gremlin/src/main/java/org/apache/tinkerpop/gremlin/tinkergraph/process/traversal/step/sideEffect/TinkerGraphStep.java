@@ -19,23 +19,33 @@
 package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ElementValueComparator;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.BiPredicate;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -44,69 +54,173 @@ import java.util.stream.Collectors;
 public final class TinkerGraphStep<S extends Element> extends GraphStep<S> implements HasContainerHolder {
 
     private final List<HasContainer> hasContainers = new ArrayList<>();
+    private String orderKey = null;
+    private Order order = null;
 
     public TinkerGraphStep(final GraphStep<S> originalGraphStep) {
         super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.getIds());
         originalGraphStep.getLabels().forEach(this::addLabel);
+    }
+
+    @Override
+    protected Iterator<S> elements() {
         //No need to do anything if the first element is an Element, all elements are guaranteed to be an element and will be return as is
-        if ((this.ids.length == 0 || !(this.ids[0] instanceof Element)))
-            this.setIteratorSupplier(() -> (Iterator<S>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges()));
+        if (this.ids.length > 0 && this.ids[0] instanceof Element)
+            return super.elements();
+        return (Iterator<S>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges());
     }
 
     private Iterator<? extends Edge> edges() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Edge.class);
         // ids are present, filter on them first
         if (this.ids != null && this.ids.length > 0)
-            return this.iteratorList(graph.edges(this.ids));
-        else
-            return null == indexedContainer ?
-                    this.iteratorList(graph.edges()) :
-                    TinkerHelper.queryEdgeIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).stream()
-                            .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
-                            .collect(Collectors.<Edge>toList()).iterator();
+            return this.iterator(graph.edges(this.ids), true);
+        // the elements can be read in order from a range index
+        if (this.isIndexOrdered(graph, Edge.class))
+            return this.iterator(TinkerHelper.queryEdgeIndexOrdered(graph, this.orderKey, Order.decr == this.order), false);
+        final Iterator<? extends Edge> indexed = (Iterator) this.queryIndex(graph, Edge.class);
+        return this.iterator(null == indexed ? graph.edges() : indexed, true);
     }
 
     private Iterator<? extends Vertex> vertices() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Vertex.class);
         // ids are present, filter on them first
         if (this.ids != null && this.ids.length > 0)
-            return this.iteratorList(graph.vertices(this.ids));
+            return this.iterator(graph.vertices(this.ids), true);
+        // the elements can be read in order from a range index
+        if (this.isIndexOrdered(graph, Vertex.class))
+            return this.iterator(TinkerHelper.queryVertexIndexOrdered(graph, this.orderKey, Order.decr == this.order), false);
+        final Iterator<? extends Vertex> indexed = (Iterator) this.queryIndex(graph, Vertex.class);
+        return this.iterator(null == indexed ? graph.vertices() : indexed, true);
+    }
+
+    /**
+     * Get the elements of the most selective index that can answer the {@link HasContainer}s or {@code null} if no
+     * index can be used. Equality lookups are preferred to a range lookup and, of the single key indices and the
+     * composite indices that the equality conditions match, the one with the fewest elements for the values is used.
+     */
+    private Iterator<? extends Element> queryIndex(final TinkerGraph graph, final Class<? extends Element> indexedClass) {
+        final boolean vertices = Vertex.class.isAssignableFrom(indexedClass);
+        final Set<String> indexedKeys = graph.getIndexedKeys(indexedClass);
+        final Map<String, Object> equalities = new HashMap<>();
+        HasContainer equalityContainer = null;
+        long equalityCount = Long.MAX_VALUE;
+        HasContainer rangeContainer = null;
+        for (final HasContainer hasContainer : this.hasContainers) {
+            if (hasContainer.getBiPredicate() == Compare.eq)
+                equalities.putIfAbsent(hasContainer.getKey(), hasContainer.getValue());
+            if (!indexedKeys.contains(hasContainer.getKey()))
+                continue;
+            if (hasContainer.getBiPredicate() == Compare.eq) {
+                final long count = vertices ?
+                        TinkerHelper.countVertexIndex(graph, hasContainer.getKey(), hasContainer.getValue()) :
+                        TinkerHelper.countEdgeIndex(graph, hasContainer.getKey(), hasContainer.getValue());
+                if (count < equalityCount) {
+                    equalityContainer = hasContainer;
+                    equalityCount = count;
+                }
+            } else if (null == rangeContainer &&
+                    TinkerGraph.IndexType.RANGE == graph.getIndexType(hasContainer.getKey(), indexedClass).orElse(null) &&
+                    null != TinkerGraphStep.getRange(hasContainer.getPredicate()))
+                rangeContainer = hasContainer;
+        }
+
+        final Set<? extends Element> composite = equalities.isEmpty() ? null : vertices ?
+                TinkerHelper.queryVertexCompositeIndex(graph, equalities) :
+                TinkerHelper.queryEdgeCompositeIndex(graph, equalities);
+        if (null != composite && composite.size() <= equalityCount)
+            return composite.iterator();
+
+        final HasContainer indexedContainer = null == equalityContainer ? rangeContainer : equalityContainer;
+        if (null == indexedContainer)
+            return null;
+        final Object[] range = this.getIndexRange(graph, indexedClass, indexedContainer);
+        if (vertices)
+            return null == range ?
+                    TinkerHelper.iterateVertexIndex(graph, indexedContainer.getKey(), indexedContainer.getValue()) :
+                    TinkerHelper.queryVertexIndexRange(graph, indexedContainer.getKey(), range[0], range[1]);
         else
-            return null == indexedContainer ?
-                    this.iteratorList(graph.vertices()) :
-                    TinkerHelper.queryVertexIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).stream()
-                            .filter(vertex -> HasContainer.testAll(vertex, this.hasContainers))
-                            .collect(Collectors.<Vertex>toList()).iterator();
+            return null == range ?
+                    TinkerHelper.iterateEdgeIndex(graph, indexedContainer.getKey(), indexedContainer.getValue()) :
+                    TinkerHelper.queryEdgeIndexRange(graph, indexedContainer.getKey(), range[0], range[1]);
+    }
+
+    /**
+     * Get the range to look up in a {@link TinkerGraph.IndexType#RANGE} index or {@code null} if the value of the
+     * {@link HasContainer} should be looked up. Equality is looked up as a range in a range index so that numbers
+     * of different types that are equal (e.g. {@code 1} and {@code 1l}) are found.
+     */
+    private Object[] getIndexRange(final TinkerGraph graph, final Class<? extends Element> indexedClass, final HasContainer indexedContainer) {
+        return TinkerGraph.IndexType.RANGE == graph.getIndexType(indexedContainer.getKey(), indexedClass).orElse(null) ?
+                TinkerGraphStep.getRange(indexedContainer.getPredicate()) :
+                null;
     }
 
-    private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
-        final Set<String> indexedKeys = ((TinkerGraph) this.getTraversal().getGraph().get()).getIndexedKeys(indexedClass);
-        return this.hasContainers.stream()
-                .filter(c -> indexedKeys.contains(c.getKey()) && c.getPredicate().getBiPredicate() == Compare.eq)
-                .findAny()
-                .orElseGet(() -> null);
+    /**
+     * The elements are only read in order from a range index when every element has the key, as sorting fails on an
+     * element without the key and the index does not hold such elements.
+     */
+    private boolean isIndexOrdered(final TinkerGraph graph, final Class<? extends Element> indexedClass) {
+        return null != this.orderKey &&
+                TinkerGraph.IndexType.RANGE == graph.getIndexType(this.orderKey, indexedClass).orElse(null) &&
+                (Vertex.class.isAssignableFrom(indexedClass) ?
+                        TinkerHelper.isVertexIndexComplete(graph, this.orderKey) :
+                        TinkerHelper.isEdgeIndexComplete(graph, this.orderKey));
+    }
+
+    /**
+     * Get the low and high bound (either of which may be {@code null}) of the values that can satisfy the predicate.
+     * A predicate that is not bounded by {@link Compare} predicates has no range and {@code null} is returned.
+     */
+    private static Object[] getRange(final P<?> predicate) {
+        final Object[] range = new Object[2];
+        final List<P> predicates = predicate instanceof AndP ? (List) ((AndP) predicate).getPredicates() : Collections.singletonList((P) predicate);
+        for (final P p : predicates) {
+            final BiPredicate biPredicate = p.getBiPredicate();
+            if (biPredicate == Compare.gt || biPredicate == Compare.gte) {
+                if (null == range[0]) range[0] = p.getValue();
+            } else if (biPredicate == Compare.lt || biPredicate == Compare.lte) {
+                if (null == range[1]) range[1] = p.getValue();
+            } else if (biPredicate == Compare.eq) {
+                range[0] = range[1] = p.getValue();
+            } else if (!(predicate instanceof AndP)) {
+                return null;
+            }
+            // the other predicates of an and() can only narrow the range so they are ignored
+        }
+        return null == range[0] && null == range[1] ? null : range;
     }
 
     @Override
     public String toString() {
-        if (this.hasContainers.isEmpty())
+        if (this.hasContainers.isEmpty() && null == this.orderKey)
             return super.toString();
-        else
+        else {
+            final String order = null == this.orderKey ? null : this.order + "(" + this.orderKey + ")";
             return 0 == this.ids.length ?
-                    StringFactory.stepString(this, this.returnClass.getSimpleName().toLowerCase(), this.hasContainers) :
-                    StringFactory.stepString(this, this.returnClass.getSimpleName().toLowerCase(), Arrays.toString(this.ids), this.hasContainers);
+                    StringFactory.stepString(this, this.returnClass.getSimpleName().toLowerCase(), this.hasContainers, order) :
+                    StringFactory.stepString(this, this.returnClass.getSimpleName().toLowerCase(), Arrays.toString(this.ids), this.hasContainers, order);
+        }
     }
 
-    private final <E extends Element> Iterator<E> iteratorList(final Iterator<E> iterator) {
-        final List<E> list = new ArrayList<>();
-        while (iterator.hasNext()) {
-            final E e = iterator.next();
-            if (HasContainer.testAll(e, this.hasContainers))
-                list.add(e);
+    /**
+     * Filter the elements by the {@link HasContainer}s. The elements are filtered lazily, so a traversal that stops
+     * early (e.g. with {@code limit()} or {@code hasNext()}) only reads the elements that it needs, unless they have
+     * to be sorted or the traversal modifies the graph. In the latter case the filtered elements are collected first
+     * so that the traversal does not see its own modifications (e.g. the vertices added by {@code g.V().addV()}).
+     */
+    private <E extends Element> Iterator<E> iterator(final Iterator<E> iterator, final boolean sort) {
+        final Iterator<E> filtered = this.hasContainers.isEmpty() ?
+                iterator :
+                IteratorUtils.filter(iterator, element -> HasContainer.testAll(element, this.hasContainers));
+        if (sort && null != this.orderKey) {
+            final List<E> list = IteratorUtils.list(filtered);
+            Collections.sort(list, new ElementValueComparator<>(this.orderKey, this.order));
+            return list.iterator();
         }
-        return list.iterator();
+        return TraversalHelper.hasStepOfAssignableClassRecursively(Mutating.class, TraversalHelper.getRootTraversal(this.getTraversal())) ?
+                IteratorUtils.list(filtered).iterator() :
+                filtered;
     }
 
     @Override
@@ -118,4 +232,20 @@ public final class TinkerGraphStep<S extends Element> extends GraphStep<S> imple
     public void addHasContainer(final HasContainer hasContainer) {
         this.hasContainers.add(hasContainer);
     }
+
+    /**
+     * Emit the elements ordered by their value for the property key. If the key has a
+     * {@link TinkerGraph.IndexType#RANGE} index and every element has the key, the elements are lazily read in order
+     * from the index, else the filtered elements are sorted.
+     */
+    public void setOrder(final String orderKey, final Order order) {
+        if (Order.incr != order && Order.decr != order)
+            throw new IllegalArgumentException("Elements can only be ordered by " + Order.incr + " or " + Order.decr + ": " + order);
+        this.orderKey = orderKey;
+        this.order = order;
+    }
+
+    public Optional<String> getOrderKey() {
+        return Optional.ofNullable(this.orderKey);
+    }
 }
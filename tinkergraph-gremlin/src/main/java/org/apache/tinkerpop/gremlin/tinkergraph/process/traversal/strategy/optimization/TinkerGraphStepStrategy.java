@@ -18,15 +18,22 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ElementValueComparator;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect.TinkerGraphStep;
 
+import java.util.Comparator;
+import java.util.List;
+
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
@@ -55,9 +62,27 @@ public final class TinkerGraphStepStrategy extends AbstractTraversalStrategy<Tra
                 traversal.removeStep(currentStep);
                 currentStep = currentStep.getNextStep();
             }
+
+            // a top-k of elements ordered by a property key can be read in order from a range index
+            if (currentStep instanceof OrderGlobalStep && currentStep.getNextStep() instanceof RangeGlobalStep) {
+                final ElementValueComparator<?> comparator = TinkerGraphStepStrategy.getElementValueComparator((OrderGlobalStep<?>) currentStep);
+                if (null != comparator) {
+                    tinkerGraphStep.setOrder(comparator.getPropertyKey(), (Order) comparator.getValueComparator());
+                    currentStep.getLabels().forEach(tinkerGraphStep::addLabel);
+                    traversal.removeStep(currentStep);
+                }
+            }
         }
     }
 
+    private static ElementValueComparator<?> getElementValueComparator(final OrderGlobalStep<?> orderGlobalStep) {
+        final List<? extends Comparator<?>> comparators = orderGlobalStep.getComparators();
+        if (comparators.size() != 1 || !(comparators.get(0) instanceof ElementValueComparator))
+            return null;
+        final ElementValueComparator<?> comparator = (ElementValueComparator<?>) comparators.get(0);
+        return Order.incr == comparator.getValueComparator() || Order.decr == comparator.getValueComparator() ? comparator : null;
+    }
+
     public static TinkerGraphStepStrategy instance() {
         return INSTANCE;
     }
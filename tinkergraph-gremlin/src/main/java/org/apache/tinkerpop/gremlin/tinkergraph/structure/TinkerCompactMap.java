@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map from keys (property keys or edge labels) to values that is backed by a single array of alternating keys and
+ * values. Lookups are linear scans, which for the handful of keys that an element typically has is about as fast as
+ * hashing while needing a fraction of the memory of a {@link java.util.HashMap}. Keys are expected to be interned by
+ * {@link TinkerGraph} so they are compared by reference before {@link String#equals(Object)}.
+ * <p/>
+ * Like the {@link java.util.HashMap} it replaces, the map is not thread-safe.
+ */
+final class TinkerCompactMap<V> extends AbstractMap<String, V> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] table = EMPTY;
+    private int size = 0;
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final int index = this.indexOf(key);
+        return index < 0 ? null : (V) this.table[(index << 1) + 1];
+    }
+
+    @Override
+    public V put(final String key, final V value) {
+        final int index = this.indexOf(key);
+        if (index >= 0) {
+            final V old = (V) this.table[(index << 1) + 1];
+            this.table[(index << 1) + 1] = value;
+            return old;
+        }
+        if (this.size << 1 == this.table.length)
+            this.table = Arrays.copyOf(this.table, Math.max(2, this.table.length + (this.table.length >> 1) + 1) & ~1);
+        this.table[this.size << 1] = key;
+        this.table[(this.size << 1) + 1] = value;
+        this.size++;
+        return null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final int index = this.indexOf(key);
+        if (index < 0)
+            return null;
+        final V old = (V) this.table[(index << 1) + 1];
+        this.removeAt(index);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        this.table = EMPTY;
+        this.size = 0;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<Entry<String, V>>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return TinkerCompactMap.this.size;
+            }
+        };
+    }
+
+    private int indexOf(final Object key) {
+        for (int i = 0; i < this.size; i++) {
+            final Object k = this.table[i << 1];
+            if (k == key || k.equals(key))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Remove the entry at the index by moving the last entry into its place.
+     */
+    private void removeAt(final int index) {
+        final int last = this.size - 1;
+        this.table[index << 1] = this.table[last << 1];
+        this.table[(index << 1) + 1] = this.table[(last << 1) + 1];
+        this.table[last << 1] = null;
+        this.table[(last << 1) + 1] = null;
+        this.size = last;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, V>> {
+
+        private int next = 0;
+        private int current = -1;
+
+        @Override
+        public boolean hasNext() {
+            return this.next < TinkerCompactMap.this.size;
+        }
+
+        @Override
+        public Entry<String, V> next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            this.current = this.next++;
+            final int index = this.current;
+            return new SimpleEntry<String, V>((String) table[index << 1], (V) table[(index << 1) + 1]) {
+                @Override
+                public V setValue(final V value) {
+                    table[(index << 1) + 1] = value;
+                    return super.setValue(value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (this.current < 0)
+                throw new IllegalStateException();
+            // the last entry is moved into the removed slot so it is the next entry to return
+            TinkerCompactMap.this.removeAt(this.current);
+            this.next = this.current;
+            this.current = -1;
+        }
+    }
+}
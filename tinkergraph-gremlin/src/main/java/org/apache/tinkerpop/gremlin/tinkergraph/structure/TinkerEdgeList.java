@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The edges of a vertex for a label, stored in a growable array rather than a {@link java.util.HashSet}, which needs
+ * a hash table and an entry object per edge. Adding an edge is amortized constant time, while removing an edge and
+ * {@link #contains(Object)} are linear in the number of edges for the label. As {@link TinkerHelper} adds each edge
+ * to the out and in edges of its vertices exactly once, {@link #add(Edge)} does not check for duplicates.
+ * <p/>
+ * Like the {@link java.util.HashSet} it replaces, the set is not thread-safe.
+ */
+final class TinkerEdgeList extends AbstractSet<Edge> {
+
+    private static final Edge[] EMPTY = new Edge[0];
+
+    private Edge[] edges = EMPTY;
+    private int size = 0;
+
+    @Override
+    public boolean add(final Edge edge) {
+        if (this.size == this.edges.length)
+            this.edges = Arrays.copyOf(this.edges, this.size + (this.size >> 1) + 1);
+        this.edges[this.size++] = edge;
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object edge) {
+        // recently added edges are the most likely to be removed so search from the end
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.edges[i] == edge || this.edges[i].equals(edge)) {
+                this.removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(final Object edge) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.edges[i] == edge || this.edges[i].equals(edge))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void clear() {
+        this.edges = EMPTY;
+        this.size = 0;
+    }
+
+    @Override
+    public Iterator<Edge> iterator() {
+        return new Iterator<Edge>() {
+            private int next = 0;
+            private int current = -1;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < size;
+            }
+
+            @Override
+            public Edge next() {
+                if (!this.hasNext())
+                    throw new NoSuchElementException();
+                this.current = this.next++;
+                return edges[this.current];
+            }
+
+            @Override
+            public void remove() {
+                if (this.current < 0)
+                    throw new IllegalStateException();
+                // the last edge is moved into the removed slot so it is the next edge to return
+                removeAt(this.current);
+                this.next = this.current;
+                this.current = -1;
+            }
+        };
+    }
+
+    /**
+     * Remove the edge at the index by moving the last edge into its place.
+     */
+    private void removeAt(final int index) {
+        this.edges[index] = this.edges[--this.size];
+        this.edges[this.size] = null;
+    }
+}
@@ -40,6 +40,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -77,22 +78,25 @@ public final class TinkerGraph implements Graph {
     public static final String CONFIG_EDGE_ID = "gremlin.tinkergraph.edgeIdManager";
     public static final String CONFIG_VERTEX_PROPERTY_ID = "gremlin.tinkergraph.vertexPropertyIdManager";
     public static final String CONFIG_DEFAULT_VERTEX_PROPERTY_CARDINALITY = "gremlin.tinkergraph.defaultVertexPropertyCardinality";
+    public static final String CONFIG_ADJACENCY = "gremlin.tinkergraph.adjacency";
 
     private final TinkerGraphFeatures features = new TinkerGraphFeatures();
 
     protected AtomicLong currentId = new AtomicLong(-1l);
-    protected Map<Object, Vertex> vertices = new ConcurrentHashMap<>();
-    protected Map<Object, Edge> edges = new ConcurrentHashMap<>();
+    protected final Map<Object, Vertex> vertices;
+    protected final Map<Object, Edge> edges;
 
     protected TinkerGraphVariables variables = null;
     protected TinkerGraphComputerView graphComputerView = null;
-    protected TinkerIndex<TinkerVertex> vertexIndex = null;
-    protected TinkerIndex<TinkerEdge> edgeIndex = null;
+    protected volatile TinkerIndex<TinkerVertex> vertexIndex = null;
+    protected volatile TinkerIndex<TinkerEdge> edgeIndex = null;
 
     protected final IdManager<?> vertexIdManager;
     protected final IdManager<?> edgeIdManager;
     protected final IdManager<?> vertexPropertyIdManager;
     protected final VertexProperty.Cardinality defaultVertexPropertyCardinality;
+    protected final AdjacencyType adjacencyType;
+    private final Map<String, String> internedStrings = new ConcurrentHashMap<>();
 
     private final Configuration configuration;
 
@@ -104,8 +108,11 @@ public final class TinkerGraph implements Graph {
         this.vertexIdManager = selectIdManager(configuration, CONFIG_VERTEX_ID, Vertex.class);
         this.edgeIdManager = selectIdManager(configuration, CONFIG_EDGE_ID, Edge.class);
         this.vertexPropertyIdManager = selectIdManager(configuration, CONFIG_VERTEX_PROPERTY_ID, VertexProperty.class);
+        this.vertices = DefaultIdManager.LONG == this.vertexIdManager ? new TinkerLongElementMap<>() : new ConcurrentHashMap<>();
+        this.edges = DefaultIdManager.LONG == this.edgeIdManager ? new TinkerLongElementMap<>() : new ConcurrentHashMap<>();
         this.defaultVertexPropertyCardinality = VertexProperty.Cardinality.valueOf(
                 configuration.getString(CONFIG_DEFAULT_VERTEX_PROPERTY_CARDINALITY, VertexProperty.Cardinality.single.name()));
+        this.adjacencyType = AdjacencyType.valueOf(configuration.getString(CONFIG_ADJACENCY, AdjacencyType.HASH.name()));
     }
 
     /**
@@ -143,7 +150,7 @@ public final class TinkerGraph implements Graph {
     public Vertex addVertex(final Object... keyValues) {
         ElementHelper.legalPropertyKeyValueArray(keyValues);
         Object idValue = vertexIdManager.convert(ElementHelper.getIdValue(keyValues).orElse(null));
-        final String label = ElementHelper.getLabelValue(keyValues).orElse(Vertex.DEFAULT_LABEL);
+        final String label = this.intern(ElementHelper.getLabelValue(keyValues).orElse(Vertex.DEFAULT_LABEL));
 
         if (null != idValue) {
             if (this.vertices.containsKey(idValue))
@@ -247,6 +254,11 @@ public final class TinkerGraph implements Graph {
                 final Class<?> firstClass = ids[0].getClass();
                 if (!Stream.of(ids).map(Object::getClass).allMatch(firstClass::equals))
                     throw Graph.Exceptions.idArgsMustBeEitherIdOrElement();
+                if (elements instanceof TinkerLongElementMap && ids[0] instanceof Number) {
+                    // look the identifiers up without boxing them as Long
+                    final TinkerLongElementMap<T> longElements = (TinkerLongElementMap<T>) elements;
+                    return Stream.of(ids).map(id -> longElements.get(((Number) id).longValue())).filter(Objects::nonNull).iterator();
+                }
                 return Stream.of(ids).map(id -> idManager.convert(id)).map(elements::get).filter(Objects::nonNull).iterator();
             }
         }
@@ -379,7 +391,7 @@ public final class TinkerGraph implements Graph {
     ///////////// GRAPH SPECIFIC INDEXING METHODS ///////////////
 
     /**
-     * Create an index for said element class ({@link Vertex} or {@link Edge}) and said property key.
+     * Create a {@link IndexType#HASH} index for said element class ({@link Vertex} or {@link Edge}) and said property key.
      * Whenever an element has the specified key mutated, the index is updated.
      * When the index is created, all existing elements are indexed to ensure that they are captured by the index.
      *
@@ -388,12 +400,25 @@ public final class TinkerGraph implements Graph {
      * @param <E>          The type of the element class
      */
     public <E extends Element> void createIndex(final String key, final Class<E> elementClass) {
+        this.createIndex(key, elementClass, IndexType.HASH);
+    }
+
+    /**
+     * Create an index of the specified {@link IndexType} for said element class ({@link Vertex} or {@link Edge}) and
+     * said property key. If the key is already indexed with a different type, the existing index is replaced.
+     * Whenever an element has the specified key mutated, the index is updated.
+     * When the index is created, all existing elements are indexed to ensure that they are captured by the index.
+     *
+     * @param key          the property key to index
+     * @param elementClass the element class to index
+     * @param indexType    the type of index to create
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createIndex(final String key, final Class<E> elementClass, final IndexType indexType) {
         if (Vertex.class.isAssignableFrom(elementClass)) {
-            if (null == this.vertexIndex) this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
-            this.vertexIndex.createKeyIndex(key);
+            this.vertexIndex().createKeyIndex(key, indexType);
         } else if (Edge.class.isAssignableFrom(elementClass)) {
-            if (null == this.edgeIndex) this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
-            this.edgeIndex.createKeyIndex(key);
+            this.edgeIndex().createKeyIndex(key, indexType);
         } else {
             throw new IllegalArgumentException("Class is not indexable: " + elementClass);
         }
@@ -433,6 +458,137 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    /**
+     * Return the {@link IndexType} of the index on said key for said element class ({@link Vertex} or {@link Edge}).
+     *
+     * @param key          the property key of the index
+     * @param elementClass the element class of the index
+     * @param <E>          The type of the element class
+     * @return the type of the index or empty if the key is not indexed
+     */
+    public <E extends Element> Optional<IndexType> getIndexType(final String key, final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            return null == this.vertexIndex ? Optional.empty() : Optional.ofNullable(this.vertexIndex.getIndexType(key));
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            return null == this.edgeIndex ? Optional.empty() : Optional.ofNullable(this.edgeIndex.getIndexType(key));
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Create a composite index for said element class ({@link Vertex} or {@link Edge}) over said property keys. A
+     * composite index answers queries that test all of its keys for equality (e.g. {@code has("name","marko").has("age",29)})
+     * with a single lookup. If a label is provided, only elements with that label are indexed and the index is only
+     * used by queries that also test for that label (e.g. {@code hasLabel("person")}).
+     * Whenever an element has one of the specified keys mutated, the index is updated.
+     * When the index is created, all existing elements are indexed to ensure that they are captured by the index.
+     *
+     * @param elementClass the element class to index
+     * @param label        the label of the elements to index or {@code null} to index elements of all labels
+     * @param keys         the property keys to index
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createCompositeIndex(final Class<E> elementClass, final String label, final String... keys) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            this.vertexIndex().createCompositeIndex(label, keys);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            this.edgeIndex().createCompositeIndex(label, keys);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Drop the composite index for the specified element class ({@link Vertex} or {@link Edge}), label and keys.
+     *
+     * @param elementClass the element class of the index to drop
+     * @param label        the label of the index or {@code null} if the index covers all labels
+     * @param keys         the property keys of the index
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void dropCompositeIndex(final Class<E> elementClass, final String label, final String... keys) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            if (null != this.vertexIndex) this.vertexIndex.dropCompositeIndex(label, keys);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            if (null != this.edgeIndex) this.edgeIndex.dropCompositeIndex(label, keys);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Return the names of the composite indices for said element class ({@link Vertex} or {@link Edge}). The name of
+     * an index is its label (if any) followed by its sorted keys, e.g. {@code person[age, name]}.
+     *
+     * @param elementClass the element class to get the composite indices for
+     * @param <E>          The type of the element class
+     * @return the set of composite index names
+     */
+    public <E extends Element> Set<String> getCompositeIndices(final Class<E> elementClass) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            return null == this.vertexIndex ? Collections.emptySet() : this.vertexIndex.getCompositeIndices();
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            return null == this.edgeIndex ? Collections.emptySet() : this.edgeIndex.getCompositeIndices();
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Get the canonical instance of a label or property key when the graph uses {@link AdjacencyType#COMPACT}
+     * adjacency, so that every element shares one copy of each string and keys can be compared by reference.
+     */
+    protected String intern(final String string) {
+        if (AdjacencyType.COMPACT != this.adjacencyType)
+            return string;
+        final String interned = this.internedStrings.putIfAbsent(string, string);
+        return null == interned ? string : interned;
+    }
+
+    private synchronized TinkerIndex<TinkerVertex> vertexIndex() {
+        if (null == this.vertexIndex) this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
+        return this.vertexIndex;
+    }
+
+    private synchronized TinkerIndex<TinkerEdge> edgeIndex() {
+        if (null == this.edgeIndex) this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
+        return this.edgeIndex;
+    }
+
+    /**
+     * The types of index that TinkerGraph can maintain for a property key.
+     */
+    public enum IndexType {
+        /**
+         * A hash index that is used for equality lookups.
+         */
+        HASH,
+
+        /**
+         * A sorted index that is used for equality lookups, range lookups (e.g. {@code gt}, {@code lte},
+         * {@code between}, {@code inside}) and for ordering elements by the key (e.g. {@code order().by(key,incr).limit(n)}).
+         */
+        RANGE
+    }
+
+    /**
+     * The layouts that TinkerGraph can use to store the edges and properties of its elements.
+     */
+    public enum AdjacencyType {
+        /**
+         * Edges are stored in a hash set per label per vertex and properties in a hash map per element.
+         */
+        HASH,
+
+        /**
+         * Edges are stored in an array per label per vertex and properties in an array-backed map per element, with
+         * labels and property keys shared by all elements. This layout needs considerably less memory per edge at
+         * the cost of removing an edge in time linear in the number of edges that the vertex has for the label.
+         */
+        COMPACT
+    }
+
     /**
      * Construct an {@link TinkerGraph.IdManager} from the TinkerGraph {@code Configuration}.
      */
@@ -475,6 +631,10 @@ public final class TinkerGraph implements Graph {
         boolean allow(final Object id);
     }
 
+    private static boolean containsId(final Map<Object, ? extends Element> elements, final long id) {
+        return elements instanceof TinkerLongElementMap ? ((TinkerLongElementMap) elements).containsKey(id) : elements.containsKey(id);
+    }
+
     /**
      * A default set of {@link IdManager} implementations for common identifier types.
      */
@@ -486,7 +646,11 @@ public final class TinkerGraph implements Graph {
         LONG {
             @Override
             public Long getNextId(final TinkerGraph graph) {
-                return Stream.generate(() -> (graph.currentId.incrementAndGet())).filter(id -> !graph.vertices.containsKey(id) && !graph.edges.containsKey(id)).findAny().get();
+                long id;
+                do {
+                    id = graph.currentId.incrementAndGet();
+                } while (containsId(graph.vertices, id) || containsId(graph.edges, id));
+                return id;
             }
 
             @Override
@@ -18,24 +18,23 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Stream;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -59,35 +58,91 @@ public final class TinkerHelper {
             idValue = graph.edgeIdManager.getNextId(graph);
         }
 
-        edge = new TinkerEdge(idValue, outVertex, label, inVertex);
+        edge = new TinkerEdge(idValue, outVertex, graph.intern(label), inVertex);
         ElementHelper.attachProperties(edge, keyValues);
         graph.edges.put(edge.id(), edge);
-        TinkerHelper.addOutEdge(outVertex, label, edge);
-        TinkerHelper.addInEdge(inVertex, label, edge);
+        TinkerHelper.addOutEdge(outVertex, edge.label(), edge);
+        TinkerHelper.addInEdge(inVertex, edge.label(), edge);
         return edge;
 
     }
 
     protected static void addOutEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        if (null == vertex.outEdges) vertex.outEdges = new HashMap<>();
+        if (null == vertex.outEdges) vertex.outEdges = TinkerHelper.createMap((TinkerGraph) vertex.graph());
+        else if (vertex.outEdgesIterated) {
+            vertex.outEdges = TinkerHelper.copyEdges((TinkerGraph) vertex.graph(), vertex.outEdges);
+            vertex.outEdgesIterated = false;
+        }
         Set<Edge> edges = vertex.outEdges.get(label);
         if (null == edges) {
-            edges = new HashSet<>();
+            edges = TinkerHelper.createEdgeSet((TinkerGraph) vertex.graph());
             vertex.outEdges.put(label, edges);
         }
         edges.add(edge);
     }
 
     protected static void addInEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        if (null == vertex.inEdges) vertex.inEdges = new HashMap<>();
+        if (null == vertex.inEdges) vertex.inEdges = TinkerHelper.createMap((TinkerGraph) vertex.graph());
+        else if (vertex.inEdgesIterated) {
+            vertex.inEdges = TinkerHelper.copyEdges((TinkerGraph) vertex.graph(), vertex.inEdges);
+            vertex.inEdgesIterated = false;
+        }
         Set<Edge> edges = vertex.inEdges.get(label);
         if (null == edges) {
-            edges = new HashSet<>();
+            edges = TinkerHelper.createEdgeSet((TinkerGraph) vertex.graph());
             vertex.inEdges.put(label, edges);
         }
         edges.add(edge);
     }
 
+    /**
+     * Remove the edge from the out edges of its out vertex and the in edges of its in vertex. Edges that are being
+     * read by a lazy {@link AdjacencyIterator} are copied before they are modified.
+     */
+    protected static void removeEdge(final TinkerEdge edge) {
+        final TinkerVertex outVertex = (TinkerVertex) edge.outVertex;
+        final TinkerVertex inVertex = (TinkerVertex) edge.inVertex;
+        if (null != outVertex && null != outVertex.outEdges) {
+            if (outVertex.outEdgesIterated) {
+                outVertex.outEdges = TinkerHelper.copyEdges((TinkerGraph) outVertex.graph(), outVertex.outEdges);
+                outVertex.outEdgesIterated = false;
+            }
+            final Set<Edge> edges = outVertex.outEdges.get(edge.label());
+            if (null != edges)
+                edges.remove(edge);
+        }
+        if (null != inVertex && null != inVertex.inEdges) {
+            if (inVertex.inEdgesIterated) {
+                inVertex.inEdges = TinkerHelper.copyEdges((TinkerGraph) inVertex.graph(), inVertex.inEdges);
+                inVertex.inEdgesIterated = false;
+            }
+            final Set<Edge> edges = inVertex.inEdges.get(edge.label());
+            if (null != edges)
+                edges.remove(edge);
+        }
+    }
+
+    private static Map<String, Set<Edge>> copyEdges(final TinkerGraph graph, final Map<String, Set<Edge>> edges) {
+        final Map<String, Set<Edge>> copy = TinkerHelper.createMap(graph);
+        for (final Map.Entry<String, Set<Edge>> entry : edges.entrySet()) {
+            final Set<Edge> set = TinkerHelper.createEdgeSet(graph);
+            set.addAll(entry.getValue());
+            copy.put(entry.getKey(), set);
+        }
+        return copy;
+    }
+
+    /**
+     * Create a map for the edges or properties of an element in the {@link TinkerGraph.AdjacencyType} of the graph.
+     */
+    protected static <V> Map<String, V> createMap(final TinkerGraph graph) {
+        return TinkerGraph.AdjacencyType.COMPACT == graph.adjacencyType ? new TinkerCompactMap<>() : new HashMap<>();
+    }
+
+    private static Set<Edge> createEdgeSet(final TinkerGraph graph) {
+        return TinkerGraph.AdjacencyType.COMPACT == graph.adjacencyType ? new TinkerEdgeList() : new HashSet<>();
+    }
+
     public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final Object value) {
         return null == graph.vertexIndex ? Collections.emptyList() : graph.vertexIndex.get(key, value);
     }
@@ -96,6 +151,66 @@ public final class TinkerHelper {
         return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, value);
     }
 
+    public static Iterator<TinkerVertex> iterateVertexIndex(final TinkerGraph graph, final String key, final Object value) {
+        return null == graph.vertexIndex ? Collections.emptyIterator() : graph.vertexIndex.iterator(key, value);
+    }
+
+    public static Iterator<TinkerEdge> iterateEdgeIndex(final TinkerGraph graph, final String key, final Object value) {
+        return null == graph.edgeIndex ? Collections.emptyIterator() : graph.edgeIndex.iterator(key, value);
+    }
+
+    public static Iterator<TinkerVertex> queryVertexIndexRange(final TinkerGraph graph, final String key, final Object lowValue, final Object highValue) {
+        return null == graph.vertexIndex ? Collections.emptyIterator() : graph.vertexIndex.getRange(key, lowValue, highValue);
+    }
+
+    public static Iterator<TinkerEdge> queryEdgeIndexRange(final TinkerGraph graph, final String key, final Object lowValue, final Object highValue) {
+        return null == graph.edgeIndex ? Collections.emptyIterator() : graph.edgeIndex.getRange(key, lowValue, highValue);
+    }
+
+    public static long countVertexIndex(final TinkerGraph graph, final String key, final Object value) {
+        return null == graph.vertexIndex ? 0 : graph.vertexIndex.count(key, value);
+    }
+
+    public static long countEdgeIndex(final TinkerGraph graph, final String key, final Object value) {
+        return null == graph.edgeIndex ? 0 : graph.edgeIndex.count(key, value);
+    }
+
+    /**
+     * @return the vertices of the most selective composite index for the equality conditions or {@code null} if there is no such index
+     */
+    public static Set<TinkerVertex> queryVertexCompositeIndex(final TinkerGraph graph, final Map<String, Object> equalities) {
+        return null == graph.vertexIndex ? null : graph.vertexIndex.getComposite(equalities);
+    }
+
+    /**
+     * @return the edges of the most selective composite index for the equality conditions or {@code null} if there is no such index
+     */
+    public static Set<TinkerEdge> queryEdgeCompositeIndex(final TinkerGraph graph, final Map<String, Object> equalities) {
+        return null == graph.edgeIndex ? null : graph.edgeIndex.getComposite(equalities);
+    }
+
+    public static Iterator<TinkerVertex> queryVertexIndexOrdered(final TinkerGraph graph, final String key, final boolean descending) {
+        return null == graph.vertexIndex ? Collections.emptyIterator() : graph.vertexIndex.getOrdered(key, descending);
+    }
+
+    public static Iterator<TinkerEdge> queryEdgeIndexOrdered(final TinkerGraph graph, final String key, final boolean descending) {
+        return null == graph.edgeIndex ? Collections.emptyIterator() : graph.edgeIndex.getOrdered(key, descending);
+    }
+
+    /**
+     * Determines if every vertex of the graph has a value for the indexed key.
+     */
+    public static boolean isVertexIndexComplete(final TinkerGraph graph, final String key) {
+        return null != graph.vertexIndex && graph.vertexIndex.countKey(key) == graph.vertices.size();
+    }
+
+    /**
+     * Determines if every edge of the graph has a value for the indexed key.
+     */
+    public static boolean isEdgeIndexComplete(final TinkerGraph graph, final String key) {
+        return null != graph.edgeIndex && graph.edgeIndex.countKey(key) == graph.edges.size();
+    }
+
     public static boolean inComputerMode(final TinkerGraph graph) {
         return null != graph.graphComputerView;
     }
@@ -153,52 +268,104 @@ public final class TinkerHelper {
     }
 
     public static Iterator<TinkerEdge> getEdges(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
-        final List<Edge> edges = new ArrayList<>();
-        if (direction.equals(Direction.OUT) || direction.equals(Direction.BOTH)) {
-            if (vertex.outEdges != null) {
-                if (edgeLabels.length == 0)
-                    vertex.outEdges.values().forEach(edges::addAll);
-                else if (edgeLabels.length == 1)
-                    edges.addAll(vertex.outEdges.getOrDefault(edgeLabels[0], Collections.emptySet()));
-                else
-                    Stream.of(edgeLabels).map(vertex.outEdges::get).filter(Objects::nonNull).forEach(edges::addAll);
-            }
+        return new AdjacencyIterator<>(vertex, direction, edgeLabels, false);
+    }
+
+    public static Iterator<TinkerVertex> getVertices(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
+        return new AdjacencyIterator<>(vertex, direction, edgeLabels, true);
+    }
+
+    /**
+     * Lazily iterates the edges of a vertex (or the vertices at their other ends) straight from the per-label edge
+     * sets of the vertex, so that a traversal that stops early (e.g. {@code out().limit(1)} on a supernode) does not
+     * touch the remaining edges. When the iterator starts reading the out or in edges of the vertex, it flags them so
+     * that the next modification of those edges copies them first and the iterator keeps reading an unchanged
+     * snapshot (see {@link #addOutEdge}, {@link #addInEdge} and {@link #removeEdge}).
+     */
+    private static final class AdjacencyIterator<E extends Element> implements Iterator<E> {
+
+        private final TinkerVertex vertex;
+        private final Direction direction;
+        private final String[] edgeLabels;
+        private final boolean vertices;
+
+        private int directionStep = 0;
+        private boolean in = false;
+        private Map<String, Set<Edge>> edges = null;
+        private Iterator<Set<Edge>> labelSets = null;
+        private int labelIndex = 0;
+        private Iterator<Edge> current = Collections.emptyIterator();
+
+        private AdjacencyIterator(final TinkerVertex vertex, final Direction direction, final String[] edgeLabels, final boolean vertices) {
+            this.vertex = vertex;
+            this.direction = direction;
+            this.edgeLabels = edgeLabels;
+            this.vertices = vertices;
         }
-        if (direction.equals(Direction.IN) || direction.equals(Direction.BOTH)) {
-            if (vertex.inEdges != null) {
-                if (edgeLabels.length == 0)
-                    vertex.inEdges.values().forEach(edges::addAll);
-                else if (edgeLabels.length == 1)
-                    edges.addAll(vertex.inEdges.getOrDefault(edgeLabels[0], Collections.emptySet()));
-                else
-                    Stream.of(edgeLabels).map(vertex.inEdges::get).filter(Objects::nonNull).forEach(edges::addAll);
+
+        @Override
+        public boolean hasNext() {
+            while (!this.current.hasNext()) {
+                final Set<Edge> set = this.nextSet();
+                if (null == set)
+                    return false;
+                this.current = set.iterator();
             }
+            return true;
         }
-        return (Iterator) edges.iterator();
-    }
 
-    public static Iterator<TinkerVertex> getVertices(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
-        final List<Vertex> vertices = new ArrayList<>();
-        if (direction.equals(Direction.OUT) || direction.equals(Direction.BOTH)) {
-            if (vertex.outEdges != null) {
-                if (edgeLabels.length == 0)
-                    vertex.outEdges.values().forEach(set -> set.forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex)));
-                else if (edgeLabels.length == 1)
-                    vertex.outEdges.getOrDefault(edgeLabels[0], Collections.emptySet()).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
-                else
-                    Stream.of(edgeLabels).map(vertex.outEdges::get).filter(Objects::nonNull).flatMap(Set::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
+        @Override
+        public E next() {
+            if (!this.hasNext())
+                throw FastNoSuchElementException.instance();
+            final TinkerEdge edge = (TinkerEdge) this.current.next();
+            return (E) (this.vertices ? (this.in ? edge.outVertex : edge.inVertex) : edge);
+        }
+
+        private Set<Edge> nextSet() {
+            while (true) {
+                if (null != this.edges) {
+                    if (0 == this.edgeLabels.length) {
+                        if (null == this.labelSets)
+                            this.labelSets = this.edges.values().iterator();
+                        if (this.labelSets.hasNext())
+                            return this.labelSets.next();
+                    } else {
+                        while (this.labelIndex < this.edgeLabels.length) {
+                            final Set<Edge> set = this.edges.get(this.edgeLabels[this.labelIndex++]);
+                            if (null != set)
+                                return set;
+                        }
+                    }
+                }
+                if (!this.nextDirection())
+                    return null;
             }
         }
-        if (direction.equals(Direction.IN) || direction.equals(Direction.BOTH)) {
-            if (vertex.inEdges != null) {
-                if (edgeLabels.length == 0)
-                    vertex.inEdges.values().forEach(set -> set.forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex)));
-                else if (edgeLabels.length == 1)
-                    vertex.inEdges.getOrDefault(edgeLabels[0], Collections.emptySet()).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
-                else
-                    Stream.of(edgeLabels).map(vertex.inEdges::get).filter(Objects::nonNull).flatMap(Set::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
+
+        private boolean nextDirection() {
+            this.labelSets = null;
+            this.labelIndex = 0;
+            this.edges = null;
+            if (0 == this.directionStep) {
+                this.directionStep = 1;
+                if (Direction.IN != this.direction) {
+                    this.in = false;
+                    this.edges = this.vertex.outEdges;
+                    this.vertex.outEdgesIterated = true;
+                    return true;
+                }
+            }
+            if (1 == this.directionStep) {
+                this.directionStep = 2;
+                if (Direction.OUT != this.direction) {
+                    this.in = true;
+                    this.edges = this.vertex.inEdges;
+                    this.vertex.inEdgesIterated = true;
+                    return true;
+                }
             }
+            return false;
         }
-        return (Iterator) vertices.iterator();
     }
 }
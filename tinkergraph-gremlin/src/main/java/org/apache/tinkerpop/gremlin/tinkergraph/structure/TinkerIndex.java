@@ -22,14 +22,25 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -37,8 +48,23 @@ import java.util.concurrent.ConcurrentHashMap;
 final class TinkerIndex<T extends Element> {
 
     protected Map<String, Map<Object, Set<T>>> index = new ConcurrentHashMap<>();
+    /**
+     * The values of {@link TinkerGraph.IndexType#RANGE} keys that cannot be ordered. They are kept out of the sorted
+     * map as the comparator could only tell them apart by hash code, which unequal values may share.
+     */
+    private final Map<String, Map<Object, Set<T>>> unorderedIndex = new ConcurrentHashMap<>();
     protected final Class<T> indexClass;
-    private final Set<String> indexedKeys = new HashSet<>();
+    private final Map<String, TinkerGraph.IndexType> indexedKeys = new ConcurrentHashMap<>();
+    private final Map<String, CompositeIndex<T>> compositeIndices = new ConcurrentHashMap<>();
+    /**
+     * The key/value entries that each element is indexed under so that an element can be removed from the index
+     * without a scan of the values of every indexed key.
+     */
+    private final Map<T, Set<Map.Entry<String, Object>>> elementEntries = new ConcurrentHashMap<>();
+    /**
+     * The number of elements that have a value for each indexed key.
+     */
+    private final Map<String, AtomicLong> keyCounts = new ConcurrentHashMap<>();
     private final TinkerGraph graph;
 
     public TinkerIndex(final TinkerGraph graph, final Class<T> indexClass) {
@@ -47,22 +73,60 @@ final class TinkerIndex<T extends Element> {
     }
 
     protected void put(final String key, final Object value, final T element) {
-        Map<Object, Set<T>> keyMap = this.index.get(key);
-        if (keyMap == null) {
-            keyMap = new ConcurrentHashMap<>();
-            this.index.put(key, keyMap);
-        }
-        Set<T> objects = keyMap.get(value);
-        if (null == objects) {
-            objects = new HashSet<>();
-            keyMap.put(value, objects);
+        final boolean range = TinkerGraph.IndexType.RANGE == this.indexedKeys.get(key);
+        final Map<Object, Set<T>> keyMap = range && !RangeComparator.isOrdered(value) ?
+                this.unorderedIndex.computeIfAbsent(key, k -> new ConcurrentHashMap<>()) :
+                this.index.computeIfAbsent(key, k -> range ?
+                        new ConcurrentSkipListMap<>(RangeComparator.INSTANCE) :
+                        new ConcurrentHashMap<>());
+        // a set that is retired was emptied and is being removed from the key map concurrently so it is looked up again
+        IndexedElements<T> elements;
+        do {
+            elements = (IndexedElements<T>) keyMap.computeIfAbsent(value, v -> new IndexedElements<>());
+        } while (!elements.addElement(element));
+        this.elementEntries.compute(element, (e, entries) -> {
+            final Set<Map.Entry<String, Object>> set = null == entries ? ConcurrentHashMap.newKeySet() : entries;
+            if (!hasKey(set, key))
+                this.keyCounts.computeIfAbsent(key, k -> new AtomicLong(0l)).incrementAndGet();
+            set.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+            return set;
+        });
+    }
+
+    private static boolean hasKey(final Set<Map.Entry<String, Object>> entries, final String key) {
+        for (final Map.Entry<String, Object> entry : entries) {
+            if (entry.getKey().equals(key))
+                return true;
         }
-        objects.add(element);
+        return false;
+    }
+
+    private void decrementKeyCount(final String key) {
+        final AtomicLong count = this.keyCounts.get(key);
+        if (null != count)
+            count.decrementAndGet();
+    }
+
+    /**
+     * The number of elements that have a value for the key or {@code 0} if the key is not indexed.
+     */
+    public long countKey(final String key) {
+        final AtomicLong count = this.keyCounts.get(key);
+        return null == count ? 0 : count.get();
+    }
 
+    /**
+     * Get the map that holds the value of the key, which is the unordered map of a range index for values that
+     * cannot be ordered.
+     */
+    private Map<Object, Set<T>> keyMap(final String key, final Object value) {
+        return TinkerGraph.IndexType.RANGE == this.indexedKeys.get(key) && !RangeComparator.isOrdered(value) ?
+                this.unorderedIndex.get(key) :
+                this.index.get(key);
     }
 
     public List<T> get(final String key, final Object value) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        final Map<Object, Set<T>> keyMap = this.keyMap(key, value);
         if (null == keyMap) {
             return Collections.emptyList();
         } else {
@@ -74,9 +138,84 @@ final class TinkerIndex<T extends Element> {
         }
     }
 
-    public long count(final String key, final Object value) {
+    /**
+     * Lazily iterate the elements with the value for the key. The iterator reads the index directly and reflects
+     * concurrent modifications of the index without failing.
+     */
+    public Iterator<T> iterator(final String key, final Object value) {
+        final Map<Object, Set<T>> keyMap = this.keyMap(key, value);
+        if (null == keyMap)
+            return Collections.emptyIterator();
+        final Set<T> set = keyMap.get(value);
+        return null == set ? Collections.emptyIterator() : set.iterator();
+    }
+
+    /**
+     * Lazily iterate the elements whose value for the key is between the low and high value (inclusive). A
+     * {@code null} bound leaves that end of the range open. Only values of the same type as the bounds are
+     * considered, where all {@link Number} types are considered the same type. As numbers are ranged by their double
+     * value, the returned elements may include values just outside of the bounds and should be filtered by the
+     * actual predicate. Values that cannot be ordered are only found when the low and high value are that same
+     * value. If the key does not have a {@link TinkerGraph.IndexType#RANGE} index, an empty iterator is returned.
+     */
+    public Iterator<T> getRange(final String key, final Object lowValue, final Object highValue) {
+        if ((null != lowValue && !RangeComparator.isOrdered(lowValue)) || (null != highValue && !RangeComparator.isOrdered(highValue)))
+            return null != lowValue && lowValue.equals(highValue) ? this.iterator(key, lowValue) : Collections.emptyIterator();
         final Map<Object, Set<T>> keyMap = this.index.get(key);
-        if (null == keyMap) {
+        if (!(keyMap instanceof NavigableMap) || (null == lowValue && null == highValue))
+            return Collections.emptyIterator();
+        final NavigableMap<Object, Set<T>> rangeMap = (NavigableMap<Object, Set<T>>) keyMap;
+        final Object low = null == lowValue ? Bound.groupStart(highValue) : Bound.low(lowValue);
+        final Object high = null == highValue ? Bound.groupEnd(lowValue) : Bound.high(highValue);
+        if (RangeComparator.INSTANCE.compare(low, high) > 0)
+            return Collections.emptyIterator();
+        return this.distinct(IteratorUtils.flatMap(rangeMap.subMap(low, true, high, true).values().iterator(), Set::iterator));
+    }
+
+    /**
+     * Lazily iterate the elements with a value for the key in the order of their values (an element with multiple
+     * values is returned at its first value). Elements that do not have the key are not returned and elements with
+     * values that cannot be ordered are returned last. If the key does not have a
+     * {@link TinkerGraph.IndexType#RANGE} index, an empty iterator is returned.
+     */
+    public Iterator<T> getOrdered(final String key, final boolean descending) {
+        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        final Map<Object, Set<T>> unorderedMap = this.unorderedIndex.getOrDefault(key, Collections.emptyMap());
+        if (!(keyMap instanceof NavigableMap) && unorderedMap.isEmpty())
+            return Collections.emptyIterator();
+        final Map<Object, Set<T>> rangeMap = !(keyMap instanceof NavigableMap) ? Collections.emptyMap() : descending ?
+                ((NavigableMap<Object, Set<T>>) keyMap).descendingMap() :
+                keyMap;
+        return this.distinct(IteratorUtils.concat(
+                IteratorUtils.flatMap(rangeMap.values().iterator(), Set::iterator),
+                IteratorUtils.flatMap(unorderedMap.values().iterator(), Set::iterator)));
+    }
+
+    /**
+     * A vertex with multiple values for a key is in the index more than once, so the vertices read from more than
+     * one value are deduplicated. An edge has a single value for a key.
+     */
+    private Iterator<T> distinct(final Iterator<T> iterator) {
+        if (!Vertex.class.isAssignableFrom(this.indexClass))
+            return iterator;
+        final Set<T> seen = new HashSet<>();
+        return IteratorUtils.filter(iterator, seen::add);
+    }
+
+    /**
+     * Count the elements with the value for the key. In a {@link TinkerGraph.IndexType#RANGE} index, numbers of
+     * different types that are equal (e.g. {@code 1} and {@code 1l}) are counted together, as they are found by
+     * {@link #getRange(String, Object, Object)}. A vertex with several such values is counted for each of them.
+     */
+    public long count(final String key, final Object value) {
+        final Map<Object, Set<T>> keyMap = this.keyMap(key, value);
+        if (keyMap instanceof NavigableMap && value instanceof Number) {
+            long count = 0;
+            for (final Set<T> set : ((NavigableMap<Object, Set<T>>) keyMap).subMap(Bound.low(value), true, Bound.high(value), true).values()) {
+                count = count + set.size();
+            }
+            return count;
+        } else if (null == keyMap) {
             return 0;
         } else {
             Set<T> set = keyMap.get(value);
@@ -88,50 +227,81 @@ final class TinkerIndex<T extends Element> {
     }
 
     public void remove(final String key, final Object value, final T element) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        final Map<Object, Set<T>> keyMap = this.keyMap(key, value);
         if (null != keyMap) {
-            Set<T> objects = keyMap.get(value);
-            if (null != objects) {
-                objects.remove(element);
-                if (objects.size() == 0) {
-                    keyMap.remove(value);
-                }
-            }
+            this.removeValue(keyMap, value, element);
+            final Map.Entry<String, Object> entry = new AbstractMap.SimpleImmutableEntry<>(key, value);
+            this.elementEntries.computeIfPresent(element, (e, entries) -> {
+                if (entries.remove(entry) && !hasKey(entries, key))
+                    this.decrementKeyCount(key);
+                return entries.isEmpty() ? null : entries;
+            });
         }
+        this.updateCompositeIndices(key, element);
+    }
+
+    private void removeValue(final Map<Object, Set<T>> keyMap, final Object value, final T element) {
+        final IndexedElements<T> elements = (IndexedElements<T>) keyMap.get(value);
+        if (null != elements && elements.removeElement(element))
+            keyMap.remove(value, elements);
     }
 
     public void removeElement(final T element) {
         if (this.indexClass.isAssignableFrom(element.getClass())) {
-            for (Map<Object, Set<T>> map : index.values()) {
-                for (Set<T> set : map.values()) {
-                    set.remove(element);
+            final Set<Map.Entry<String, Object>> entries = this.elementEntries.remove(element);
+            if (null != entries) {
+                final Set<String> keys = new HashSet<>();
+                for (final Map.Entry<String, Object> entry : entries) {
+                    final Map<Object, Set<T>> keyMap = this.keyMap(entry.getKey(), entry.getValue());
+                    if (null != keyMap)
+                        this.removeValue(keyMap, entry.getValue(), element);
+                    keys.add(entry.getKey());
                 }
+                keys.forEach(this::decrementKeyCount);
+            }
+            for (final CompositeIndex<T> compositeIndex : this.compositeIndices.values()) {
+                compositeIndex.remove(element);
             }
         }
     }
 
     public void autoUpdate(final String key, final Object newValue, final Object oldValue, final T element) {
-        if (this.indexedKeys.contains(key)) {
+        if (this.indexedKeys.containsKey(key)) {
             if (oldValue != null)
                 this.remove(key, oldValue, element);
             this.put(key, newValue, element);
         }
+        this.updateCompositeIndices(key, element);
     }
 
     public void autoRemove(final String key, final Object oldValue, final T element) {
-        if (this.indexedKeys.contains(key))
+        if (this.indexedKeys.containsKey(key))
             this.remove(key, oldValue, element);
+        else
+            this.updateCompositeIndices(key, element);
+    }
+
+    private void updateCompositeIndices(final String key, final T element) {
+        if (this.compositeIndices.isEmpty())
+            return;
+        for (final CompositeIndex<T> compositeIndex : this.compositeIndices.values()) {
+            if (compositeIndex.keys.contains(key))
+                compositeIndex.update(element);
+        }
     }
 
-    public void createKeyIndex(final String key) {
+    public synchronized void createKeyIndex(final String key, final TinkerGraph.IndexType indexType) {
         if (null == key)
             throw Graph.Exceptions.argumentCanNotBeNull("key");
         if (key.isEmpty())
             throw new IllegalArgumentException("The key for the index cannot be an empty string");
 
-        if (this.indexedKeys.contains(key))
+        final TinkerGraph.IndexType currentIndexType = this.indexedKeys.get(key);
+        if (indexType == currentIndexType)
             return;
-        this.indexedKeys.add(key);
+        else if (null != currentIndexType)
+            this.dropKeyIndex(key);
+        this.indexedKeys.put(key, indexType);
 
         (Vertex.class.isAssignableFrom(this.indexClass) ?
                 this.graph.vertices.values().<T>parallelStream() :
@@ -141,14 +311,313 @@ final class TinkerIndex<T extends Element> {
                 .forEach(a -> this.put(key, ((Property) a[0]).value(), (T) a[1]));
     }
 
-    public void dropKeyIndex(final String key) {
+    public synchronized void dropKeyIndex(final String key) {
+        this.indexedKeys.remove(key);
         if (this.index.containsKey(key))
             this.index.remove(key).clear();
-
-        this.indexedKeys.remove(key);
+        if (this.unorderedIndex.containsKey(key))
+            this.unorderedIndex.remove(key).clear();
+        this.keyCounts.remove(key);
+        this.elementEntries.replaceAll((element, entries) -> {
+            entries.removeIf(entry -> entry.getKey().equals(key));
+            return entries;
+        });
+        this.elementEntries.values().removeIf(Set::isEmpty);
     }
 
     public Set<String> getIndexedKeys() {
-        return this.indexedKeys;
+        return this.indexedKeys.keySet();
+    }
+
+    public TinkerGraph.IndexType getIndexType(final String key) {
+        return this.indexedKeys.get(key);
+    }
+
+    public void createCompositeIndex(final String label, final String... keys) {
+        if (null != label && label.isEmpty())
+            throw new IllegalArgumentException("The label for the index cannot be an empty string");
+        if (0 == keys.length)
+            throw new IllegalArgumentException("The index must have at least one key");
+        for (final String key : keys) {
+            if (null == key)
+                throw Graph.Exceptions.argumentCanNotBeNull("key");
+            if (key.isEmpty())
+                throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        }
+
+        final CompositeIndex<T> compositeIndex = new CompositeIndex<>(label, keys);
+        if (null != this.compositeIndices.putIfAbsent(compositeIndex.name, compositeIndex))
+            return;
+        (Vertex.class.isAssignableFrom(this.indexClass) ?
+                this.graph.vertices.values().<T>parallelStream() :
+                this.graph.edges.values().<T>parallelStream())
+                .forEach(e -> compositeIndex.update((T) e));
+    }
+
+    public void dropCompositeIndex(final String label, final String... keys) {
+        this.compositeIndices.remove(CompositeIndex.name(label, new TreeSet<>(Arrays.asList(keys))));
+    }
+
+    public Set<String> getCompositeIndices() {
+        return Collections.unmodifiableSet(this.compositeIndices.keySet());
+    }
+
+    /**
+     * Get the elements of the composite index that matches the most equality conditions (each a key and its value,
+     * with the label under {@code ~label}) and, of those, has the fewest elements for the values. An index matches if
+     * the conditions provide all of its keys and, if the index is scoped to a label, that label.
+     *
+     * @return the elements with the values or {@code null} if no composite index matches the conditions
+     */
+    public Set<T> getComposite(final Map<String, Object> equalities) {
+        Set<T> best = null;
+        int bestKeys = 0;
+        for (final CompositeIndex<T> compositeIndex : this.compositeIndices.values()) {
+            if (!compositeIndex.matches(equalities) || compositeIndex.keys.size() < bestKeys)
+                continue;
+            final Set<T> elements = compositeIndex.get(equalities);
+            if (null == best || compositeIndex.keys.size() > bestKeys || elements.size() < best.size()) {
+                best = elements;
+                bestKeys = compositeIndex.keys.size();
+            }
+        }
+        return best;
+    }
+
+    ////////////////
+
+    /**
+     * The elements that are indexed under a value. The set is modified under its own lock so that a set that becomes
+     * empty can be retired and removed from its key map without losing an element that is concurrently added to it.
+     * Reads do not lock.
+     */
+    private static final class IndexedElements<T> extends AbstractSet<T> {
+
+        private final Set<T> elements = ConcurrentHashMap.newKeySet();
+        private boolean retired = false;
+
+        /**
+         * @return {@code false} if the set is retired and the element was not added
+         */
+        private synchronized boolean addElement(final T element) {
+            if (this.retired)
+                return false;
+            this.elements.add(element);
+            return true;
+        }
+
+        /**
+         * @return {@code true} if the set is now empty and retired
+         */
+        private synchronized boolean removeElement(final T element) {
+            this.elements.remove(element);
+            if (this.elements.isEmpty())
+                this.retired = true;
+            return this.retired;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Collections.unmodifiableSet(this.elements).iterator();
+        }
+
+        @Override
+        public int size() {
+            return this.elements.size();
+        }
+
+        @Override
+        public boolean contains(final Object element) {
+            return this.elements.contains(element);
+        }
+    }
+
+    /**
+     * An index of the elements (optionally only those with a particular label) by their values for a set of keys.
+     * An element is indexed once it has all of the keys and, as a vertex may have multiple values for a key, it is
+     * indexed under every combination of its values. The combinations of each element are kept so that updating
+     * or removing an element does not require a scan of the index. Updating an element removes its combinations,
+     * reads its values and adds the new combinations, so the updates (and removals) of an element are made under
+     * a lock striped by element. Concurrent updates of the same element are thereby applied one after the other and
+     * the last one reads the values that both writers left.
+     */
+    private static final class CompositeIndex<T extends Element> {
+
+        private static final String LABEL_KEY = org.apache.tinkerpop.gremlin.structure.T.label.getAccessor();
+        private static final int LOCK_STRIPES = 64;
+
+        private final String name;
+        private final String label;
+        private final Set<String> keys;
+        private final Map<List<Object>, Set<T>> index = new ConcurrentHashMap<>();
+        private final Map<T, List<List<Object>>> elementValues = new ConcurrentHashMap<>();
+        private final Object[] locks = new Object[LOCK_STRIPES];
+
+        private CompositeIndex(final String label, final String... keys) {
+            for (int i = 0; i < LOCK_STRIPES; i++) {
+                this.locks[i] = new Object();
+            }
+            this.label = label;
+            this.keys = Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(keys)));
+            this.name = CompositeIndex.name(label, this.keys);
+        }
+
+        private static String name(final String label, final Set<String> keys) {
+            return (null == label ? "" : label) + keys;
+        }
+
+        private boolean matches(final Map<String, Object> equalities) {
+            return (null == this.label || this.label.equals(equalities.get(LABEL_KEY))) &&
+                    equalities.keySet().containsAll(this.keys);
+        }
+
+        private Set<T> get(final Map<String, Object> equalities) {
+            final List<Object> values = new ArrayList<>(this.keys.size());
+            for (final String key : this.keys) {
+                values.add(equalities.get(key));
+            }
+            return this.index.getOrDefault(values, Collections.emptySet());
+        }
+
+        private Object lock(final T element) {
+            return this.locks[(element.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+        }
+
+        private void update(final T element) {
+            synchronized (this.lock(element)) {
+                this.removeCombinations(element);
+                this.addCombinations(element);
+            }
+        }
+
+        private void remove(final T element) {
+            synchronized (this.lock(element)) {
+                this.removeCombinations(element);
+            }
+        }
+
+        private void addCombinations(final T element) {
+            if (null != this.label && !this.label.equals(element.label()))
+                return;
+            List<List<Object>> combinations = Collections.singletonList(Collections.emptyList());
+            for (final String key : this.keys) {
+                final List<Object> values = new ArrayList<>();
+                element.properties(key).forEachRemaining(property -> values.add(property.value()));
+                if (values.isEmpty())
+                    return;
+                final List<List<Object>> extended = new ArrayList<>(combinations.size() * values.size());
+                for (final List<Object> combination : combinations) {
+                    for (final Object value : values) {
+                        final List<Object> list = new ArrayList<>(combination);
+                        list.add(value);
+                        extended.add(list);
+                    }
+                }
+                combinations = extended;
+            }
+            for (final List<Object> combination : combinations) {
+                this.index.compute(combination, (c, elements) -> {
+                    final Set<T> set = null == elements ? ConcurrentHashMap.newKeySet() : elements;
+                    set.add(element);
+                    return set;
+                });
+            }
+            this.elementValues.put(element, combinations);
+        }
+
+        private void removeCombinations(final T element) {
+            final List<List<Object>> combinations = this.elementValues.remove(element);
+            if (null == combinations)
+                return;
+            for (final List<Object> combination : combinations) {
+                this.index.computeIfPresent(combination, (c, elements) -> {
+                    elements.remove(element);
+                    return elements.isEmpty() ? null : elements;
+                });
+            }
+        }
+    }
+
+    /**
+     * Orders the values of a {@link TinkerGraph.IndexType#RANGE} index. Values are first grouped by type (with all
+     * {@link Number} types in a single group) so that values of different types never need to be compared. Numbers
+     * are ordered by their double value and then by type and other {@link Comparable} values by their natural order.
+     * Values that are neither cannot be ordered and are not kept in the sorted map. The comparator also orders the
+     * {@link Bound} markers used to query a range of the index.
+     */
+    private static final class RangeComparator implements Comparator<Object>, Serializable {
+
+        private static final RangeComparator INSTANCE = new RangeComparator();
+
+        @Override
+        public int compare(final Object objectA, final Object objectB) {
+            final Bound boundA = objectA instanceof Bound ? (Bound) objectA : null;
+            final Bound boundB = objectB instanceof Bound ? (Bound) objectB : null;
+            int result = (null == boundA ? group(objectA) : boundA.group).compareTo(null == boundB ? group(objectB) : boundB.group);
+            if (0 != result)
+                return result;
+            // group start and end markers come before and after every value of the group
+            final int edgeA = null == boundA || !boundA.edge ? 0 : boundA.side;
+            final int edgeB = null == boundB || !boundB.edge ? 0 : boundB.side;
+            if (0 != edgeA || 0 != edgeB)
+                return Integer.compare(edgeA, edgeB);
+            final Object valueA = null == boundA ? objectA : boundA.value;
+            final Object valueB = null == boundB ? objectB : boundB.value;
+            if (valueA instanceof Number) {
+                result = Double.compare(((Number) valueA).doubleValue(), ((Number) valueB).doubleValue());
+                if (0 != result || null != boundA || null != boundB)
+                    return 0 != result ? result : Integer.compare(null == boundA ? 0 : boundA.side, null == boundB ? 0 : boundB.side);
+                result = valueA.getClass().getName().compareTo(valueB.getClass().getName());
+                if (0 != result)
+                    return result;
+            }
+            // a number that is not comparable is equal to another of its type with the same double value
+            result = valueA instanceof Comparable ? ((Comparable) valueA).compareTo(valueB) : 0;
+            return 0 != result ? result : Integer.compare(null == boundA ? 0 : boundA.side, null == boundB ? 0 : boundB.side);
+        }
+
+        private static boolean isOrdered(final Object value) {
+            return value instanceof Number || value instanceof Comparable;
+        }
+
+        private static String group(final Object value) {
+            return value instanceof Number ? Number.class.getName() : value.getClass().getName();
+        }
+    }
+
+    /**
+     * A marker used to query a range of a {@link TinkerGraph.IndexType#RANGE} index. A low (high) bound comes before
+     * (after) every value that compares equal to its value and a group start (end) comes before (after) every value
+     * of the same type as its value.
+     */
+    private static final class Bound {
+
+        private final String group;
+        private final Object value;
+        private final int side;
+        private final boolean edge;
+
+        private Bound(final Object value, final int side, final boolean edge) {
+            this.group = RangeComparator.group(value);
+            this.value = value;
+            this.side = side;
+            this.edge = edge;
+        }
+
+        public static Bound low(final Object value) {
+            return new Bound(value, -1, false);
+        }
+
+        public static Bound high(final Object value) {
+            return new Bound(value, 1, false);
+        }
+
+        public static Bound groupStart(final Object value) {
+            return new Bound(value, -1, true);
+        }
+
+        public static Bound groupEnd(final Object value) {
+            return new Bound(value, 1, true);
+        }
     }
 }
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A map of the elements of a {@link TinkerGraph} keyed by {@code long} identifiers, which is used in place of a
+ * {@link java.util.concurrent.ConcurrentHashMap} when the identifiers are managed by
+ * {@link TinkerGraph.DefaultIdManager#LONG}. Identifiers are stored in a primitive array with open addressing (linear
+ * probing), so a lookup does not box the identifier or follow a chain of nodes and the map needs no node object per
+ * element.
+ * <p/>
+ * Reads do not lock and see the elements of the table that was current when they started. Writes are serialized.
+ * A removed element leaves a marker in its slot until the table is rebuilt, so that entries never move within a table
+ * and iterators, like those of {@link java.util.concurrent.ConcurrentHashMap}, are weakly consistent: they never
+ * fail, never return an element twice and reflect some of the modifications made after they were created.
+ */
+final class TinkerLongElementMap<E extends Element> extends AbstractMap<Object, E> {
+
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final Object REMOVED = new Object();
+
+    private volatile Table table = new Table(MINIMUM_CAPACITY);
+    private volatile int size = 0;
+
+    public E get(final long id) {
+        final Table table = this.table;
+        final int index = table.indexOf(id);
+        return index < 0 ? null : (E) table.values.get(index);
+    }
+
+    public boolean containsKey(final long id) {
+        return this.table.indexOf(id) >= 0;
+    }
+
+    @Override
+    public E get(final Object id) {
+        return id instanceof Long ? this.get(((Long) id).longValue()) : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object id) {
+        return id instanceof Long && this.containsKey(((Long) id).longValue());
+    }
+
+    @Override
+    public synchronized E put(final Object id, final E element) {
+        if (!(id instanceof Long))
+            throw new IllegalArgumentException("Only Long identifiers can be stored: " + id);
+        if (null == element)
+            throw new IllegalArgumentException("The element cannot be null");
+        final long key = (Long) id;
+        Table table = this.table;
+        final int index = table.indexOf(key);
+        if (index >= 0) {
+            final E old = (E) table.values.get(index);
+            table.values.set(index, element);
+            return old;
+        }
+        if (table.used + 1 > table.threshold) {
+            table = this.rebuild(table);
+            this.table = table;
+        }
+        table.insert(key, element);
+        this.size++;
+        return null;
+    }
+
+    @Override
+    public synchronized E remove(final Object id) {
+        if (!(id instanceof Long))
+            return null;
+        final Table table = this.table;
+        final int index = table.indexOf((Long) id);
+        if (index < 0)
+            return null;
+        final E old = (E) table.values.get(index);
+        table.values.set(index, REMOVED);
+        this.size--;
+        return old;
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.table = new Table(MINIMUM_CAPACITY);
+        this.size = 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Collection<E> values() {
+        return new AbstractCollection<E>() {
+            @Override
+            public Iterator<E> iterator() {
+                return new TableIterator<E>() {
+                    @Override
+                    protected E get(final long key, final E element) {
+                        return element;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return TinkerLongElementMap.this.size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<Object, E>> entrySet() {
+        return new AbstractSet<Entry<Object, E>>() {
+            @Override
+            public Iterator<Entry<Object, E>> iterator() {
+                return new TableIterator<Entry<Object, E>>() {
+                    @Override
+                    protected Entry<Object, E> get(final long key, final E element) {
+                        return new SimpleImmutableEntry<>(key, element);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return TinkerLongElementMap.this.size;
+            }
+        };
+    }
+
+    /**
+     * Copy the elements of the table to a new table that is twice the size if the elements (rather than the markers
+     * of removed elements) fill more than half of the table.
+     */
+    private Table rebuild(final Table table) {
+        final int capacity = this.size + 1 > table.keys.length >> 1 ? table.keys.length << 1 : table.keys.length;
+        final Table rebuilt = new Table(capacity);
+        for (int i = 0; i < table.keys.length; i++) {
+            final Object element = table.values.get(i);
+            if (null != element && REMOVED != element)
+                rebuilt.insert(table.keys[i], element);
+        }
+        return rebuilt;
+    }
+
+    private static final class Table {
+
+        private final long[] keys;
+        private final AtomicReferenceArray<Object> values;
+        private final int mask;
+        private final int threshold;
+        /**
+         * The number of slots that hold an element or the marker of a removed element.
+         */
+        private int used = 0;
+
+        private Table(final int capacity) {
+            this.keys = new long[capacity];
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.threshold = (capacity >> 1) + (capacity >> 2);
+        }
+
+        private static int hash(final long key) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private int indexOf(final long key) {
+            for (int i = hash(key) & this.mask; ; i = (i + 1) & this.mask) {
+                // the element is read first as it is written last and so publishes the key
+                final Object element = this.values.get(i);
+                if (null == element)
+                    return -1;
+                if (this.keys[i] == key)
+                    return REMOVED == element ? -1 : i;
+            }
+        }
+
+        private void insert(final long key, final Object element) {
+            int i = hash(key) & this.mask;
+            while (null != this.values.get(i)) {
+                // the marker of a removed element with the same key is reused
+                if (this.keys[i] == key) {
+                    this.values.set(i, element);
+                    return;
+                }
+                i = (i + 1) & this.mask;
+            }
+            this.keys[i] = key;
+            this.values.set(i, element);
+            this.used++;
+        }
+    }
+
+    private abstract class TableIterator<T> implements Iterator<T> {
+
+        private final Table table = TinkerLongElementMap.this.table;
+        private int index = 0;
+        private int current = -1;
+        private Object next = null;
+
+        protected abstract T get(final long key, final E element);
+
+        @Override
+        public boolean hasNext() {
+            while (null == this.next && this.index < this.table.keys.length) {
+                final Object element = this.table.values.get(this.index);
+                if (null != element && REMOVED != element)
+                    this.next = element;
+                else
+                    this.index++;
+            }
+            return null != this.next;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            final E element = (E) this.next;
+            this.next = null;
+            this.current = this.index++;
+            return this.get(this.table.keys[this.current], element);
+        }
+
+        @Override
+        public void remove() {
+            if (this.current < 0)
+                throw new IllegalStateException();
+            TinkerLongElementMap.this.remove(this.table.keys[this.current]);
+            this.current = -1;
+        }
+    }
+}
@@ -30,7 +30,6 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +45,11 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
     protected Map<String, List<VertexProperty>> properties;
     protected Map<String, Set<Edge>> outEdges;
     protected Map<String, Set<Edge>> inEdges;
+    /**
+     * Whether the out or in edges may be read by a lazy iterator, in which case they are copied before they are modified.
+     */
+    protected boolean outEdgesIterated = false;
+    protected boolean inEdgesIterated = false;
     private final TinkerGraph graph;
 
     protected TinkerVertex(final Object id, final String label, final TinkerGraph graph) {
@@ -102,10 +106,10 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
 
             final VertexProperty<V> vertexProperty = new TinkerVertexProperty<V>(idValue, this, key, value);
 
-            if (null == this.properties) this.properties = new HashMap<>();
-            final List<VertexProperty> list = this.properties.getOrDefault(key, new ArrayList<>());
+            if (null == this.properties) this.properties = TinkerHelper.createMap(this.graph);
+            final List<VertexProperty> list = this.properties.getOrDefault(key, new ArrayList<>(1));
             list.add(vertexProperty);
-            this.properties.put(key, list);
+            this.properties.put(this.graph.intern(key), list);
             TinkerHelper.autoUpdateIndex(this, key, value, null);
             ElementHelper.attachProperties(vertexProperty, keyValues);
             return vertexProperty;
@@ -21,15 +21,19 @@
 
 package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect.TinkerGraphStep;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -69,4 +73,28 @@ public class TinkerGraphStepStrategyTest {
         assertEquals(HasStep.class, traversal.getEndStep().getClass());
     }
 
+    @Test
+    public void shouldFoldInOrderForTopK() {
+        TinkerGraph graph = TinkerGraph.open();
+        GraphTraversalSource g = graph.traversal();
+        ////
+        GraphTraversal.Admin traversal = g.V().has("name", "marko").order().by("age", Order.decr).limit(10).asAdmin();
+        traversal.applyStrategies();
+        assertEquals(2, traversal.getSteps().size());
+        assertEquals(TinkerGraphStep.class, traversal.getStartStep().getClass());
+        assertEquals("age", ((TinkerGraphStep<?>) traversal.getStartStep()).getOrderKey().get());
+        assertEquals(RangeGlobalStep.class, traversal.getEndStep().getClass());
+        ////
+        traversal = g.V().order().by("age", Order.incr).asAdmin();
+        traversal.applyStrategies();
+        assertEquals(2, traversal.getSteps().size());
+        assertFalse(((TinkerGraphStep<?>) traversal.getStartStep()).getOrderKey().isPresent());
+        assertEquals(OrderGlobalStep.class, traversal.getEndStep().getClass());
+        ////
+        traversal = g.V().order().by("age", Order.incr).by("name", Order.decr).limit(1).asAdmin();
+        traversal.applyStrategies();
+        assertEquals(3, traversal.getSteps().size());
+        assertFalse(((TinkerGraphStep<?>) traversal.getStartStep()).getOrderKey().isPresent());
+    }
+
 }
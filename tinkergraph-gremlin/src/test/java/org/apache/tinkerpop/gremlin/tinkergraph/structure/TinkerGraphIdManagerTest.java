@@ -25,16 +25,20 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 /**
  * @author Stephen Mallette (http://stephen.genoprime.com)
@@ -155,4 +159,41 @@ public class TinkerGraphIdManagerTest {
             assertEquals(vertexPropertyId, vp.id());
         }
     }
+
+    public static class LongIdElementStoreTest {
+
+        @Test
+        public void shouldStoreElementsWithLongIds() {
+            final Configuration conf = new BaseConfiguration();
+            conf.addProperty(TinkerGraph.CONFIG_EDGE_ID, TinkerGraph.DefaultIdManager.LONG.name());
+            conf.addProperty(TinkerGraph.CONFIG_VERTEX_ID, TinkerGraph.DefaultIdManager.LONG.name());
+            final TinkerGraph graph = TinkerGraph.open(conf);
+
+            final List<Vertex> vertices = new ArrayList<>();
+            for (int i = 0; i < 10000; i++) {
+                vertices.add(graph.addVertex(T.id, i * 7l));
+            }
+            for (int i = 1; i < vertices.size(); i++) {
+                vertices.get(i - 1).addEdge("next", vertices.get(i));
+            }
+            for (int i = 0; i < vertices.size(); i += 2) {
+                vertices.get(i).remove();
+            }
+
+            assertEquals(5000, IteratorUtils.count(graph.vertices()));
+            assertEquals(0, IteratorUtils.count(graph.edges()));
+            assertEquals(vertices.get(1), graph.vertices(7).next());
+            assertEquals(vertices.get(1), graph.vertices("7").next());
+            assertFalse(graph.vertices(0l).hasNext());
+            assertEquals(Arrays.asList(vertices.get(1), vertices.get(3)), IteratorUtils.list(graph.vertices(7, 14, 21)));
+
+            // ids that were removed can be used again and generated ids skip those that are taken
+            final Vertex v = graph.addVertex(T.id, 0l);
+            assertEquals(v, graph.vertices(0).next());
+            final long nextId = graph.currentId.get() + 1;
+            graph.addVertex(T.id, nextId);
+            assertEquals(nextId + 1, graph.addVertex().id());
+            assertEquals(5003, IteratorUtils.count(graph.vertices()));
+        }
+    }
 }
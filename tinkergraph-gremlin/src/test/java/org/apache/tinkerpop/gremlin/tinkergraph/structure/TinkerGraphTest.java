@@ -18,31 +18,58 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.BatchingStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalPlanCache;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.io.graphml.GraphMLIo;
+import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONIo;
+import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONReader;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoIo;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
 import org.apache.tinkerpop.gremlin.util.TimeUtil;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -115,6 +142,107 @@ public class TinkerGraphTest {
         });
     }
 
+    @Test
+    @Ignore
+    public void benchmarkBatchingStrategy() throws Exception {
+        final Graph graph = TinkerGraph.open();
+        graph.io(GraphMLIo.build()).readGraph("data/grateful-dead.xml");
+        final GraphTraversalSource standard = graph.traversal();
+        for (final int batchSize : Arrays.asList(0, 64, 256, 1024)) {
+            final GraphTraversalSource g = 0 == batchSize ? standard :
+                    GraphTraversalSource.build().with(BatchingStrategy.build().batchSize(batchSize).create()).create(graph);
+            final List<Supplier<Traversal>> traversals = Arrays.asList(
+                    () -> g.V().out().out().has("performances", P.gt(10)).count(),
+                    () -> g.V().out().out().out().has("songType", "original").values("name").count(),
+                    () -> g.V().out("followedBy").out("followedBy").out("followedBy").has("performances", P.lt(5)).values("name").count());
+            System.out.println("\nBATCH SIZE: " + batchSize);
+            traversals.forEach(traversal -> {
+                System.out.print("   " + traversal.get() + ":");
+                for (int i = 0; i < 7; i++) {
+                    final long t = System.currentTimeMillis();
+                    traversal.get().iterate();
+                    System.out.print("   " + (System.currentTimeMillis() - t));
+                }
+                System.out.println();
+            });
+        }
+    }
+
+    @Test
+    @Ignore
+    public void benchmarkParallelTraversalEngine() throws Exception {
+        final Graph graph = TinkerGraph.open();
+        graph.io(GraphMLIo.build()).readGraph("data/grateful-dead.xml");
+        for (final GraphTraversalSource g : Arrays.asList(graph.traversal(), GraphTraversalSource.parallel().create(graph))) {
+            final List<Supplier<Traversal>> traversals = Arrays.asList(
+                    () -> g.V().out().out().out().has("songType", "original").count(),
+                    () -> g.V().out("followedBy").out("followedBy").out("followedBy").groupCount().by("name"),
+                    () -> g.V().both().both().has("performances", P.gt(10)).values("performances").sum());
+            System.out.println("\nSOURCE: " + g);
+            traversals.forEach(traversal -> {
+                System.out.print("   " + traversal.get() + ":");
+                for (int i = 0; i < 7; i++) {
+                    final long t = System.currentTimeMillis();
+                    traversal.get().iterate();
+                    System.out.print("   " + (System.currentTimeMillis() - t));
+                }
+                System.out.println();
+            });
+        }
+    }
+
+    @Test
+    @Ignore
+    public void benchmarkAdjacencyTypes() throws Exception {
+        for (final TinkerGraph.AdjacencyType adjacencyType : TinkerGraph.AdjacencyType.values()) {
+            final Configuration conf = new BaseConfiguration();
+            conf.setProperty(TinkerGraph.CONFIG_ADJACENCY, adjacencyType.name());
+            System.gc();
+            final long before = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+            final TinkerGraph graph = TinkerGraph.open(conf);
+            graph.io(GraphMLIo.build()).readGraph("data/grateful-dead.xml");
+            final GraphTraversalSource g = graph.traversal();
+            System.gc();
+            final long after = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+            final long edges = g.E().count().next();
+            System.out.println("\n" + adjacencyType + ": " + (after - before) / edges + " bytes per edge");
+            for (int i = 0; i < 7; i++) {
+                final long t = System.currentTimeMillis();
+                g.V().out().out().out().iterate();
+                System.out.print("   " + (System.currentTimeMillis() - t));
+            }
+        }
+    }
+
+    @Test
+    @Ignore
+    public void benchmarkParallelGraphReaders() throws Exception {
+        final Graph source = TinkerGraph.open();
+        source.io(GraphMLIo.build()).readGraph("data/grateful-dead.xml");
+        final ByteArrayOutputStream graphson = new ByteArrayOutputStream();
+        source.io(GraphSONIo.build()).writer().create().writeGraph(graphson, source);
+        final ByteArrayOutputStream gryo = new ByteArrayOutputStream();
+        source.io(GryoIo.build()).writer().create().writeGraph(gryo, source);
+
+        for (final int workers : Arrays.asList(1, 2, 4)) {
+            System.out.println("\nWORKERS: " + workers);
+            System.out.print("   graphson");
+            for (int i = 0; i < 7; i++) {
+                final Graph graph = TinkerGraph.open();
+                final long t = System.currentTimeMillis();
+                GraphSONReader.build().parseWorkers(workers).create().readGraph(new ByteArrayInputStream(graphson.toByteArray()), graph);
+                System.out.print("   " + (System.currentTimeMillis() - t));
+            }
+            System.out.print("\n   gryo");
+            for (int i = 0; i < 7; i++) {
+                final Graph graph = TinkerGraph.open();
+                final long t = System.currentTimeMillis();
+                GryoReader.build().parseWorkers(workers).create().readGraph(new ByteArrayInputStream(gryo.toByteArray()), graph);
+                System.out.print("   " + (System.currentTimeMillis() - t));
+            }
+        }
+    }
+
     @Test
     @Ignore
     public void testPlay4() throws Exception {
@@ -266,6 +394,484 @@ public class TinkerGraphTest {
         g.dropIndex("better-not-error-index-key-does-not-exist", Edge.class);
     }
 
+    @Test
+    public void shouldManageRangeIndices() {
+        final TinkerGraph g = TinkerGraph.open();
+
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.RANGE);
+        g.createIndex("name", Vertex.class);
+        assertEquals(2, g.getIndexedKeys(Vertex.class).size());
+        assertEquals(TinkerGraph.IndexType.RANGE, g.getIndexType("age", Vertex.class).get());
+        assertEquals(TinkerGraph.IndexType.HASH, g.getIndexType("name", Vertex.class).get());
+        assertFalse(g.getIndexType("weight", Vertex.class).isPresent());
+
+        // replace the hash index with a range index
+        g.createIndex("name", Vertex.class, TinkerGraph.IndexType.RANGE);
+        assertEquals(2, g.getIndexedKeys(Vertex.class).size());
+        assertEquals(TinkerGraph.IndexType.RANGE, g.getIndexType("name", Vertex.class).get());
+
+        g.dropIndex("age", Vertex.class);
+        assertFalse(g.getIndexType("age", Vertex.class).isPresent());
+    }
+
+    @Test
+    public void shouldQueryVertexRangeIndices() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createIndex("age", Vertex.class, TinkerGraph.IndexType.RANGE);
+        TinkerFactory.generateModern(graph);
+        graph.addVertex("name", "daniel", "age", 35l);
+        graph.addVertex("name", "pieter", "age", 29.5d);
+        final GraphTraversalSource g = graph.traversal();
+
+        assertEquals(new HashSet<>(Arrays.asList("josh", "peter", "daniel")), g.V().has("age", P.gt(30)).values("name").toSet());
+        assertEquals(new HashSet<>(Arrays.asList("josh", "peter", "daniel")), g.V().has("age", P.between(32, 36)).values("name").toSet());
+        assertEquals(new HashSet<>(Arrays.asList("marko", "pieter")), g.V().has("age", P.inside(28, 31)).values("name").toSet());
+        assertEquals(new HashSet<>(Arrays.asList("vadas", "marko")), g.V().has("age", P.lte(29)).values("name").toSet());
+        assertEquals(new HashSet<>(Arrays.asList("peter", "daniel")), g.V().has("age", P.gte(35)).values("name").toSet());
+        assertEquals(new HashSet<>(Arrays.asList("peter", "daniel")), g.V().has("age", 35).values("name").toSet());
+        assertEquals(0, g.V().has("age", P.gt(100)).count().next().intValue());
+        assertEquals(2, TinkerHelper.countVertexIndex(graph, "age", 35));
+        assertEquals(2, TinkerHelper.countVertexIndex(graph, "age", 35l));
+        assertEquals(1, TinkerHelper.countVertexIndex(graph, "age", 29.5f));
+
+        g.V().has("name", "peter").property("age", 40).iterate();
+        assertEquals(Arrays.asList("peter"), g.V().has("age", P.gt(36)).values("name").toList());
+        g.V().has("name", "peter").drop().iterate();
+        assertEquals(0, g.V().has("age", P.gt(36)).count().next().intValue());
+    }
+
+    @Test
+    public void shouldOrderByVertexRangeIndex() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createIndex("age", Vertex.class, TinkerGraph.IndexType.RANGE);
+        TinkerFactory.generateModern(graph);
+        final GraphTraversalSource g = graph.traversal();
+
+        // the software vertices do not have an age so the persons are sorted as they would be without the index
+        assertFalse(TinkerHelper.isVertexIndexComplete(graph, "age"));
+        assertEquals(Arrays.asList("vadas", "marko"), g.V().hasLabel("person").order().by("age", Order.incr).limit(2).values("name").toList());
+
+        g.V().hasLabel("software").drop().iterate();
+        assertTrue(TinkerHelper.isVertexIndexComplete(graph, "age"));
+        assertEquals(Arrays.asList("vadas", "marko"), g.V().order().by("age", Order.incr).limit(2).values("name").toList());
+        assertEquals(Arrays.asList("peter", "josh"), g.V().order().by("age", Order.decr).limit(2).values("name").toList());
+        assertEquals(Arrays.asList("josh"), g.V().has("age", P.lt(35)).order().by("age", Order.decr).limit(1).values("name").toList());
+
+        graph.dropIndex("age", Vertex.class);
+        assertEquals(Arrays.asList("vadas", "marko"), g.V().hasLabel("person").order().by("age", Order.incr).limit(2).values("name").toList());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotSkipElementsWithoutTheKeyWhenOrderingByRangeIndex() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createIndex("age", Vertex.class, TinkerGraph.IndexType.RANGE);
+        TinkerFactory.generateModern(graph);
+        graph.traversal().V().order().by("age", Order.incr).limit(2).values("name").toList();
+    }
+
+    @Test
+    public void shouldQueryEdgeRangeIndices() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createIndex("weight", Edge.class, TinkerGraph.IndexType.RANGE);
+        TinkerFactory.generateModern(graph);
+        final GraphTraversalSource g = graph.traversal();
+
+        assertEquals(2, g.E().has("weight", P.gte(1.0d)).count().next().intValue());
+        assertEquals(3, g.E().has("weight", P.between(0.4d, 1.0d)).count().next().intValue());
+        assertEquals(Arrays.asList(0.2d, 0.4d), g.E().order().by("weight", Order.incr).limit(2).values("weight").toList());
+    }
+
+    @Test
+    public void shouldKeepUnorderedValuesWithTheSameHashCodeApartInRangeIndex() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createIndex("code", Vertex.class, TinkerGraph.IndexType.RANGE);
+        graph.addVertex("name", "a", "code", new SameHashCode("a"));
+        graph.addVertex("name", "b", "code", new SameHashCode("b"));
+        final GraphTraversalSource g = graph.traversal();
+
+        assertEquals(1, TinkerHelper.countVertexIndex(graph, "code", new SameHashCode("a")));
+        assertEquals(1, TinkerHelper.countVertexIndex(graph, "code", new SameHashCode("b")));
+        assertEquals(Arrays.asList("a"), g.V().has("code", new SameHashCode("a")).values("name").toList());
+        assertEquals(Arrays.asList("b"), g.V().has("code", new SameHashCode("b")).values("name").toList());
+
+        g.V().has("name", "a").drop().iterate();
+        assertEquals(0, TinkerHelper.countVertexIndex(graph, "code", new SameHashCode("a")));
+        assertEquals(Arrays.asList("b"), g.V().has("code", new SameHashCode("b")).values("name").toList());
+    }
+
+    @Test
+    public void shouldTraverseCompactAdjacency() {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.CONFIG_ADJACENCY, TinkerGraph.AdjacencyType.COMPACT.name());
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateModern(graph);
+        final GraphTraversalSource g = graph.traversal();
+
+        assertEquals(new HashSet<>(Arrays.asList("vadas", "josh", "lop")), g.V().has("name", "marko").out().values("name").toSet());
+        assertEquals(new HashSet<>(Arrays.asList("vadas", "josh")), g.V().has("name", "marko").out("knows").values("name").toSet());
+        assertEquals(new HashSet<>(Arrays.asList("marko", "josh", "peter")), g.V().has("name", "lop").in("created").values("name").toSet());
+        assertEquals(6, g.E().count().next().intValue());
+
+        g.V().has("name", "marko").outE("knows").has("weight", 0.5d).drop().iterate();
+        assertEquals(Arrays.asList("josh"), g.V().has("name", "marko").out("knows").values("name").toList());
+        assertEquals(0, g.V().has("name", "vadas").inE().count().next().intValue());
+
+        final Vertex marko = g.V().has("name", "marko").next();
+        marko.property("location", "santa fe");
+        marko.property("age").remove();
+        assertEquals(new HashSet<>(Arrays.asList("name", "location")), marko.keys());
+        marko.remove();
+        assertEquals(0, g.V().has("name", "lop").in("created").has("name", "marko").count().next().intValue());
+        assertEquals(3, g.E().count().next().intValue());
+    }
+
+    @Test
+    public void shouldIterateAdjacentElementsWhileModifyingThem() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphTraversalSource g = graph.traversal();
+        final Vertex marko = g.V().has("name", "marko").next();
+        final Vertex josh = g.V().has("name", "josh").next();
+
+        assertEquals(3, IteratorUtils.count(marko.edges(Direction.OUT, "knows", "created")));
+        assertEquals(new HashSet<>(Arrays.asList("marko", "ripple", "lop")), IteratorUtils.set(IteratorUtils.map(josh.vertices(Direction.BOTH), v -> v.value("name"))));
+        assertFalse(marko.vertices(Direction.IN).hasNext());
+
+        final Iterator<Edge> edges = marko.edges(Direction.OUT);
+        edges.next();
+        marko.addEdge("knows", josh);
+        marko.edges(Direction.OUT, "created").next().remove();
+        assertEquals(2, IteratorUtils.count(edges));
+        assertEquals(3, IteratorUtils.count(marko.edges(Direction.OUT)));
+
+        g.V(marko).outE().drop().iterate();
+        assertEquals(0, IteratorUtils.count(marko.edges(Direction.BOTH)));
+        assertEquals(2, IteratorUtils.count(josh.edges(Direction.BOTH)));
+    }
+
+    @Test
+    public void shouldStreamGraphStepResults() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createIndex("group", Vertex.class);
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex("group", i % 2, "value", i);
+        }
+        final GraphTraversalSource g = graph.traversal();
+
+        // the elements are filtered lazily so limit() stops the scan and the index lookup after the first match
+        final AtomicInteger tested = new AtomicInteger(0);
+        assertEquals(1, g.V().has("value", P.test((t, u) -> tested.incrementAndGet() > 0, 0)).limit(1).count().next().intValue());
+        assertTrue(tested.get() < 10);
+        tested.set(0);
+        assertEquals(1, g.V().has("group", 1).has("value", P.test((t, u) -> tested.incrementAndGet() > 0, 0)).limit(1).count().next().intValue());
+        assertTrue(tested.get() < 10);
+
+        // a traversal that modifies the graph does not see its own modifications
+        assertEquals(1000, g.V().addV("group", 2).count().next().intValue());
+        assertEquals(2000, g.V().count().next().intValue());
+        assertEquals(500, g.V().has("group", 0).property("group", 3).count().next().intValue());
+        assertEquals(500, g.V().has("group", 3).count().next().intValue());
+    }
+
+    @Test
+    public void shouldProduceSameResultsWithBatchingStrategy() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphTraversalSource g = graph.traversal();
+        final GraphTraversalSource b = GraphTraversalSource.build().with(BatchingStrategy.build().batchSize(2).create()).create(graph);
+        assertEquals(g.V().out().out().has("lang", "java").values("name").toList(), b.V().out().out().has("lang", "java").values("name").toList());
+        assertEquals(g.V().both().both().has("age", P.gt(27)).values("age").sum().next(), b.V().both().both().has("age", P.gt(27)).values("age").sum().next());
+        assertEquals(g.V().both().has("age").properties("age").count().next(), b.V().both().has("age").properties("age").count().next());
+        assertEquals(g.V().out().out().limit(1).values("name").toList(), b.V().out().out().limit(1).values("name").toList());
+        assertEquals(g.V().outE().inV().both().groupCount().by("name").next(), b.V().outE().inV().both().groupCount().by("name").next());
+        assertEquals(0, b.V().out().has("age", P.gt(100)).out().count().next().intValue());
+
+        final Traversal<Vertex, Vertex> traversal = b.V().both().both();
+        int count = 0;
+        while (traversal.hasNext()) {
+            assertTrue(traversal.hasNext());
+            traversal.next();
+            count++;
+        }
+        assertEquals(g.V().both().both().count().next().intValue(), count);
+    }
+
+    @Test
+    public void shouldProduceSameResultsWithParallelTraversalEngine() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphTraversalSource g = graph.traversal();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final GraphTraversalSource p = GraphTraversalSource.parallel(pool).create(graph);
+            assertEquals(g.V().out().out().values("name").toList(), p.V().out().out().values("name").toList());
+            assertEquals(g.V().both().both().has("age", P.gt(27)).values("age").sum().next(), p.V().both().both().has("age", P.gt(27)).values("age").sum().next());
+            assertEquals(g.V().both().values("age").mean().next(), p.V().both().values("age").mean().next());
+            assertEquals(g.V().outE().inV().both().groupCount().by("name").next(), p.V().outE().inV().both().groupCount().by("name").next());
+            assertEquals(g.V().both().groupCount().by(T.label).next(), p.V().both().groupCount().by(T.label).next());
+            assertEquals(g.V().out().values("name").order().toList(), p.V().out().values("name").order().toList());
+            assertEquals(g.V().out().out().limit(1).values("name").toList(), p.V().out().out().limit(1).values("name").toList());
+            assertEquals(g.E().hasLabel("knows").inV().count().next(), p.E().hasLabel("knows").inV().count().next());
+            assertEquals(0l, p.V().has("age", P.gt(100)).count().next().longValue());
+            assertEquals(Collections.emptyMap(), p.V().has("age", P.gt(100)).groupCount().next());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldEstimateMatchPatternCostsFromGraphStatistics() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final MatchStep.CostMatchAlgorithm.Statistics statistics = new MatchStep.CostMatchAlgorithm.Statistics(graph);
+        assertEquals(4.0d / 6.0d, statistics.averageDegree(Direction.OUT, "created"), 0.001d);
+        assertEquals(2.0d / 6.0d, statistics.averageDegree(Direction.IN, "knows"), 0.001d);
+        assertEquals(12.0d / 6.0d, statistics.averageDegree(Direction.BOTH), 0.001d);
+        assertEquals(4.0d / 6.0d, statistics.selectivity(Collections.singletonList(new HasContainer(T.label.getAccessor(), P.eq("person"))), false), 0.001d);
+        assertEquals(2.0d / 6.0d, statistics.selectivity(Collections.singletonList(new HasContainer("weight", P.eq(1.0d))), true), 0.001d);
+        assertEquals(4.0d / 6.0d * 1.0d / 6.0d, statistics.estimateMultiplicity(__.out("created").has("name", "lop").asAdmin()), 0.001d);
+
+        final GraphTraversalSource g = graph.traversal();
+        final GraphTraversalSource c = GraphTraversalSource.build().with(MatchAlgorithmStrategy.build().algorithm(MatchStep.CostMatchAlgorithm.class).create()).create(graph);
+        assertEquals(new HashSet<>(g.V().match(as("a").out("created").as("b"), as("a").has("name", "marko"), as("b").in("created").as("c")).select("a", "b", "c").by("name").toList()),
+                new HashSet<>(c.V().match(as("a").out("created").as("b"), as("a").has("name", "marko"), as("b").in("created").as("c")).select("a", "b", "c").by("name").toList()));
+    }
+
+    @Test
+    public void shouldReuseCachedTraversalPlans() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphTraversalSource g = graph.traversal();
+        final TraversalPlanCache planCache = TraversalPlanCache.instance();
+        planCache.clear();
+        planCache.setMaxSize(10);
+        try {
+            final List<Object> expected = g.V().has("name", "marko").repeat(out()).times(2).values("name").toList();
+            assertEquals(0, planCache.hits());
+            assertEquals(1, planCache.misses());
+            assertEquals(1, planCache.size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(expected, g.V().has("name", "marko").repeat(out()).times(2).values("name").toList());
+            }
+            assertEquals(3, planCache.hits());
+            assertEquals(1, planCache.misses());
+
+            // a different argument is a different plan
+            assertEquals(Collections.singletonList("lop"), g.V().has("name", "peter").out().values("name").toList());
+            assertEquals(3, planCache.hits());
+            assertEquals(2, planCache.misses());
+            assertEquals(2, planCache.size());
+
+            // side-effects are not shared with the cached plan
+            assertEquals(4l, g.V().out("created").aggregate("x").cap("x").unfold().count().next().longValue());
+            assertEquals(4l, g.V().out("created").aggregate("x").cap("x").unfold().count().next().longValue());
+            assertEquals(4, planCache.hits());
+
+            // lambdas are never cached
+            g.V().map(v -> v.get().id()).toList();
+            assertEquals(4, planCache.hits());
+            assertEquals(3, planCache.misses());
+            assertEquals(3, planCache.size());
+
+            planCache.setMaxSize(1);
+            assertEquals(1, planCache.size());
+        } finally {
+            planCache.setMaxSize(0);
+            planCache.clear();
+        }
+    }
+
+    @Test
+    public void shouldNotCachePlansOfParallelTraversals() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final TraversalPlanCache planCache = TraversalPlanCache.instance();
+        planCache.clear();
+        planCache.setMaxSize(10);
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final GraphTraversalSource p = GraphTraversalSource.parallel(pool).create(graph);
+            assertEquals(Arrays.asList("lop", "ripple"), p.V().out().out().values("name").order().toList());
+            assertEquals(Arrays.asList("lop", "ripple"), p.V().out().out().values("name").order().toList());
+            assertEquals(0, planCache.hits());
+            assertEquals(0, planCache.misses());
+            assertEquals(0, planCache.size());
+
+            // the plan of the standard engine does not leak to the parallel engine
+            assertEquals(Arrays.asList("lop", "ripple"), graph.traversal().V().out().out().values("name").order().toList());
+            assertEquals(1, planCache.size());
+            assertEquals(Arrays.asList("lop", "ripple"), p.V().out().out().values("name").order().toList());
+            assertEquals(0, planCache.hits());
+        } finally {
+            pool.shutdown();
+            planCache.setMaxSize(0);
+            planCache.clear();
+        }
+    }
+
+    @Test
+    public void shouldNotShareCachedPlansOfMutatingTraversals() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphTraversalSource g = graph.traversal();
+        final TraversalPlanCache planCache = TraversalPlanCache.instance();
+        planCache.clear();
+        planCache.setMaxSize(10);
+        try {
+            // the mutating steps do not print their arguments and the arguments have the same hash codes
+            assertEquals("Aa".hashCode(), "BB".hashCode());
+            g.V(1).property("name", "Aa").iterate();
+            assertEquals("Aa", g.V(1).values("name").next());
+            g.V(1).property("name", "BB").iterate();
+            assertEquals("BB", g.V(1).values("name").next());
+
+            g.V(1).property("age", 1).iterate();
+            assertEquals(1, g.V(1).values("age").next());
+            g.V(1).property("age", 1l).iterate();
+            assertEquals(1l, g.V(1).values("age").next());
+
+            final Vertex a = g.V(1).addV("name", "a", "nick", "b").next();
+            final Vertex b = g.V(1).addV("name", "b", "nick", "a").next();
+            assertEquals("a", a.value("name"));
+            assertEquals("b", a.value("nick"));
+            assertEquals("b", b.value("name"));
+            assertEquals("a", b.value("nick"));
+
+            // only the reads of the name and the age were cached
+            assertEquals(2, planCache.size());
+        } finally {
+            planCache.setMaxSize(0);
+            planCache.clear();
+        }
+    }
+
+    @Test
+    public void shouldRouteAdjacentTraversersAlongEdgesOnComputer() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex a = graph.addVertex("name", "a");
+        final Vertex b = graph.addVertex("name", "b");
+        final Vertex c = graph.addVertex("name", "c");
+        a.addEdge("knows", b);
+        a.addEdge("knows", b);
+        b.addEdge("knows", b);
+        b.addEdge("likes", c);
+        c.addEdge("knows", a);
+        final GraphTraversalSource g = graph.traversal();
+        final GraphTraversalSource c1 = graph.traversal(GraphTraversalSource.computer());
+
+        // out() and in() are sent along the edges of the vertex while outE().inV() and both() are sent globally
+        final List<Supplier<GraphTraversal<?, ?>>> traversals = Arrays.asList(
+                () -> g.V().out("knows").values("name"),
+                () -> g.V().out().as("x").in("knows").path(),
+                () -> g.V().outE().inV().out().in("likes").values("name"),
+                () -> g.V().repeat(out()).times(2).both().in().values("name"),
+                () -> g.V().out().out().groupCount().by("name"));
+        final List<Supplier<GraphTraversal<?, ?>>> computerTraversals = Arrays.asList(
+                () -> c1.V().out("knows").values("name"),
+                () -> c1.V().out().as("x").in("knows").path(),
+                () -> c1.V().outE().inV().out().in("likes").values("name"),
+                () -> c1.V().repeat(out()).times(2).both().in().values("name"),
+                () -> c1.V().out().out().groupCount().by("name"));
+        for (int i = 0; i < traversals.size(); i++) {
+            final List<String> expected = new ArrayList<>();
+            final List<String> actual = new ArrayList<>();
+            traversals.get(i).get().forEachRemaining(o -> expected.add(o.toString()));
+            computerTraversals.get(i).get().forEachRemaining(o -> actual.add(o.toString()));
+            Collections.sort(expected);
+            Collections.sort(actual);
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void shouldOnlyUseLocalMessageScopesIfSupportedByTheComputer() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final Traversal.Admin<?, ?> traversal = graph.traversal(GraphTraversalSource.computer()).V().out().values("name").asAdmin();
+        traversal.applyStrategies();
+
+        final TraversalVertexProgram globalProgram = TraversalVertexProgram.build().traversal(traversal).create(graph);
+        assertEquals(Collections.singleton(MessageScope.Global.instance()), globalProgram.getMessageScopes(null));
+        assertFalse(globalProgram.getFeatures().requiresLocalMessageScopes());
+
+        final TraversalVertexProgram localProgram = TraversalVertexProgram.build().traversal(traversal).localMessageScopes(true).create(graph);
+        assertEquals(2, localProgram.getMessageScopes(null).size());
+        assertTrue(localProgram.getFeatures().requiresLocalMessageScopes());
+
+        // each clone has its own local message scopes as they reference the steps of its traversal
+        final TraversalVertexProgram clone = localProgram.clone();
+        assertEquals(2, clone.getMessageScopes(null).size());
+        for (final MessageScope scope : clone.getMessageScopes(null)) {
+            if (scope instanceof MessageScope.Local)
+                assertTrue(localProgram.getMessageScopes(null).stream().noneMatch(s -> s == scope));
+        }
+    }
+
+    @Test
+    public void shouldShareLocalMessageScopesAmongWorkers() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final Traversal.Admin<?, ?> traversal = graph.traversal(GraphTraversalSource.computer()).V().out().in("created").values("name").asAdmin();
+        traversal.applyStrategies();
+        final TraversalVertexProgram program = TraversalVertexProgram.build().traversal(traversal).localMessageScopes(true).create(graph);
+
+        // each worker executes a clone of the program and the clones have one local message scope per vertex step
+        final Set<MessageScope> messageScopes = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            messageScopes.addAll(program.clone().getMessageScopes(null));
+        }
+        assertEquals(3, messageScopes.size());
+        assertEquals(program.getMessageScopes(null), messageScopes);
+    }
+
+    @Test
+    public void shouldQueryVertexCompositeIndices() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createCompositeIndex(Vertex.class, "person", "name", "age");
+        graph.createCompositeIndex(Vertex.class, null, "lang");
+        TinkerFactory.generateModern(graph);
+        final GraphTraversalSource g = graph.traversal();
+
+        assertEquals(new HashSet<>(Arrays.asList("person[age, name]", "[lang]")), graph.getCompositeIndices(Vertex.class));
+        assertEquals(Arrays.asList("marko"), g.V().hasLabel("person").has("name", "marko").has("age", 29).values("name").toList());
+        assertEquals(Arrays.asList("marko"), g.V().has("name", "marko").has("age", 29).values("name").toList());
+        assertEquals(0, g.V().hasLabel("person").has("name", "marko").has("age", 30).count().next().intValue());
+        assertEquals(new HashSet<>(Arrays.asList("lop", "ripple")), g.V().has("lang", "java").values("name").toSet());
+
+        g.V().has("name", "marko").property("age", 30).iterate();
+        assertEquals(0, g.V().hasLabel("person").has("name", "marko").has("age", 29).count().next().intValue());
+        assertEquals(Arrays.asList("marko"), g.V().hasLabel("person").has("name", "marko").has("age", 30).values("name").toList());
+        g.V().has("name", "marko").drop().iterate();
+        assertEquals(0, g.V().hasLabel("person").has("name", "marko").has("age", 30).count().next().intValue());
+
+        graph.dropCompositeIndex(Vertex.class, "person", "age", "name");
+        assertEquals(Collections.singleton("[lang]"), graph.getCompositeIndices(Vertex.class));
+        assertEquals(Arrays.asList("vadas"), g.V().hasLabel("person").has("name", "vadas").has("age", 27).values("name").toList());
+    }
+
+    @Test
+    public void shouldChooseMostSelectiveIndex() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createIndex("tenant", Vertex.class);
+        graph.createIndex("email", Vertex.class);
+        for (int i = 0; i < 100; i++) {
+            graph.addVertex(T.label, "user", "tenant", "acme", "email", "user" + i + "@acme.com");
+        }
+        final GraphTraversalSource g = graph.traversal();
+
+        assertEquals(100, TinkerHelper.countVertexIndex(graph, "tenant", "acme"));
+        assertEquals(1, TinkerHelper.countVertexIndex(graph, "email", "user7@acme.com"));
+        assertEquals(Arrays.asList("user7@acme.com"), g.V().has("tenant", "acme").has("email", "user7@acme.com").values("email").toList());
+        assertEquals(0, g.V().has("tenant", "acme").has("email", "nobody@acme.com").count().next().intValue());
+        assertNull(TinkerHelper.queryVertexCompositeIndex(graph, Collections.singletonMap("tenant", "acme")));
+
+        graph.createCompositeIndex(Vertex.class, "user", "tenant", "email");
+        assertNull(TinkerHelper.queryVertexCompositeIndex(graph, Collections.singletonMap("tenant", "acme")));
+        final Map<String, Object> equalities = new HashMap<>();
+        equalities.put(T.label.getAccessor(), "user");
+        equalities.put("tenant", "acme");
+        equalities.put("email", "user7@acme.com");
+        assertEquals(1, TinkerHelper.queryVertexCompositeIndex(graph, equalities).size());
+        assertEquals(Arrays.asList("user7@acme.com"), g.V().hasLabel("user").has("tenant", "acme").has("email", "user7@acme.com").values("email").toList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateCompositeIndexWithoutKeys() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createCompositeIndex(Vertex.class, "person");
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldNotCreateVertexIndexWithNullKey() {
         final TinkerGraph g = TinkerGraph.open();
@@ -337,6 +943,36 @@ public class TinkerGraphTest {
         }, 35)).has("name", "stephen").count().next());
     }
 
+    @Test
+    public void shouldUpdateVertexIndicesConcurrently() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.createIndex("group", Vertex.class);
+        final int threads = 8;
+        final int verticesPerThread = 1000;
+        final List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            writers.add(new Thread(() -> {
+                for (int j = 0; j < verticesPerThread; j++) {
+                    final Vertex v = graph.addVertex("group", j % 2);
+                    // the last vertex of each group is removed so that value sets are emptied and repopulated
+                    if (j >= verticesPerThread - 2) v.remove();
+                }
+            }));
+        }
+        writers.forEach(Thread::start);
+        for (final Thread writer : writers) {
+            writer.join();
+        }
+
+        final long expected = threads * (verticesPerThread - 2) / 2;
+        assertEquals(expected, TinkerHelper.countVertexIndex(graph, "group", 0));
+        assertEquals(expected, TinkerHelper.countVertexIndex(graph, "group", 1));
+
+        graph.vertices().forEachRemaining(Vertex::remove);
+        assertEquals(0, TinkerHelper.countVertexIndex(graph, "group", 0));
+        assertEquals(0, TinkerHelper.countVertexIndex(graph, "group", 1));
+    }
+
     @Ignore
     @Test
     public void shouldUpdateVertexIndicesInExistingGraph() {
@@ -443,5 +1079,24 @@ public class TinkerGraphTest {
         }, 0.5)).has("oid", "1").count().next());
     }
 
+    /**
+     * A value that is not {@code Comparable} and that shares its hash code with every other instance.
+     */
+    private static final class SameHashCode {
+        private final String value;
 
+        private SameHashCode(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof SameHashCode && ((SameHashCode) other).value.equals(this.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
 }